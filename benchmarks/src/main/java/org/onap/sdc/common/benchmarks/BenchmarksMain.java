@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jmh.Main;
+
+/**
+ * Runs the benchmarks as the JMH main does, writing the results in json by default, to jmh-result.json unless
+ * {@code -rff} is given, so that the results of releases can be compared. {@code -rf} picks another result format.
+ */
+public class BenchmarksMain {
+
+    private static final String RESULT_FORMAT_OPTION = "-rf";
+
+    private BenchmarksMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<String> options = new ArrayList<>(Arrays.asList(args));
+        if (!options.contains(RESULT_FORMAT_OPTION)) {
+            options.add(0, RESULT_FORMAT_OPTION);
+            options.add(1, "json");
+        }
+        Main.main(options.toArray(new String[0]));
+    }
+}
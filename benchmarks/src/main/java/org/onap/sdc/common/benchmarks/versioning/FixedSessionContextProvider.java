@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.benchmarks.versioning;
+
+import org.onap.sdc.common.session.SessionContext;
+import org.onap.sdc.common.session.SessionContextProvider;
+
+/**
+ * Session of a single user, so that the benchmarks do not pay for the thread local session of the services.
+ */
+class FixedSessionContextProvider implements SessionContextProvider {
+
+    private static final SessionContext CONTEXT = new SessionContext() {
+        @Override
+        public String getUserId() {
+            return "user";
+        }
+
+        @Override
+        public String getTenant() {
+            return "dox";
+        }
+    };
+
+    @Override
+    public void create(String user, String tenant) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SessionContext get() {
+        return CONTEXT;
+    }
+
+    @Override
+    public void close() {
+        // nothing to close
+    }
+}
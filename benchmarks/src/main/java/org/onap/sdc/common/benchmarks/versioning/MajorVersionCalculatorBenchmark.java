@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.benchmarks.versioning;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
+import org.onap.sdc.common.versioning.services.impl.MajorVersionCalculatorImpl;
+import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the major version calculator on the versions of an item: calculating the name of a new version, and
+ * injecting the optional creation methods into a single version or into the whole listing, as listing the versions
+ * does. All the versions but the last are certified.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MajorVersionCalculatorBenchmark {
+
+    @Param({"1", "50"})
+    private int versionsCount;
+
+    private MajorVersionCalculatorImpl calculator;
+    private List<InternalVersion> versions;
+    private Set<String> versionNames;
+    private InternalVersion firstVersion;
+    private String lastVersionName;
+
+    @Setup
+    public void setUp() {
+        calculator = new MajorVersionCalculatorImpl();
+        versions = new ArrayList<>(versionsCount);
+        versionNames = new HashSet<>();
+        String versionName = null;
+        for (int i = 0; i < versionsCount; i++) {
+            versionName = calculator.calculate(versionName, VersionCreationMethod.major);
+            InternalVersion version = new InternalVersion();
+            version.setName(versionName);
+            version.setStatus(i < versionsCount - 1 ? VersionStatus.Certified : VersionStatus.Draft);
+            versions.add(version);
+            versionNames.add(versionName);
+        }
+        firstVersion = versions.get(0);
+        lastVersionName = versionName;
+    }
+
+    @Benchmark
+    public String calculate() {
+        return calculator.calculate(lastVersionName, VersionCreationMethod.major);
+    }
+
+    @Benchmark
+    public InternalVersion injectAdditionalInfo() {
+        calculator.injectAdditionalInfo(firstVersion, versionNames);
+        return firstVersion;
+    }
+
+    @Benchmark
+    public List<InternalVersion> injectAdditionalInfoOfListing() {
+        calculator.injectAdditionalInfo(versions);
+        return versions;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.benchmarks.versioning;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.onap.sdc.common.versioning.services.types.CompactProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the hash map holding the properties of an item with the compact properties: building each of them, whose
+ * normalized allocation (run with {@code -prof gc}) is the footprint of the held properties, and looking a property
+ * up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesFootprintBenchmark {
+
+    @Param({"4", "16"})
+    private int propertiesCount;
+
+    private Map<String, Object> source;
+    private Map<String, Object> hashMapProperties;
+    private CompactProperties compactProperties;
+    private String lastKey;
+
+    @Setup
+    public void setUp() {
+        source = new LinkedHashMap<>();
+        for (int i = 0; i < propertiesCount; i++) {
+            Object value = i % 3 == 0 ? "value" + i : i % 3 == 1 ? Integer.valueOf(i) : Boolean.valueOf(i % 2 == 0);
+            source.put("property" + i, value);
+        }
+        hashMapProperties = hashMapProperties();
+        compactProperties = compactProperties();
+        // a key instance of its own, as given by a caller
+        lastKey = new String("property" + (propertiesCount - 1));
+    }
+
+    @Benchmark
+    public Map<String, Object> hashMapProperties() {
+        // filled property by property, as the items and versions fill them
+        Map<String, Object> properties = new HashMap<>();
+        source.forEach(properties::put);
+        return properties;
+    }
+
+    @Benchmark
+    public CompactProperties compactProperties() {
+        return new CompactProperties(source);
+    }
+
+    @Benchmark
+    public Object hashMapLookup() {
+        return hashMapProperties.get(lastKey);
+    }
+
+    @Benchmark
+    public Object compactLookup() {
+        return compactProperties.get(lastKey);
+    }
+}
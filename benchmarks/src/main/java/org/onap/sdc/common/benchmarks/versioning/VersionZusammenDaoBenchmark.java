@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.benchmarks.versioning;
+
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.ItemVersion;
+import com.amdocs.zusammen.datatypes.item.ItemVersionData;
+import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
+import com.amdocs.zusammen.datatypes.item.SynchronizationStatus;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
+import org.onap.sdc.common.versioning.persistence.zusammen.VersionZusammenDao;
+import org.onap.sdc.common.versioning.persistence.zusammen.ZusammenSessionContextCreator;
+import org.onap.sdc.common.zusammen.services.ZusammenAdaptor;
+import org.onap.sdc.common.zusammen.services.impl.AsyncZusammenAdaptorImpl;
+import org.onap.sdc.common.zusammen.services.impl.ZusammenAsyncExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a version with its state through sequential zusammen calls and through concurrent ones. Every
+ * zusammen call of the stub adaptor waits for the given backend latency, so with a latency set the numbers show the
+ * round trips saved, and without it they show the cost of handing the calls to the async executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionZusammenDaoBenchmark {
+
+    @Param({"true", "false"})
+    private boolean concurrentGet;
+
+    @Param({"UP_TO_DATE", "OUT_OF_SYNC"})
+    private SynchronizationStatus synchronizationStatus;
+
+    @Param({"0", "500"})
+    private long backendLatencyMicros;
+
+    private ZusammenAsyncExecutor asyncExecutor;
+    private VersionZusammenDao versionDao;
+
+    @Setup
+    public void setUp() {
+        ZusammenAdaptor zusammenAdaptor = stubZusammenAdaptor(synchronizationStatus,
+                TimeUnit.MICROSECONDS.toNanos(backendLatencyMicros));
+        asyncExecutor = new ZusammenAsyncExecutor(8, 100);
+        versionDao = new VersionZusammenDao(new ZusammenSessionContextCreator(new FixedSessionContextProvider()),
+                zusammenAdaptor, new AsyncZusammenAdaptorImpl(zusammenAdaptor, asyncExecutor), concurrentGet, 8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        asyncExecutor.shutdown();
+    }
+
+    @Benchmark
+    public Optional<InternalVersion> get() {
+        return versionDao.get("itemId", "versionId");
+    }
+
+    private static ZusammenAdaptor stubZusammenAdaptor(SynchronizationStatus synchronizationStatus,
+            long latencyNanos) {
+        ItemVersionStatus versionStatus = new ItemVersionStatus(synchronizationStatus, false);
+        return (ZusammenAdaptor) Proxy.newProxyInstance(ZusammenAdaptor.class.getClassLoader(),
+                new Class<?>[] {ZusammenAdaptor.class}, (proxy, method, args) -> {
+                    if (latencyNanos > 0) {
+                        LockSupport.parkNanos(latencyNanos);
+                    }
+                    switch (method.getName()) {
+                        case "getVersion":
+                            return createVersion("Draft");
+                        case "getPublicVersion":
+                            return createVersion("Certified");
+                        case "getVersionStatus":
+                            return versionStatus;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static ItemVersion createVersion(String status) {
+        Info info = new Info();
+        info.setName("1.0");
+        info.addProperty("status", status);
+        ItemVersionData data = new ItemVersionData();
+        data.setInfo(info);
+        ItemVersion version = new ItemVersion();
+        version.setId(new Id("versionId"));
+        version.setData(data);
+        return version;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.benchmarks.versioning;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.onap.sdc.common.session.SessionContextProvider;
+import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+import org.onap.sdc.common.versioning.persistence.zusammen.ItemZusammenDao;
+import org.onap.sdc.common.versioning.persistence.zusammen.VersionZusammenDao;
+import org.onap.sdc.common.versioning.persistence.zusammen.ZusammenSessionContextCreator;
+import org.onap.sdc.common.versioning.services.VersioningMetrics;
+import org.onap.sdc.common.versioning.services.impl.ItemLocks;
+import org.onap.sdc.common.versioning.services.impl.MajorVersionCalculatorImpl;
+import org.onap.sdc.common.versioning.services.impl.VersionCalculatorRegistry;
+import org.onap.sdc.common.versioning.services.impl.VersionPublishPipeline;
+import org.onap.sdc.common.versioning.services.impl.VersionSyncScheduler;
+import org.onap.sdc.common.versioning.services.impl.VersioningManagerImpl;
+import org.onap.sdc.common.versioning.services.types.Version;
+import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
+import org.onap.sdc.common.zusammen.persistence.impl.ZusammenConnectorImpl;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenAdaptorsConfig;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore;
+import org.onap.sdc.common.zusammen.services.impl.AsyncZusammenAdaptorImpl;
+import org.onap.sdc.common.zusammen.services.impl.ZusammenAdaptorImpl;
+import org.onap.sdc.common.zusammen.services.impl.ZusammenAsyncExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the versioning manager operations through the whole stack, down to an in-process zusammen whose calls
+ * wait for the given backend latency. The item is set up with the given number of versions, each created from the
+ * previous one once certified. The stack is rebuilt on every iteration, so that the versions and revisions created
+ * by the benchmarks do not pile up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersioningManagerBenchmark {
+
+    @Param({"1", "20"})
+    private int versionsCount;
+
+    @Param({"0", "100"})
+    private long backendLatencyMicros;
+
+    private ZusammenConnectorImpl connector;
+    private ZusammenAdaptorImpl zusammenAdaptor;
+    private ZusammenAsyncExecutor asyncExecutor;
+    private VersionPublishPipeline publishPipeline;
+    private VersionSyncScheduler syncScheduler;
+    private ItemZusammenDao itemDao;
+    private VersioningManagerImpl versioningManager;
+    private String itemId;
+    private String lastVersionId;
+    private boolean lastVersionCertified;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        LocalZusammenStore store = new LocalZusammenStore(backendLatencyMicros, backendLatencyMicros);
+        connector = new ZusammenConnectorImpl(LocalZusammenAdaptorsConfig.itemAdaptorFactoryOf(store),
+                LocalZusammenAdaptorsConfig.itemVersionAdaptorFactoryOf(store),
+                LocalZusammenAdaptorsConfig.elementAdaptorFactoryOf(store),
+                LocalZusammenAdaptorsConfig.healthAdaptorFactoryOf(), 4, 20, true);
+        zusammenAdaptor = new ZusammenAdaptorImpl(connector, 1000, 100, 10, 4);
+        asyncExecutor = new ZusammenAsyncExecutor(8, 100);
+        SessionContextProvider sessionContextProvider = new FixedSessionContextProvider();
+        ZusammenSessionContextCreator contextCreator = new ZusammenSessionContextCreator(sessionContextProvider);
+        itemDao = new ItemZusammenDao(contextCreator, zusammenAdaptor, 10000, 60, false);
+        VersionZusammenDao versionDao = new VersionZusammenDao(contextCreator, zusammenAdaptor,
+                new AsyncZusammenAdaptorImpl(zusammenAdaptor, asyncExecutor), true, 8);
+        publishPipeline = new VersionPublishPipeline(sessionContextProvider, VersioningMetrics.NONE,
+                false, 1, 1, 0);
+        syncScheduler = new VersionSyncScheduler(sessionContextProvider, false, 1);
+        versioningManager = new VersioningManagerImpl(versionDao,
+                new VersionCalculatorRegistry(Collections.singletonList(new MajorVersionCalculatorImpl()),
+                        MajorVersionCalculatorImpl.SCHEME, ""),
+                itemDao, publishPipeline, new ItemLocks(64), syncScheduler, 10000, 60);
+
+        itemId = createItem();
+        lastVersionId = null;
+        for (int i = 0; i < versionsCount; i++) {
+            if (lastVersionId != null) {
+                versioningManager.updateStatus(itemId, lastVersionId, VersionStatus.Certified, "certify");
+            }
+            lastVersionId = versioningManager.create(itemId, lastVersionId, new Version(),
+                    VersionCreationMethod.major).getId();
+        }
+        lastVersionCertified = false;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        syncScheduler.shutdown();
+        publishPipeline.shutdown();
+        asyncExecutor.shutdown();
+        zusammenAdaptor.shutdown();
+        connector.shutdown();
+    }
+
+    @Benchmark
+    public List<Version> list() {
+        return versioningManager.list(itemId);
+    }
+
+    @Benchmark
+    public Version get() {
+        return versioningManager.get(itemId, lastVersionId);
+    }
+
+    /**
+     * Creates the first version of a new item, since the versions of an item have unique names.
+     */
+    @Benchmark
+    public Version create() {
+        return versioningManager.create(createItem(), null, new Version(), VersionCreationMethod.major);
+    }
+
+    /**
+     * Certifies the last version, or takes it back to draft when certified by the previous call.
+     */
+    @Benchmark
+    public void updateStatus() {
+        lastVersionCertified = !lastVersionCertified;
+        versioningManager.updateStatus(itemId, lastVersionId,
+                lastVersionCertified ? VersionStatus.Certified : VersionStatus.Draft, "update status");
+    }
+
+    private String createItem() {
+        InternalItem item = new InternalItem();
+        item.setType("vsp");
+        item.setName("item");
+        return itemDao.create(item).getId();
+    }
+}
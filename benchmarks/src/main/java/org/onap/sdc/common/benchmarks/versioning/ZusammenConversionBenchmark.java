@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.benchmarks.versioning;
+
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.Item;
+import com.amdocs.zusammen.datatypes.item.ItemVersion;
+import com.amdocs.zusammen.datatypes.item.ItemVersionData;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
+import org.onap.sdc.common.versioning.persistence.zusammen.ItemZusammenDao;
+import org.onap.sdc.common.versioning.persistence.zusammen.VersionZusammenDao;
+import org.onap.sdc.common.versioning.persistence.zusammen.ZusammenSessionContextCreator;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
+import org.onap.sdc.common.zusammen.services.ZusammenAdaptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the conversions of the zusammen daos between the zusammen types and the versioning ones. The zusammen
+ * adaptor is a stub returning prepared listings, so the numbers are the conversions only: listing the versions converts
+ * each of them from zusammen, updating a version converts it to zusammen, and listing the items converts each of them
+ * from zusammen. The listed fields are converted when first read, the reading variants show the cost of reading
+ * them all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZusammenConversionBenchmark {
+
+    @Param({"1", "50"})
+    private int listingSize;
+
+    // in addition to the ones the daos set
+    @Param({"0", "10"})
+    private int propertiesCount;
+
+    private VersionZusammenDao versionDao;
+    private ItemZusammenDao itemDao;
+    private InternalVersion version;
+
+    @Setup
+    public void setUp() {
+        List<ItemVersion> versions = new ArrayList<>(listingSize);
+        List<Item> items = new ArrayList<>(listingSize);
+        for (int i = 0; i < listingSize; i++) {
+            versions.add(createVersion(i));
+            items.add(createItem(i));
+        }
+        ZusammenAdaptor zusammenAdaptor = stubZusammenAdaptor(versions, items);
+        ZusammenSessionContextCreator contextCreator =
+                new ZusammenSessionContextCreator(new FixedSessionContextProvider());
+        versionDao = new VersionZusammenDao(contextCreator, zusammenAdaptor, null, false, 1);
+        itemDao = new ItemZusammenDao(contextCreator, zusammenAdaptor, 0, 0, false);
+
+        version = new InternalVersion();
+        version.setId("versionId");
+        version.setName("1.0");
+        version.setDescription("description");
+        version.setStatus(VersionStatus.Certified);
+        for (int i = 0; i < propertiesCount; i++) {
+            version.addProperty("property" + i, "value" + i);
+        }
+    }
+
+    @Benchmark
+    public Collection<InternalVersion> listVersions() {
+        return versionDao.list("itemId");
+    }
+
+    @Benchmark
+    public void listVersionsReadingAllFields(Blackhole blackhole) {
+        for (InternalVersion listedVersion : versionDao.list("itemId")) {
+            blackhole.consume(listedVersion.getStatus());
+            blackhole.consume(listedVersion.getProperties());
+        }
+    }
+
+    @Benchmark
+    public InternalVersion updateVersion() {
+        versionDao.update("itemId", version);
+        return version;
+    }
+
+    @Benchmark
+    public Collection<InternalItem> listItems() {
+        return itemDao.list();
+    }
+
+    @Benchmark
+    public void listItemsReadingAllFields(Blackhole blackhole) {
+        for (InternalItem item : itemDao.list()) {
+            blackhole.consume(item.getType());
+            blackhole.consume(item.getOwner());
+            blackhole.consume(item.getStatus());
+            blackhole.consume(item.getVersionStatusCounters());
+            blackhole.consume(item.getProperties());
+        }
+    }
+
+    private ItemVersion createVersion(int index) {
+        Info info = createInfo(index + ".0");
+        info.addProperty("status", VersionStatus.Certified.name());
+        ItemVersionData data = new ItemVersionData();
+        data.setInfo(info);
+        ItemVersion itemVersion = new ItemVersion();
+        itemVersion.setId(new Id("version" + index));
+        itemVersion.setBaseId(index == 0 ? null : new Id("version" + (index - 1)));
+        itemVersion.setData(data);
+        itemVersion.setCreationTime(new Date());
+        itemVersion.setModificationTime(new Date());
+        return itemVersion;
+    }
+
+    private Item createItem(int index) {
+        Info info = createInfo("item" + index);
+        info.addProperty("item_type", "vsp");
+        info.addProperty("Owner", "user");
+        info.addProperty("status", "ACTIVE");
+        // as read from zusammen, which keeps the counters in json
+        Map<String, Number> versionStatusCounters = new LinkedHashMap<>();
+        versionStatusCounters.put(VersionStatus.Draft.name(), 1.0);
+        versionStatusCounters.put(VersionStatus.Certified.name(), 2.0);
+        info.addProperty("item_versions_statuses", versionStatusCounters);
+        Item item = new Item();
+        item.setId(new Id("item" + index));
+        item.setInfo(info);
+        item.setCreationTime(new Date());
+        item.setModificationTime(new Date());
+        return item;
+    }
+
+    private Info createInfo(String name) {
+        Info info = new Info();
+        info.setName(name);
+        info.setDescription("description");
+        for (int i = 0; i < propertiesCount; i++) {
+            info.addProperty("property" + i, "value" + i);
+        }
+        return info;
+    }
+
+    private static ZusammenAdaptor stubZusammenAdaptor(Collection<ItemVersion> versions, Collection<Item> items) {
+        return (ZusammenAdaptor) Proxy.newProxyInstance(ZusammenAdaptor.class.getClassLoader(),
+                new Class<?>[] {ZusammenAdaptor.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "listPublicVersions":
+                            return versions;
+                        case "listItems":
+                            return items;
+                        case "updateVersion":
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
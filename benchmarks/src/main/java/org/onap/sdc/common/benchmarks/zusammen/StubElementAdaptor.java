@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.benchmarks.zusammen;
+
+import com.amdocs.zusammen.adaptor.inbound.api.item.ElementAdaptor;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementConflict;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import com.amdocs.zusammen.datatypes.item.Resolution;
+import com.amdocs.zusammen.datatypes.response.Response;
+import com.amdocs.zusammen.datatypes.searchindex.SearchCriteria;
+import com.amdocs.zusammen.datatypes.searchindex.SearchResult;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * In memory element adaptor answering every call with the same successful response.
+ */
+class StubElementAdaptor implements ElementAdaptor {
+
+    private static final Response<ElementInfo> ELEMENT_INFO = new Response<>(new ElementInfo());
+    private static final Response<Collection<ElementInfo>> ELEMENT_INFOS =
+            new Response<>(Collections.singletonList(new ElementInfo()));
+    private static final Response<Element> ELEMENT = new Response<>(new ZusammenElement());
+    private static final Response<ElementConflict> NO_CONFLICT = new Response<>((ElementConflict) null);
+    private static final Response<Void> VOID = new Response<>((Void) null);
+    private static final Response<SearchResult> NO_SEARCH_RESULT = new Response<>((SearchResult) null);
+
+    @Override
+    public Response<Collection<ElementInfo>> list(SessionContext context, ElementContext elementContext,
+            Id parentElementId) {
+        return ELEMENT_INFOS;
+    }
+
+    @Override
+    public Response<ElementInfo> getInfo(SessionContext context, ElementContext elementContext, Id elementId) {
+        return ELEMENT_INFO;
+    }
+
+    @Override
+    public Response<Element> get(SessionContext context, ElementContext elementContext, Id elementId) {
+        return ELEMENT;
+    }
+
+    @Override
+    public Response<ElementConflict> getConflict(SessionContext context, ElementContext elementContext,
+            Id elementId) {
+        return NO_CONFLICT;
+    }
+
+    @Override
+    public Response<Element> save(SessionContext context, ElementContext elementContext, Element element,
+            String message) {
+        return ELEMENT;
+    }
+
+    @Override
+    public Response<Void> resolveConflict(SessionContext context, ElementContext elementContext, Element element,
+            Resolution resolution) {
+        return VOID;
+    }
+
+    @Override
+    public Response<SearchResult> search(SessionContext context, SearchCriteria searchCriteria) {
+        return NO_SEARCH_RESULT;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.benchmarks.zusammen;
+
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemAdaptor;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.Item;
+import com.amdocs.zusammen.datatypes.response.Response;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * In memory item adaptor answering every call with the same successful response.
+ */
+class StubItemAdaptor implements ItemAdaptor {
+
+    private static final Response<Item> ITEM = new Response<>(new Item());
+    private static final Response<Collection<Item>> ITEMS = new Response<>(Collections.singletonList(new Item()));
+    private static final Response<Id> ID = new Response<>(new Id());
+    private static final Response<Void> VOID = new Response<>((Void) null);
+
+    @Override
+    public Response<Collection<Item>> list(SessionContext context) {
+        return ITEMS;
+    }
+
+    @Override
+    public Response<Item> get(SessionContext context, Id itemId) {
+        return ITEM;
+    }
+
+    @Override
+    public Response<Id> create(SessionContext context, Info info) {
+        return ID;
+    }
+
+    @Override
+    public Response<Id> create(SessionContext context, Id itemId, Info info) {
+        return ID;
+    }
+
+    @Override
+    public Response<Void> update(SessionContext context, Id itemId, Info info) {
+        return VOID;
+    }
+
+    @Override
+    public Response<Void> delete(SessionContext context, Id itemId) {
+        return VOID;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.benchmarks.zusammen;
+
+import com.amdocs.zusammen.adaptor.inbound.api.health.HealthAdaptor;
+import com.amdocs.zusammen.adaptor.inbound.api.health.HealthAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ElementAdaptor;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ElementAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemAdaptor;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemVersionAdaptor;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemVersionAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.UserInfo;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import com.amdocs.zusammen.datatypes.item.Item;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.onap.sdc.common.zusammen.persistence.impl.ZusammenConnectorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost the connector adds around a zusammen adaptor call, with and without caching the resolved
+ * adaptors. The adaptors are in memory stubs, so the numbers are the connector overhead only. Run with
+ * {@code -prof gc} to get the allocation rate per call, which is expected to be zero for a successful call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZusammenConnectorBenchmark {
+
+    @Param({"true", "false"})
+    private boolean adaptorsCacheEnabled;
+
+    /**
+     * singleton - the factory returns the same adaptor, as the bundled zusammen factories do.
+     * allocating - the factory builds an adaptor per call, as tenant aware factories would.
+     */
+    @Param({"singleton", "allocating"})
+    private String factoryFlavour;
+
+    private ZusammenConnectorImpl connector;
+    private SessionContext context;
+    private ElementContext elementContext;
+    private Id itemId;
+    private Id elementId;
+
+    @Setup
+    public void setUp() {
+        boolean allocating = "allocating".equals(factoryFlavour);
+        connector = new ZusammenConnectorImpl(new StubItemAdaptorFactory(allocating),
+                new NoItemVersionAdaptorFactory(), new StubElementAdaptorFactory(allocating),
+                new NoHealthAdaptorFactory(), 1, 20, adaptorsCacheEnabled);
+        context = new SessionContext();
+        context.setTenant("dox");
+        context.setUser(new UserInfo("user"));
+        elementContext = new ElementContext(new Id(), new Id());
+        itemId = new Id();
+        elementId = new Id();
+    }
+
+    @TearDown
+    public void tearDown() {
+        connector.shutdown();
+    }
+
+    @Benchmark
+    public Item getItem() {
+        return connector.getItem(context, itemId);
+    }
+
+    @Benchmark
+    public ElementInfo getElementInfo() {
+        return connector.getElementInfo(context, elementContext, elementId);
+    }
+
+    @Benchmark
+    public Collection<ElementInfo> listElements() {
+        return connector.listElements(context, elementContext, elementId);
+    }
+
+    private static class StubItemAdaptorFactory extends ItemAdaptorFactory {
+
+        private final boolean allocating;
+        private final ItemAdaptor adaptor = new StubItemAdaptor();
+
+        private StubItemAdaptorFactory(boolean allocating) {
+            this.allocating = allocating;
+        }
+
+        @Override
+        public ItemAdaptor createInterface(SessionContext context) {
+            return allocating ? new StubItemAdaptor() : adaptor;
+        }
+    }
+
+    private static class StubElementAdaptorFactory extends ElementAdaptorFactory {
+
+        private final boolean allocating;
+        private final ElementAdaptor adaptor = new StubElementAdaptor();
+
+        private StubElementAdaptorFactory(boolean allocating) {
+            this.allocating = allocating;
+        }
+
+        @Override
+        public ElementAdaptor createInterface(SessionContext context) {
+            return allocating ? new StubElementAdaptor() : adaptor;
+        }
+    }
+
+    private static class NoItemVersionAdaptorFactory extends ItemVersionAdaptorFactory {
+
+        @Override
+        public ItemVersionAdaptor createInterface(SessionContext context) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class NoHealthAdaptorFactory extends HealthAdaptorFactory {
+
+        @Override
+        public HealthAdaptor createInterface(SessionContext context) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
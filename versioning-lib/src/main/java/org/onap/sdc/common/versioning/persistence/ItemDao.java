@@ -17,14 +17,33 @@
 package org.onap.sdc.common.versioning.persistence;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+import org.onap.sdc.common.versioning.services.types.ItemFilter;
 
 public interface ItemDao {
 
     Collection<InternalItem> list();
 
+    /**
+     * Lists the items matching the filter lazily: items are converted only as the stream is consumed, and items not
+     * matching the filter are skipped before they are converted. The default filters the whole listing instead, for
+     * persistences that cannot do better.
+     */
+    default Stream<InternalItem> list(ItemFilter filter) {
+        return filter.isAll() ? list().stream() : list().stream().filter(filter::matches);
+    }
+
     InternalItem get(String itemId);
 
+    /**
+     * Gets the item to modify and write back as a whole, as persisted rather than as cached by a persistence that
+     * caches its reads, so that the writes of other nodes are not overwritten with a stale copy.
+     */
+    default InternalItem getForUpdate(String itemId) {
+        return get(itemId);
+    }
+
     InternalItem create(InternalItem item);
 
     void update(InternalItem item);
@@ -16,8 +16,15 @@
 
 package org.onap.sdc.common.versioning.persistence;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
 import org.onap.sdc.common.versioning.services.types.Revision;
 
@@ -25,12 +32,37 @@ public interface VersionDao {
 
     List<InternalVersion> list(String itemId);
 
+    /**
+     * Lists the versions of each of the given items, by item id. Each item listing completes, or fails, on its own.
+     */
+    default Map<String, CompletableFuture<List<InternalVersion>>> listAll(Collection<String> itemIds) {
+        Map<String, CompletableFuture<List<InternalVersion>>> versions = new LinkedHashMap<>();
+        for (String itemId : itemIds) {
+            CompletableFuture<List<InternalVersion>> itemVersions = new CompletableFuture<>();
+            try {
+                itemVersions.complete(list(itemId));
+            } catch (RuntimeException e) {
+                itemVersions.completeExceptionally(e);
+            }
+            versions.put(itemId, itemVersions);
+        }
+        return versions;
+    }
+
     InternalVersion create(String itemId, InternalVersion version);
 
     void update(String itemId, InternalVersion version);
 
     Optional<InternalVersion> get(String itemId, String versionId);
 
+    /**
+     * Gets the public snapshot of a version, regardless of its private copy, with an out of sync state. Empty when the
+     * version was never published, or when the dao cannot read public versions.
+     */
+    default Optional<InternalVersion> getPublic(String itemId, String versionId) {
+        return Optional.empty();
+    }
+
     void delete(String itemId, String versionId);
 
     void publish(String itemId, String versionId, String message);
@@ -44,4 +76,19 @@ public interface VersionDao {
     void revert(String itemId, String versionId, String revisionId);
 
     List<Revision> listRevisions(String itemId, String versionId);
+
+    /**
+     * Lists a page of the revisions of a version, newest first and then by descending id: at most limit revisions
+     * after the given cursor in this order, or the latest ones when the cursor time is null. The cursor of the next
+     * page is the time and id of the last revision of a page. Without an id, the revisions of the cursor time are
+     * skipped.
+     */
+    default List<Revision> listRevisions(String itemId, String versionId, Date before, String beforeRevisionId,
+            int limit) {
+        Predicate<Revision> afterCursor = revision -> before == null || revision.getTime().before(before)
+                || (revision.getTime().equals(before) && beforeRevisionId != null
+                            && revision.getId().compareTo(beforeRevisionId) < 0);
+        return listRevisions(itemId, versionId).stream().filter(afterCursor).sorted(Revision.NEWEST_FIRST)
+                       .limit(limit).collect(Collectors.toList());
+    }
 }
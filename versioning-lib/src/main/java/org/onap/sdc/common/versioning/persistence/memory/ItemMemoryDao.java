@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence.memory;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.onap.sdc.common.session.SessionContextProvider;
+import org.onap.sdc.common.versioning.persistence.ItemDao;
+import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+import org.onap.sdc.common.versioning.services.exceptions.VersioningException;
+import org.onap.sdc.common.versioning.services.types.ItemFilter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Keeps the items in memory, per tenant, for running the versioning services without zusammen (locally, in load
+ * tests). Items are stored and returned as copies, so that the stored items only change through the dao.
+ */
+@Repository
+@Profile("versioning-in-memory")
+public class ItemMemoryDao implements ItemDao {
+
+    private final SessionContextProvider sessionContextProvider;
+    private final ConcurrentMap<String, ConcurrentMap<String, InternalItem>> itemsByTenant = new ConcurrentHashMap<>();
+
+    public ItemMemoryDao(SessionContextProvider sessionContextProvider) {
+        this.sessionContextProvider = sessionContextProvider;
+    }
+
+    @Override
+    public Collection<InternalItem> list() {
+        return getItems().values().stream().map(InternalItem::copy).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<InternalItem> list(ItemFilter filter) {
+        Stream<InternalItem> items = getItems().values().stream();
+        if (!filter.isAll()) {
+            items = items.filter(filter::matches);
+        }
+        return items.map(InternalItem::copy);
+    }
+
+    @Override
+    public InternalItem get(String itemId) {
+        InternalItem item = getItems().get(itemId);
+        return item == null ? null : item.copy();
+    }
+
+    @Override
+    public InternalItem create(InternalItem item) {
+        if (item.getId() == null) {
+            item.setId(UUID.randomUUID().toString());
+        }
+        InternalItem storedItem = item.copy();
+        Date now = new Date();
+        storedItem.setCreationTime(now);
+        storedItem.setModificationTime(now);
+        if (getItems().putIfAbsent(item.getId(), storedItem) != null) {
+            throw new VersioningException(String.format("Item with Id %s already exists", item.getId()));
+        }
+        return item;
+    }
+
+    @Override
+    public void update(InternalItem item) {
+        InternalItem updatedItem = getItems().computeIfPresent(item.getId(), (itemId, storedItem) -> {
+            InternalItem newItem = item.copy();
+            newItem.setCreationTime(storedItem.getCreationTime());
+            newItem.setModificationTime(new Date());
+            return newItem;
+        });
+        if (updatedItem == null) {
+            throw new VersioningException(String.format("Item with Id %s does not exist", item.getId()));
+        }
+    }
+
+    @Override
+    public void delete(String itemId) {
+        getItems().remove(itemId);
+    }
+
+    private ConcurrentMap<String, InternalItem> getItems() {
+        return itemsByTenant.computeIfAbsent(sessionContextProvider.get().getTenant(),
+                tenant -> new ConcurrentHashMap<>());
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import org.onap.sdc.common.session.SessionContext;
+import org.onap.sdc.common.session.SessionContextProvider;
+import org.onap.sdc.common.versioning.persistence.VersionDao;
+import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
+import org.onap.sdc.common.versioning.services.exceptions.VersioningException;
+import org.onap.sdc.common.versioning.services.types.Revision;
+import org.onap.sdc.common.versioning.services.types.SynchronizationState;
+import org.onap.sdc.common.versioning.services.types.VersionState;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Keeps the versions in memory, for running the versioning services without zusammen (locally, in load tests). As in
+ * zusammen, each user works on a private copy of a version: it is created or changed privately, publishing it makes
+ * its content public as a new revision, and syncing it brings the public content into the private copy. A private
+ * copy changed while the public version moved on is left merging by a sync, until it is force synced. The versions of
+ * an item are guarded by a lock of their own, so operations on different items run concurrently.
+ */
+@Repository
+@Profile("versioning-in-memory")
+public class VersionMemoryDao implements VersionDao {
+
+    private final SessionContextProvider sessionContextProvider;
+    // by tenant and item id
+    private final ConcurrentMap<List<String>, ItemVersions> itemVersions = new ConcurrentHashMap<>();
+
+    public VersionMemoryDao(SessionContextProvider sessionContextProvider) {
+        this.sessionContextProvider = sessionContextProvider;
+    }
+
+    @Override
+    public List<InternalVersion> list(String itemId) {
+        return read(itemId, (versions, user) -> versions.publicVersions.values().stream()
+                                                        .map(publicVersion -> publicVersion.content.copy())
+                                                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public InternalVersion create(String itemId, InternalVersion version) {
+        return write(itemId, (versions, user) -> {
+            if (version.getId() == null) {
+                version.setId(UUID.randomUUID().toString());
+            } else if (versions.publicVersions.containsKey(version.getId())
+                               || versions.getPrivateVersion(user, version.getId()) != null) {
+                throw new VersioningException(
+                        String.format("Item %s: version %s already exists", itemId, version.getId()));
+            }
+            InternalVersion content = version.copy();
+            content.setState(null);
+            Date now = new Date();
+            content.setCreationTime(now);
+            content.setModificationTime(now);
+            versions.privateVersionsByUser.computeIfAbsent(user, u -> new HashMap<>())
+                    .put(version.getId(), new PrivateVersion(content, 0, true));
+            return version;
+        });
+    }
+
+    @Override
+    public void update(String itemId, InternalVersion version) {
+        write(itemId, (versions, user) -> {
+            PrivateVersion privateVersion = getExistingPrivateVersion(versions, user, itemId, version.getId());
+            InternalVersion content = version.copy();
+            content.setBaseId(privateVersion.content.getBaseId());
+            content.setState(null);
+            content.setCreationTime(privateVersion.content.getCreationTime());
+            content.setModificationTime(new Date());
+            privateVersion.content = content;
+            privateVersion.dirty = true;
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<InternalVersion> get(String itemId, String versionId) {
+        return read(itemId, (versions, user) -> {
+            PrivateVersion privateVersion = versions.getPrivateVersion(user, versionId);
+            if (privateVersion == null) {
+                return Optional.empty();
+            }
+            PublicVersion publicVersion = versions.publicVersions.get(versionId);
+            VersionState state = new VersionState();
+            state.setSynchronizationState(privateVersion.getSynchronizationState(publicVersion));
+            state.setDirty(privateVersion.dirty);
+            InternalVersion version = privateVersion.content.copy();
+            if (state.getSynchronizationState() != SynchronizationState.UpToDate && publicVersion != null) {
+                // as the zusammen dao does, the status of a version out of sync is the public one
+                version.setStatus(publicVersion.content.getStatus());
+            }
+            version.setState(state);
+            return Optional.of(version);
+        });
+    }
+
+    @Override
+    public Optional<InternalVersion> getPublic(String itemId, String versionId) {
+        return read(itemId, (versions, user) -> {
+            PublicVersion publicVersion = versions.publicVersions.get(versionId);
+            if (publicVersion == null) {
+                return Optional.empty();
+            }
+            InternalVersion version = publicVersion.content.copy();
+            VersionState state = new VersionState();
+            state.setSynchronizationState(SynchronizationState.OutOfSync);
+            version.setState(state);
+            return Optional.of(version);
+        });
+    }
+
+    @Override
+    public void delete(String itemId, String versionId) {
+        throw new UnsupportedOperationException("Delete version operation is not yet supported.");
+    }
+
+    @Override
+    public void publish(String itemId, String versionId, String message) {
+        write(itemId, (versions, user) -> {
+            PrivateVersion privateVersion = getExistingPrivateVersion(versions, user, itemId, versionId);
+            PublicVersion publicVersion = versions.publicVersions.get(versionId);
+            if (privateVersion.getSynchronizationState(publicVersion) != SynchronizationState.UpToDate) {
+                throw new VersioningException(String.format(
+                        "Item %s: publish version %s failed, it is out of sync with its public version", itemId,
+                        versionId));
+            }
+            if (!privateVersion.dirty) {
+                // rejected as the local zusammen store and zusammen itself reject it
+                throw new VersioningException(String.format(
+                        "Version %s of item %s can not be published since it has no changes", versionId, itemId));
+            }
+            if (publicVersion == null) {
+                publicVersion = new PublicVersion();
+                versions.publicVersions.put(versionId, publicVersion);
+            }
+            Revision revision = new Revision();
+            revision.setId(UUID.randomUUID().toString());
+            revision.setMessage(message);
+            revision.setTime(new Date());
+            revision.setUser(user);
+            publicVersion.content = privateVersion.content.copy();
+            publicVersion.revisions.add(new PublishedRevision(revision, privateVersion.content.copy()));
+            privateVersion.syncedRevisions = publicVersion.revisions.size();
+            privateVersion.dirty = false;
+            return null;
+        });
+    }
+
+    @Override
+    public void sync(String itemId, String versionId) {
+        write(itemId, (versions, user) -> {
+            PublicVersion publicVersion = versions.publicVersions.get(versionId);
+            if (publicVersion == null) {
+                return null;
+            }
+            PrivateVersion privateVersion = versions.getPrivateVersion(user, versionId);
+            if (privateVersion == null || !privateVersion.dirty) {
+                setPrivateVersion(versions, user, versionId, publicVersion);
+            } else if (privateVersion.getSynchronizationState(publicVersion) == SynchronizationState.OutOfSync) {
+                // both copies changed, left for a force sync to resolve in favour of the public one
+                privateVersion.merging = true;
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void forceSync(String itemId, String versionId) {
+        write(itemId, (versions, user) -> {
+            PublicVersion publicVersion = versions.publicVersions.get(versionId);
+            if (publicVersion == null) {
+                throw new VersioningException(
+                        String.format("Item %s: force sync of version %s failed, it was never published", itemId,
+                                versionId));
+            }
+            setPrivateVersion(versions, user, versionId, publicVersion);
+            return null;
+        });
+    }
+
+    @Override
+    public void clean(String itemId, String versionId) {
+        write(itemId, (versions, user) -> {
+            Map<String, PrivateVersion> privateVersions = versions.privateVersionsByUser.get(user);
+            if (privateVersions != null) {
+                privateVersions.remove(versionId);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void revert(String itemId, String versionId, String revisionId) {
+        write(itemId, (versions, user) -> {
+            PrivateVersion privateVersion = getExistingPrivateVersion(versions, user, itemId, versionId);
+            PublicVersion publicVersion = versions.publicVersions.get(versionId);
+            PublishedRevision revision = publicVersion == null ? null : publicVersion.revisions.stream()
+                    .filter(publishedRevision -> publishedRevision.revision.getId().equals(revisionId)).findFirst()
+                    .orElse(null);
+            if (revision == null) {
+                throw new VersioningException(
+                        String.format("Item %s: revision %s of version %s does not exist", itemId, revisionId,
+                                versionId));
+            }
+            InternalVersion content = revision.content.copy();
+            content.setModificationTime(new Date());
+            privateVersion.content = content;
+            privateVersion.dirty = true;
+            return null;
+        });
+    }
+
+    @Override
+    public List<Revision> listRevisions(String itemId, String versionId) {
+        return read(itemId, (versions, user) -> {
+            PublicVersion publicVersion = versions.publicVersions.get(versionId);
+            List<Revision> revisions = new ArrayList<>();
+            if (publicVersion != null) {
+                // newest first
+                for (int i = publicVersion.revisions.size() - 1; i >= 0; i--) {
+                    revisions.add(copy(publicVersion.revisions.get(i).revision));
+                }
+            }
+            return revisions;
+        });
+    }
+
+    private <T> T read(String itemId, VersionsOperation<T> operation) {
+        SessionContext context = sessionContextProvider.get();
+        ItemVersions versions = itemVersions.get(Arrays.asList(context.getTenant(), itemId));
+        if (versions == null) {
+            versions = new ItemVersions();
+        }
+        synchronized (versions) {
+            return operation.apply(versions, context.getUserId());
+        }
+    }
+
+    private <T> T write(String itemId, VersionsOperation<T> operation) {
+        SessionContext context = sessionContextProvider.get();
+        ItemVersions versions = itemVersions.computeIfAbsent(Arrays.asList(context.getTenant(), itemId),
+                key -> new ItemVersions());
+        synchronized (versions) {
+            return operation.apply(versions, context.getUserId());
+        }
+    }
+
+    private static PrivateVersion getExistingPrivateVersion(ItemVersions versions, String user, String itemId,
+            String versionId) {
+        PrivateVersion privateVersion = versions.getPrivateVersion(user, versionId);
+        if (privateVersion == null) {
+            throw new VersioningException(
+                    String.format("Item %s: version %s does not exist in the private space of user %s", itemId,
+                            versionId, user));
+        }
+        return privateVersion;
+    }
+
+    private static void setPrivateVersion(ItemVersions versions, String user, String versionId,
+            PublicVersion publicVersion) {
+        versions.privateVersionsByUser.computeIfAbsent(user, u -> new HashMap<>()).put(versionId,
+                new PrivateVersion(publicVersion.content.copy(), publicVersion.revisions.size(), false));
+    }
+
+    private static Revision copy(Revision revision) {
+        Revision copy = new Revision();
+        copy.setId(revision.getId());
+        copy.setMessage(revision.getMessage());
+        copy.setTime(revision.getTime());
+        copy.setUser(revision.getUser());
+        return copy;
+    }
+
+    @FunctionalInterface
+    private interface VersionsOperation<T> {
+
+        T apply(ItemVersions versions, String user);
+    }
+
+    private static class ItemVersions {
+
+        // in creation order, as zusammen lists them
+        private final Map<String, PublicVersion> publicVersions = new LinkedHashMap<>();
+        private final Map<String, Map<String, PrivateVersion>> privateVersionsByUser = new HashMap<>();
+
+        private PrivateVersion getPrivateVersion(String user, String versionId) {
+            Map<String, PrivateVersion> privateVersions = privateVersionsByUser.get(user);
+            return privateVersions == null ? null : privateVersions.get(versionId);
+        }
+    }
+
+    private static class PublicVersion {
+
+        private InternalVersion content;
+        // oldest first
+        private final List<PublishedRevision> revisions = new ArrayList<>();
+    }
+
+    private static class PublishedRevision {
+
+        private final Revision revision;
+        private final InternalVersion content;
+
+        private PublishedRevision(Revision revision, InternalVersion content) {
+            this.revision = revision;
+            this.content = content;
+        }
+    }
+
+    private static class PrivateVersion {
+
+        private InternalVersion content;
+        // the number of public revisions the private copy includes
+        private int syncedRevisions;
+        private boolean dirty;
+        private boolean merging;
+
+        private PrivateVersion(InternalVersion content, int syncedRevisions, boolean dirty) {
+            this.content = content;
+            this.syncedRevisions = syncedRevisions;
+            this.dirty = dirty;
+        }
+
+        private SynchronizationState getSynchronizationState(PublicVersion publicVersion) {
+            if (merging) {
+                return SynchronizationState.Merging;
+            }
+            return publicVersion != null && publicVersion.revisions.size() > syncedRevisions
+                           ? SynchronizationState.OutOfSync : SynchronizationState.UpToDate;
+        }
+    }
+}
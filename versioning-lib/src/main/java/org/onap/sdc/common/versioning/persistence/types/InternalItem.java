@@ -17,6 +17,7 @@
 package org.onap.sdc.common.versioning.persistence.types;
 
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
@@ -62,6 +63,26 @@ public class InternalItem extends Item {
         }
     }
 
+    /**
+     * Copies the item, including its version status counters and properties (the property values are shared).
+     */
+    public InternalItem copy() {
+        InternalItem copy = new InternalItem();
+        copy.setId(getId());
+        copy.setType(getType());
+        copy.setName(getName());
+        copy.setOwner(getOwner());
+        copy.setDescription(getDescription());
+        copy.setStatus(status);
+        copy.setCreationTime(creationTime);
+        copy.setModificationTime(modificationTime);
+        Map<VersionStatus, Integer> versionStatusCountersCopy = new EnumMap<>(VersionStatus.class);
+        versionStatusCountersCopy.putAll(versionStatusCounters);
+        copy.setVersionStatusCounters(versionStatusCountersCopy);
+        getProperties().forEach(copy::addProperty);
+        return copy;
+    }
+
     public void populateExternalFields(Item item) {
         setType(item.getType());
         setName(item.getName());
@@ -47,6 +47,28 @@ public class InternalVersion extends Version {
         this.modificationTime = modificationTime;
     }
 
+    /**
+     * Copies the version, including its state and properties (the property values are shared).
+     */
+    public InternalVersion copy() {
+        InternalVersion copy = new InternalVersion();
+        copy.setId(getId());
+        copy.setBaseId(baseId);
+        copy.setName(name);
+        copy.setDescription(getDescription());
+        copy.setStatus(status);
+        if (state != null) {
+            VersionState stateCopy = new VersionState();
+            stateCopy.setSynchronizationState(state.getSynchronizationState());
+            stateCopy.setDirty(state.isDirty());
+            copy.setState(stateCopy);
+        }
+        copy.setCreationTime(creationTime);
+        copy.setModificationTime(modificationTime);
+        getProperties().forEach(copy::addProperty);
+        return copy;
+    }
+
     public void populateExternalFields(Version version) {
         setDescription(version.getDescription());
         version.getProperties().forEach(this::addProperty);
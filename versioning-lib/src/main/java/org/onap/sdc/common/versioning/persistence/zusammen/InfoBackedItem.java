@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence.zusammen;
+
+import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.Item;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+import org.onap.sdc.common.versioning.persistence.zusammen.ItemZusammenDao.InfoPropertyName;
+import org.onap.sdc.common.versioning.services.types.ItemStatus;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
+
+/**
+ * An item read from zusammen, whose fields kept in the info properties are converted when first read rather than
+ * all of them up front, since most listings read a few fields only. A field set before being read is not converted
+ * at all. The info is owned by the item and must not be changed once handed to it.
+ */
+class InfoBackedItem extends InternalItem {
+
+    private static final Set<String> MAPPED_PROPERTIES = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(InfoPropertyName.ITEM_TYPE, InfoPropertyName.ITEM_OWNER, InfoPropertyName.ITEM_STATUS,
+                    InfoPropertyName.ITEM_VERSIONS_STATUSES)));
+
+    private final Info info;
+    // null once copied into the item properties
+    private InfoProperties infoProperties;
+    private boolean typeConverted;
+    private boolean ownerConverted;
+    private boolean statusConverted;
+    private boolean versionStatusCountersConverted;
+
+    InfoBackedItem(Item zusammenItem) {
+        info = zusammenItem.getInfo();
+        infoProperties = new InfoProperties(info, MAPPED_PROPERTIES);
+        setId(zusammenItem.getId().getValue());
+        setName(info.getName());
+        setDescription(info.getDescription());
+        setCreationTime(zusammenItem.getCreationTime());
+        setModificationTime(zusammenItem.getModificationTime());
+    }
+
+    @Override
+    public String getType() {
+        if (!typeConverted) {
+            setType(info.getProperty(InfoPropertyName.ITEM_TYPE));
+        }
+        return super.getType();
+    }
+
+    @Override
+    public void setType(String type) {
+        typeConverted = true;
+        super.setType(type);
+    }
+
+    @Override
+    public String getOwner() {
+        if (!ownerConverted) {
+            setOwner(info.getProperty(InfoPropertyName.ITEM_OWNER));
+        }
+        return super.getOwner();
+    }
+
+    @Override
+    public void setOwner(String owner) {
+        ownerConverted = true;
+        super.setOwner(owner);
+    }
+
+    @Override
+    public ItemStatus getStatus() {
+        convertStatus();
+        return super.getStatus();
+    }
+
+    @Override
+    public void setStatus(ItemStatus status) {
+        statusConverted = true;
+        super.setStatus(status);
+    }
+
+    @Override
+    public Map<VersionStatus, Integer> getVersionStatusCounters() {
+        convertVersionStatusCounters();
+        return super.getVersionStatusCounters();
+    }
+
+    @Override
+    public void setVersionStatusCounters(Map<VersionStatus, Integer> versionStatusCounters) {
+        versionStatusCountersConverted = true;
+        super.setVersionStatusCounters(versionStatusCounters);
+    }
+
+    @Override
+    public void addVersionStatus(VersionStatus versionStatus) {
+        convertVersionStatusCounters();
+        super.addVersionStatus(versionStatus);
+    }
+
+    @Override
+    public void removeVersionStatus(VersionStatus versionStatus) {
+        convertVersionStatusCounters();
+        super.removeVersionStatus(versionStatus);
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        convertProperties();
+        return super.getProperties();
+    }
+
+    @Override
+    public void addProperty(String key, Object value) {
+        if (infoProperties != null) {
+            infoProperties.put(key, value);
+        } else {
+            super.addProperty(key, value);
+        }
+    }
+
+    // unchecked like the getter it overrides, the caller states the type it stored the property with
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getProperty(String key) {
+        return infoProperties != null ? (T) infoProperties.get(key) : super.getProperty(key);
+    }
+
+    @Override
+    public InternalItem copy() {
+        convertStatus();
+        convertVersionStatusCounters();
+        return super.copy();
+    }
+
+    private void convertStatus() {
+        if (!statusConverted) {
+            String status = info.getProperty(InfoPropertyName.ITEM_STATUS);
+            setStatus(status == null ? ItemStatus.ACTIVE : ItemStatus.valueOf(status));
+        }
+    }
+
+    private void convertVersionStatusCounters() {
+        if (versionStatusCountersConverted) {
+            return;
+        }
+        versionStatusCountersConverted = true;
+        // into the counters the item starts with, as the info is the only source of the counters until converted
+        Map<String, Number> storedCounters = info.getProperty(InfoPropertyName.ITEM_VERSIONS_STATUSES);
+        if (storedCounters != null) {
+            storedCounters.forEach((status, counter) -> versionStatusCounters.put(VersionStatus.valueOf(status),
+                    counter.intValue()));
+        }
+    }
+
+    private void convertProperties() {
+        if (infoProperties != null) {
+            InfoProperties properties = infoProperties;
+            infoProperties = null;
+            properties.forEach(super::addProperty);
+        }
+    }
+}
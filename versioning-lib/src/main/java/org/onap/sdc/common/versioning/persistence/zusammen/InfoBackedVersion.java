@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence.zusammen;
+
+import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.ItemVersion;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
+
+/**
+ * A version read from zusammen, whose info properties are read through until the whole map is needed rather than
+ * copied up front. The status is converted right away, since nearly every caller reads it. The info is owned by the
+ * version and must not be changed once handed to it.
+ */
+class InfoBackedVersion extends InternalVersion {
+
+    private static final Set<String> MAPPED_PROPERTIES = Collections.singleton(VersionZusammenDao.STATUS_PROPERTY);
+
+    // null once copied into the version properties
+    private InfoProperties infoProperties;
+
+    InfoBackedVersion(ItemVersion itemVersion) {
+        Info info = itemVersion.getData().getInfo();
+        infoProperties = new InfoProperties(info, MAPPED_PROPERTIES);
+        setId(itemVersion.getId().getValue());
+        if (itemVersion.getBaseId() != null) {
+            setBaseId(itemVersion.getBaseId().getValue());
+        }
+        setName(info.getName());
+        setDescription(info.getDescription());
+        setCreationTime(itemVersion.getCreationTime());
+        setModificationTime(itemVersion.getModificationTime());
+        String status = info.getProperty(VersionZusammenDao.STATUS_PROPERTY);
+        if (status != null) {
+            setStatus(VersionStatus.valueOf(status));
+        }
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        if (infoProperties != null) {
+            InfoProperties properties = infoProperties;
+            infoProperties = null;
+            properties.forEach(super::addProperty);
+        }
+        return super.getProperties();
+    }
+
+    @Override
+    public void addProperty(String key, Object value) {
+        if (infoProperties != null) {
+            infoProperties.put(key, value);
+        } else {
+            super.addProperty(key, value);
+        }
+    }
+
+    // unchecked like the getter it overrides, the caller states the type it stored the property with
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getProperty(String key) {
+        return infoProperties != null ? (T) infoProperties.get(key) : super.getProperty(key);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence.zusammen;
+
+import com.amdocs.zusammen.datatypes.item.Info;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads the properties of a zusammen info through, leaving out the ones the daos map to fields of their own. Added
+ * properties are kept aside, so that the info properties are copied only once the whole map is needed.
+ */
+final class InfoProperties {
+
+    private final Info info;
+    private final Set<String> mappedKeys;
+    // null until a property is added
+    private Map<String, Object> addedProperties;
+
+    InfoProperties(Info info, Set<String> mappedKeys) {
+        this.info = info;
+        this.mappedKeys = mappedKeys;
+    }
+
+    Object get(String key) {
+        if (addedProperties != null && addedProperties.containsKey(key)) {
+            return addedProperties.get(key);
+        }
+        return mappedKeys.contains(key) ? null : info.getProperties().get(key);
+    }
+
+    void put(String key, Object value) {
+        if (addedProperties == null) {
+            addedProperties = new HashMap<>(4);
+        }
+        addedProperties.put(key, value);
+    }
+
+    void forEach(BiConsumer<String, Object> action) {
+        info.getProperties().forEach((key, value) -> {
+            if (!mappedKeys.contains(key) && (addedProperties == null || !addedProperties.containsKey(key))) {
+                action.accept(key, value);
+            }
+        });
+        if (addedProperties != null) {
+            addedProperties.forEach(action);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence.zusammen;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+
+/**
+ * Caches items per tenant, written through by the item writes. Items are copied in and out of the cache so that
+ * callers never share a cached instance.
+ *
+ * <p>Every write marks its entry as pending under a new version before going to zusammen, and publishes the written
+ * item only if no other write of the same item started in the meantime. Overlapping writes leave the entry empty
+ * under a newer version, as does a failed write, and a read that started loading before a write only publishes its
+ * result if the entry it observed is still in place. This keeps the writers of a node from publishing each others'
+ * stale items.
+ *
+ * <p>The cached items may have their properties compacted, see {@link InternalItem#compactProperties()}, since they
+ * are only read to be copied out.
+ */
+class ItemCache {
+
+    private final Cache<Key, Entry> cache;
+    private final ConcurrentMap<Key, Entry> entries;
+    private final AtomicLong versions = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final boolean compactProperties;
+
+    ItemCache(long maxSize, long ttlSeconds, boolean compactProperties) {
+        cache = CacheBuilder.newBuilder().maximumSize(Math.max(maxSize, 0))
+                        .expireAfterWrite(Math.max(ttlSeconds, 0), TimeUnit.SECONDS).recordStats().build();
+        entries = cache.asMap();
+        this.compactProperties = compactProperties;
+    }
+
+    InternalItem get(String tenant, String itemId, Supplier<InternalItem> loader) {
+        Key key = new Key(tenant, itemId);
+        Entry observed = entries.get(key);
+        if (observed != null && observed.item != null) {
+            hits.increment();
+            return observed.item.copy();
+        }
+        misses.increment();
+        InternalItem item = loader.get();
+        if (item == null || (observed != null && observed.pendingWrites > 0)) {
+            return item;
+        }
+        Entry loaded = new Entry(cachedCopy(item), observed == null ? versions.incrementAndGet() : observed.version, 0);
+        if (observed == null) {
+            entries.putIfAbsent(key, loaded);
+        } else {
+            entries.replace(key, observed, loaded);
+        }
+        return item;
+    }
+
+    /**
+     * Marks the item as being written, returning the write version to complete the write with.
+     */
+    long beginWrite(String tenant, String itemId) {
+        long version = versions.incrementAndGet();
+        entries.compute(new Key(tenant, itemId),
+                (key, entry) -> new Entry(null, version, entry == null ? 1 : entry.pendingWrites + 1));
+        return version;
+    }
+
+    /**
+     * Completes a write, publishing the written item, or nothing for a deletion or a failed write.
+     */
+    void completeWrite(String tenant, String itemId, long version, InternalItem writtenItem) {
+        InternalItem published = writtenItem == null ? null : cachedCopy(writtenItem);
+        entries.compute(new Key(tenant, itemId), (key, entry) -> {
+            if (entry != null && entry.item == null && entry.version == version && entry.pendingWrites == 1) {
+                return new Entry(published, version, 0);
+            }
+            int pendingWrites = entry == null || entry.item != null ? 0 : Math.max(entry.pendingWrites - 1, 0);
+            return new Entry(null, versions.incrementAndGet(), pendingWrites);
+        });
+    }
+
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    long size() {
+        return cache.size();
+    }
+
+    CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), 0, 0, 0, cache.stats().evictionCount());
+    }
+
+    private InternalItem cachedCopy(InternalItem item) {
+        InternalItem copy = item.copy();
+        if (compactProperties) {
+            copy.compactProperties();
+        }
+        return copy;
+    }
+
+    private static class Entry {
+
+        // null while the item is being written, or when its last write could not be published
+        private final InternalItem item;
+        private final long version;
+        private final int pendingWrites;
+
+        private Entry(InternalItem item, long version, int pendingWrites) {
+            this.item = item;
+            this.version = version;
+            this.pendingWrites = pendingWrites;
+        }
+    }
+
+    private static class Key {
+
+        private final String tenant;
+        private final String itemId;
+
+        private Key(String tenant, String itemId) {
+            this.tenant = tenant;
+            this.itemId = itemId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(tenant, key.tenant) && Objects.equals(itemId, key.itemId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tenant, itemId);
+        }
+    }
+}
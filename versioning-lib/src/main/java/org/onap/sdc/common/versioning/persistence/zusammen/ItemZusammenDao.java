@@ -17,28 +17,37 @@
 package org.onap.sdc.common.versioning.persistence.zusammen;
 
 import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
 import com.amdocs.zusammen.datatypes.item.Info;
 import com.amdocs.zusammen.datatypes.item.Item;
+import com.google.common.cache.CacheStats;
 import java.util.Collection;
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.onap.sdc.common.versioning.persistence.ItemDao;
 import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+import org.onap.sdc.common.versioning.services.types.ItemFilter;
 import org.onap.sdc.common.versioning.services.types.ItemStatus;
-import org.onap.sdc.common.versioning.services.types.VersionStatus;
 import org.onap.sdc.common.zusammen.services.ZusammenAdaptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@Profile("!versioning-in-memory")
 public class ItemZusammenDao implements ItemDao {
 
     private final ZusammenSessionContextCreator contextCreator;
     private final ZusammenAdaptor zusammenAdaptor;
+    private final ItemCache itemCache;
 
-    public ItemZusammenDao(ZusammenSessionContextCreator contextCreator, ZusammenAdaptor zusammenAdaptor) {
+    public ItemZusammenDao(ZusammenSessionContextCreator contextCreator, ZusammenAdaptor zusammenAdaptor,
+            @Value("${versioning.items.cache.max-size:10000}") long itemsCacheMaxSize,
+            @Value("${versioning.items.cache.ttl-seconds:60}") long itemsCacheTtlSeconds,
+            @Value("${versioning.items.cache.compact-properties:false}") boolean itemsCacheCompactProperties) {
         this.contextCreator = contextCreator;
         this.zusammenAdaptor = zusammenAdaptor;
+        this.itemCache = new ItemCache(itemsCacheMaxSize, itemsCacheTtlSeconds, itemsCacheCompactProperties);
     }
 
     @Override
@@ -47,73 +56,82 @@ public class ItemZusammenDao implements ItemDao {
                        .collect(Collectors.toList());
     }
 
+    @Override
+    public Stream<InternalItem> list(ItemFilter filter) {
+        Stream<Item> zusammenItems = zusammenAdaptor.listItems(contextCreator.create()).stream();
+        if (!filter.isAll()) {
+            zusammenItems = zusammenItems.filter(zusammenItem -> matches(filter, zusammenItem.getInfo()));
+        }
+        return zusammenItems.map(this::mapFromZusammenItem);
+    }
+
     @Override
     public InternalItem get(String itemId) {
+        SessionContext context = contextCreator.create();
+        return itemCache.get(context.getTenant(), itemId,
+                () -> mapFromZusammenItem(zusammenAdaptor.getItem(context, new Id(itemId))));
+    }
+
+    @Override
+    public InternalItem getForUpdate(String itemId) {
         return mapFromZusammenItem(zusammenAdaptor.getItem(contextCreator.create(), new Id(itemId)));
     }
 
     @Override
     public InternalItem create(InternalItem item) {
+        SessionContext context = contextCreator.create();
         if (item.getId() == null) {
-            Id itemId = zusammenAdaptor.createItem(contextCreator.create(), mapToZusammenItemInfo(item));
+            Id itemId = zusammenAdaptor.createItem(context, mapToZusammenItemInfo(item));
             item.setId(itemId.getValue());
         } else {
-            zusammenAdaptor.createItem(contextCreator.create(), new Id(item.getId()), mapToZusammenItemInfo(item));
+            // the creation data is set by zusammen, so the created item is left to be loaded by its first get
+            long writeVersion = itemCache.beginWrite(context.getTenant(), item.getId());
+            try {
+                zusammenAdaptor.createItem(context, new Id(item.getId()), mapToZusammenItemInfo(item));
+            } finally {
+                itemCache.completeWrite(context.getTenant(), item.getId(), writeVersion, null);
+            }
         }
         return item;
     }
 
     @Override
     public void delete(String itemId) {
-        zusammenAdaptor.deleteItem(contextCreator.create(), new Id(itemId));
+        SessionContext context = contextCreator.create();
+        long writeVersion = itemCache.beginWrite(context.getTenant(), itemId);
+        try {
+            zusammenAdaptor.deleteItem(context, new Id(itemId));
+        } finally {
+            itemCache.completeWrite(context.getTenant(), itemId, writeVersion, null);
+        }
     }
 
     @Override
     public void update(InternalItem item) {
-        zusammenAdaptor.updateItem(contextCreator.create(), new Id(item.getId()), mapToZusammenItemInfo(item));
+        SessionContext context = contextCreator.create();
+        long writeVersion = itemCache.beginWrite(context.getTenant(), item.getId());
+        InternalItem writtenItem = null;
+        try {
+            zusammenAdaptor.updateItem(context, new Id(item.getId()), mapToZusammenItemInfo(item));
+            writtenItem = item;
+        } finally {
+            itemCache.completeWrite(context.getTenant(), item.getId(), writeVersion, writtenItem);
+        }
     }
 
-    private InternalItem mapFromZusammenItem(Item zusammenItem) {
-        if (zusammenItem == null) {
-            return null;
-        }
-        InternalItem item = new InternalItem();
-        item.setId(zusammenItem.getId().getValue());
-        item.setName(zusammenItem.getInfo().getName());
-        item.setDescription(zusammenItem.getInfo().getDescription());
-        item.setCreationTime(zusammenItem.getCreationTime());
-        item.setModificationTime(zusammenItem.getModificationTime());
-
-        zusammenItem.getInfo().getProperties().forEach((key, value) -> addPropertyToItem(key, value, item));
-        if (item.getStatus() == null) {
-            item.setStatus(ItemStatus.ACTIVE);
-        }
+    public CacheStats getCacheStats() {
+        return itemCache.getStats();
+    }
 
-        return item;
+    private InternalItem mapFromZusammenItem(Item zusammenItem) {
+        return zusammenItem == null ? null : new InfoBackedItem(zusammenItem);
     }
 
-    private void addPropertyToItem(String propertyKey, Object propertyValue, InternalItem item) {
-        switch (propertyKey) {
-            case InfoPropertyName.ITEM_TYPE:
-                item.setType((String) propertyValue);
-                break;
-            case InfoPropertyName.ITEM_OWNER:
-                item.setOwner((String) propertyValue);
-                break;
-            case InfoPropertyName.ITEM_STATUS:
-                item.setStatus(ItemStatus.valueOf((String) propertyValue));
-                break;
-            case InfoPropertyName.ITEM_VERSIONS_STATUSES:
-                Map<VersionStatus, Integer> versionStatusCounters = new EnumMap<>(VersionStatus.class);
-                for (Map.Entry<String, Number> statusCounter : ((Map<String, Number>) propertyValue).entrySet()) {
-                    versionStatusCounters
-                            .put(VersionStatus.valueOf(statusCounter.getKey()), statusCounter.getValue().intValue());
-                }
-                item.setVersionStatusCounters(versionStatusCounters);
-                break;
-            default:
-                item.addProperty(propertyKey, propertyValue);
-        }
+    private static boolean matches(ItemFilter filter, Info info) {
+        String status = info.getProperty(InfoPropertyName.ITEM_STATUS);
+        return filter.matches(info.getProperty(InfoPropertyName.ITEM_TYPE),
+                info.getProperty(InfoPropertyName.ITEM_OWNER),
+                status == null ? ItemStatus.ACTIVE : ItemStatus.valueOf(status));
     }
 
     private Info mapToZusammenItemInfo(InternalItem item) {
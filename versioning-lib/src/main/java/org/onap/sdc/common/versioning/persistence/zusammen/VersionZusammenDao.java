@@ -26,8 +26,17 @@ import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
 import com.amdocs.zusammen.datatypes.item.SynchronizationStatus;
 import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 import org.onap.sdc.common.versioning.persistence.VersionDao;
 import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
@@ -36,20 +45,37 @@ import org.onap.sdc.common.versioning.services.types.Revision;
 import org.onap.sdc.common.versioning.services.types.SynchronizationState;
 import org.onap.sdc.common.versioning.services.types.VersionState;
 import org.onap.sdc.common.versioning.services.types.VersionStatus;
+import org.onap.sdc.common.zusammen.services.AsyncZusammenAdaptor;
 import org.onap.sdc.common.zusammen.services.ZusammenAdaptor;
+import org.onap.sdc.common.zusammen.services.impl.ZusammenAsyncExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@Profile("!versioning-in-memory")
 public class VersionZusammenDao implements VersionDao {
 
-    private static final String STATUS_PROPERTY = "status";
+    static final String STATUS_PROPERTY = "status";
+    private static final Comparator<com.amdocs.zusammen.datatypes.itemversion.Revision> REVISION_TIME_ORDER =
+            Comparator.comparing(com.amdocs.zusammen.datatypes.itemversion.Revision::getTime)
+                    .thenComparing(revision -> revision.getRevisionId().getValue());
 
     private final ZusammenSessionContextCreator contextCreator;
     private final ZusammenAdaptor zusammenAdaptor;
-
-    public VersionZusammenDao(ZusammenSessionContextCreator contextCreator, ZusammenAdaptor zusammenAdaptor) {
+    private final AsyncZusammenAdaptor asyncZusammenAdaptor;
+    private final boolean concurrentGet;
+    private final int listAllParallelism;
+
+    public VersionZusammenDao(ZusammenSessionContextCreator contextCreator, ZusammenAdaptor zusammenAdaptor,
+            AsyncZusammenAdaptor asyncZusammenAdaptor,
+            @Value("${versioning.versions.get.concurrent:true}") boolean concurrentGet,
+            @Value("${versioning.versions.list-all.parallelism:8}") int listAllParallelism) {
         this.contextCreator = contextCreator;
         this.zusammenAdaptor = zusammenAdaptor;
+        this.asyncZusammenAdaptor = asyncZusammenAdaptor;
+        this.concurrentGet = concurrentGet;
+        this.listAllParallelism = Math.max(listAllParallelism, 1);
     }
 
     @Override
@@ -58,6 +84,35 @@ public class VersionZusammenDao implements VersionDao {
                        .map(VersionZusammenDao::convertFromZusammen).collect(Collectors.toList());
     }
 
+    @Override
+    public Map<String, CompletableFuture<List<InternalVersion>>> listAll(Collection<String> itemIds) {
+        SessionContext context = contextCreator.create();
+        // bounds the listings of this call in flight, so that a large batch does not take over the async executor
+        Semaphore inFlight = new Semaphore(listAllParallelism);
+        Map<String, CompletableFuture<List<InternalVersion>>> versions = new LinkedHashMap<>();
+        for (String itemId : itemIds) {
+            if (versions.containsKey(itemId)) {
+                continue;
+            }
+            inFlight.acquireUninterruptibly();
+            CompletableFuture<Collection<ItemVersion>> itemVersions;
+            try {
+                itemVersions = asyncZusammenAdaptor.listPublicVersions(context, new Id(itemId));
+            } catch (RuntimeException e) {
+                // the listing was not submitted, so no completion is left to release its permit
+                inFlight.release();
+                CompletableFuture<List<InternalVersion>> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                versions.put(itemId, failed);
+                continue;
+            }
+            itemVersions.whenComplete((result, failure) -> inFlight.release());
+            versions.put(itemId, itemVersions.thenApply(zusammenVersions -> zusammenVersions.stream()
+                    .map(VersionZusammenDao::convertFromZusammen).collect(Collectors.toList())));
+        }
+        return versions;
+    }
+
     @Override
     public InternalVersion create(String itemId, InternalVersion version) {
         Id baseVersionId = version.getBaseId() == null ? null : new Id(version.getBaseId());
@@ -84,18 +139,20 @@ public class VersionZusammenDao implements VersionDao {
         SessionContext context = contextCreator.create();
         Id itemIdObj = new Id(itemId);
         Id versionIdObj = new Id(versionId);
-        ItemVersion itemVersion = zusammenAdaptor.getVersion(context, itemIdObj, versionIdObj);
+        return concurrentGet ? getConcurrently(context, itemIdObj, versionIdObj)
+                       : getSequentially(context, itemIdObj, versionIdObj);
+    }
 
-        if (itemVersion == null) {
+    @Override
+    public Optional<InternalVersion> getPublic(String itemId, String versionId) {
+        ItemVersion publicVersion =
+                zusammenAdaptor.getPublicVersion(contextCreator.create(), new Id(itemId), new Id(versionId));
+        if (publicVersion == null) {
             return Optional.empty();
         }
-
-        VersionState versionState = convertState(zusammenAdaptor.getVersionStatus(context, itemIdObj, versionIdObj));
-        updateVersionStatus(context, itemIdObj, versionIdObj, versionState, itemVersion);
-
-        InternalVersion result = convertFromZusammen(itemVersion);
-        result.setState(versionState);
-        return Optional.of(result);
+        VersionState versionState = new VersionState();
+        versionState.setSynchronizationState(SynchronizationState.OutOfSync);
+        return Optional.of(convertFromZusammen(publicVersion, versionState));
     }
 
     @Override
@@ -128,6 +185,40 @@ public class VersionZusammenDao implements VersionDao {
         zusammenAdaptor.revert(contextCreator.create(), new Id(itemId), new Id(versionId), new Id(revisionId));
     }
 
+    @Override
+    public List<Revision> listRevisions(String itemId, String versionId, Date before, String beforeRevisionId,
+            int limit) {
+        ItemVersionRevisions itemVersionRevisions =
+                zusammenAdaptor.listRevisions(contextCreator.create(), new Id(itemId), new Id(versionId));
+        if (itemVersionRevisions == null || itemVersionRevisions.getItemVersionRevisions() == null || limit <= 0) {
+            return new ArrayList<>();
+        }
+        List<com.amdocs.zusammen.datatypes.itemversion.Revision> zusammenRevisions =
+                itemVersionRevisions.getItemVersionRevisions();
+
+        // keeps the latest revisions seen so far, the oldest of them on top, so that only the page is sorted
+        PriorityQueue<com.amdocs.zusammen.datatypes.itemversion.Revision> latestRevisions =
+                new PriorityQueue<>(Math.min(limit, zusammenRevisions.size()) + 1, REVISION_TIME_ORDER);
+        for (com.amdocs.zusammen.datatypes.itemversion.Revision revision : zusammenRevisions) {
+            if (before != null && !isBefore(revision, before, beforeRevisionId)) {
+                continue;
+            }
+            if (latestRevisions.size() < limit) {
+                latestRevisions.add(revision);
+            } else if (REVISION_TIME_ORDER.compare(revision, latestRevisions.peek()) > 0) {
+                latestRevisions.poll();
+                latestRevisions.add(revision);
+            }
+        }
+
+        List<Revision> revisions = new ArrayList<>(latestRevisions.size());
+        while (!latestRevisions.isEmpty()) {
+            revisions.add(convertRevision(latestRevisions.poll()));
+        }
+        Collections.reverse(revisions);
+        return revisions;
+    }
+
     @Override
     public List<Revision> listRevisions(String itemId, String versionId) {
         ItemVersionRevisions itemVersionRevisions =
@@ -139,13 +230,43 @@ public class VersionZusammenDao implements VersionDao {
                                .sorted(this::compareRevisionsTime).collect(Collectors.toList());
     }
 
-    private void updateVersionStatus(SessionContext context, Id itemId, Id versionId, VersionState versionState,
-            ItemVersion itemVersion) {
+    private Optional<InternalVersion> getSequentially(SessionContext context, Id itemId, Id versionId) {
+        ItemVersion itemVersion = zusammenAdaptor.getVersion(context, itemId, versionId);
+
+        if (itemVersion == null) {
+            return Optional.empty();
+        }
+
+        VersionState versionState = convertState(zusammenAdaptor.getVersionStatus(context, itemId, versionId));
+        if (versionState.getSynchronizationState() != SynchronizationState.UpToDate) {
+            updateVersionStatus(itemVersion, zusammenAdaptor.getPublicVersion(context, itemId, versionId));
+        }
+        return Optional.of(convertFromZusammen(itemVersion, versionState));
+    }
+
+    private Optional<InternalVersion> getConcurrently(SessionContext context, Id itemId, Id versionId) {
+        CompletableFuture<ItemVersion> privateVersion = asyncZusammenAdaptor.getVersion(context, itemId, versionId);
+        CompletableFuture<ItemVersionStatus> versionStatus =
+                asyncZusammenAdaptor.getVersionStatus(context, itemId, versionId);
+        // requested before knowing whether the version is out of sync, and only waited for when it is
+        CompletableFuture<ItemVersion> publicVersion =
+                asyncZusammenAdaptor.getPublicVersion(context, itemId, versionId);
+
+        ItemVersion itemVersion = ZusammenAsyncExecutor.join(privateVersion);
+        if (itemVersion == null) {
+            return Optional.empty();
+        }
+
+        VersionState versionState = convertState(ZusammenAsyncExecutor.join(versionStatus));
         if (versionState.getSynchronizationState() != SynchronizationState.UpToDate) {
-            String versionStatus = zusammenAdaptor.getPublicVersion(context, itemId, versionId).getData().getInfo()
-                                           .getProperty(STATUS_PROPERTY);
-            itemVersion.getData().getInfo().addProperty(STATUS_PROPERTY, versionStatus);
+            updateVersionStatus(itemVersion, ZusammenAsyncExecutor.join(publicVersion));
         }
+        return Optional.of(convertFromZusammen(itemVersion, versionState));
+    }
+
+    private static void updateVersionStatus(ItemVersion itemVersion, ItemVersion publicVersion) {
+        String versionStatus = publicVersion.getData().getInfo().getProperty(STATUS_PROPERTY);
+        itemVersion.getData().getInfo().addProperty(STATUS_PROPERTY, versionStatus);
     }
 
     private ItemVersionData mapToZusammenVersion(InternalVersion version) {
@@ -188,35 +309,24 @@ public class VersionZusammenDao implements VersionDao {
         return revision;
     }
 
+    private static boolean isBefore(com.amdocs.zusammen.datatypes.itemversion.Revision revision, Date before,
+            String beforeRevisionId) {
+        int timeOrder = revision.getTime().compareTo(before);
+        return timeOrder < 0 || (timeOrder == 0 && beforeRevisionId != null
+                                         && revision.getRevisionId().getValue().compareTo(beforeRevisionId) < 0);
+    }
+
     private int compareRevisionsTime(Revision revision1, Revision revision2) {
         return revision1.getTime().before(revision2.getTime()) ? 1 : -1;
     }
 
-    private static InternalVersion convertFromZusammen(ItemVersion itemVersion) {
-        if (itemVersion == null) {
-            return null;
-        }
-        InternalVersion version = new InternalVersion();
-        version.setId(itemVersion.getId().getValue());
-        if (itemVersion.getBaseId() != null) {
-            version.setBaseId(itemVersion.getBaseId().getValue());
-        }
-        version.setName(itemVersion.getData().getInfo().getName());
-        version.setDescription(itemVersion.getData().getInfo().getDescription());
-        version.setCreationTime(itemVersion.getCreationTime());
-        version.setModificationTime(itemVersion.getModificationTime());
-
-        itemVersion.getData().getInfo().getProperties()
-                .forEach((key, value) -> addPropertyToVersion(key, value, version));
-
+    private static InternalVersion convertFromZusammen(ItemVersion itemVersion, VersionState versionState) {
+        InternalVersion version = convertFromZusammen(itemVersion);
+        version.setState(versionState);
         return version;
     }
 
-    private static void addPropertyToVersion(String propertyKey, Object propertyValue, InternalVersion version) {
-        if (STATUS_PROPERTY.equals(propertyKey)) {
-            version.setStatus(VersionStatus.valueOf((String) propertyValue));
-        } else {
-            version.addProperty(propertyKey, propertyValue);
-        }
+    private static InternalVersion convertFromZusammen(ItemVersion itemVersion) {
+        return itemVersion == null ? null : new InfoBackedVersion(itemVersion);
     }
 }
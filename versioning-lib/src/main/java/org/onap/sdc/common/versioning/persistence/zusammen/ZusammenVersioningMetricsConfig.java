@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence.zusammen;
+
+import org.onap.sdc.common.versioning.services.VersioningMetrics;
+import org.onap.sdc.common.zusammen.metrics.ZusammenMetricsRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes the versioning metrics to the zusammen metrics registry, or nowhere when there is none.
+ */
+@Configuration
+public class ZusammenVersioningMetricsConfig {
+
+    @Bean
+    public VersioningMetrics versioningMetrics(ObjectProvider<ZusammenMetricsRegistry> metricsRegistry) {
+        ZusammenMetricsRegistry registry = metricsRegistry.getIfAvailable();
+        return registry == null ? VersioningMetrics.NONE : registry::gauge;
+    }
+}
@@ -17,14 +17,29 @@
 package org.onap.sdc.common.versioning.services;
 
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import org.onap.sdc.common.versioning.services.types.Item;
+import org.onap.sdc.common.versioning.services.types.ItemFilter;
 import org.onap.sdc.common.versioning.services.types.ItemStatus;
 
 public interface ItemManager {
 
     Collection<Item> list(Predicate<Item> predicate);
 
+    /**
+     * Streams the items matching the filter, which is applied by the persistence before items are loaded, and then
+     * the predicate.
+     */
+    Stream<Item> stream(ItemFilter filter, Predicate<Item> predicate);
+
+    /**
+     * Same as {@link #stream(ItemFilter, Predicate)}, returning the items in pages of at most the given size.
+     */
+    Iterator<List<Item>> list(ItemFilter filter, Predicate<Item> predicate, int pageSize);
+
     Item get(String itemId);
 
     Item create(Item item);
@@ -16,24 +16,45 @@
 
 package org.onap.sdc.common.versioning.services;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.onap.sdc.common.versioning.services.types.Revision;
 import org.onap.sdc.common.versioning.services.types.Version;
 import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
 import org.onap.sdc.common.versioning.services.types.VersionStatus;
+import org.onap.sdc.common.versioning.services.types.VersionsListing;
 
 public interface VersioningManager {
 
     List<Version> list(String itemId); // TODO: 5/24/2017 filter (by status for example)
 
+    /**
+     * Lists the versions of several items together. An item that fails to be listed is reported in the listing
+     * failures and does not fail the others.
+     */
+    VersionsListing listAll(Collection<String> itemIds);
+
     Version get(String itemId, String versionId);
 
     Version create(String itemId, String baseVersionId, Version version, VersionCreationMethod creationMethod);
 
     Version update(String itemId, String versionId, Version version);
 
+    /**
+     * Updates the status of a version, returning once the version is published and the item updated, also when the
+     * publish pipeline is enabled, and failing as they fail.
+     */
     void updateStatus(String itemId, String versionId, VersionStatus status, String message);
 
+    /**
+     * Updates the status of a version, returning once the change is durable in the private version. When the publish
+     * pipeline is enabled the version is then published and the item updated in the background, and the returned
+     * future completes once they are done, otherwise they are done before returning.
+     */
+    CompletableFuture<Void> updateStatusAsync(String itemId, String versionId, VersionStatus status, String message);
+
     void publish(String itemId, String versionId, String message);
 
     void sync(String itemId, String versionId);
@@ -44,5 +65,12 @@ public interface VersioningManager {
 
     List<Revision> listRevisions(String itemId, String versionId);
 
+    /**
+     * Lists a page of the revisions of a version, newest first and then by descending id: at most limit revisions
+     * after the given cursor, or the latest ones when its time is null. Pass the time and id of the last revision of
+     * a page to get the next one.
+     */
+    List<Revision> listRevisions(String itemId, String versionId, Date before, String beforeRevisionId, int limit);
+
     void clean(String itemId, String versionId);
 }
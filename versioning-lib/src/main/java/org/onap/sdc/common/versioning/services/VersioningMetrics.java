@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The metrics callback of the versioning services, which keeps them unaware of the metrics system the metrics are
+ * published to.
+ */
+@FunctionalInterface
+public interface VersioningMetrics {
+
+    VersioningMetrics NONE = (name, value) -> { };
+
+    /**
+     * Registers a gauge, the value supplier is called whenever the gauge is read.
+     */
+    void gauge(String name, LongSupplier value);
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import java.util.Map;
+import org.onap.sdc.common.session.SessionContext;
+import org.onap.sdc.common.session.SessionContextProvider;
+import org.slf4j.MDC;
+
+/**
+ * The session context and logging MDC of a thread submitting background work, captured when the work is submitted
+ * and applied while it runs, since the session context provider is thread bound.
+ */
+class CallerContext {
+
+    private final SessionContextProvider sessionContextProvider;
+    private final String userId;
+    private final String tenant;
+    private final Map<String, String> mdc;
+
+    private CallerContext(SessionContextProvider sessionContextProvider, SessionContext sessionContext,
+            Map<String, String> mdc) {
+        this.sessionContextProvider = sessionContextProvider;
+        this.userId = sessionContext.getUserId();
+        this.tenant = sessionContext.getTenant();
+        this.mdc = mdc;
+    }
+
+    static CallerContext capture(SessionContextProvider sessionContextProvider) {
+        return new CallerContext(sessionContextProvider, sessionContextProvider.get(), MDC.getCopyOfContextMap());
+    }
+
+    void run(Runnable action) {
+        Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+        setMdc(mdc);
+        sessionContextProvider.create(userId, tenant);
+        try {
+            action.run();
+        } finally {
+            sessionContextProvider.close();
+            setMdc(previousMdc);
+        }
+    }
+
+    private static void setMdc(Map<String, String> mdc) {
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
+import org.onap.sdc.common.versioning.services.types.VersionNumber;
+import org.springframework.stereotype.Service;
+
+/**
+ * Calendar versions, {@code {year}.{month}.{sequence}}. Whatever the creation method, a new version is the next one
+ * of the current month, its sequence following the versions of the item already created in the month. Without the
+ * existing versions, the sequence can only follow the base version, see
+ * {@link #calculate(String, VersionCreationMethod, Set)}.
+ */
+@Service
+public class DateVersionCalculatorImpl extends DottedVersionCalculator {
+
+    public static final String SCHEME = "date";
+
+    private static final int YEAR = 0;
+    private static final int MONTH = 1;
+    private static final int SEQUENCE = 2;
+
+    private final Clock clock;
+
+    public DateVersionCalculatorImpl() {
+        this(Clock.systemUTC());
+    }
+
+    DateVersionCalculatorImpl(Clock clock) {
+        super(3, EnumSet.of(VersionCreationMethod.major));
+        this.clock = clock;
+    }
+
+    @Override
+    public String getScheme() {
+        return SCHEME;
+    }
+
+    @Override
+    public String calculate(String baseVersion, VersionCreationMethod creationMethod, Set<String> existingVersions) {
+        VersionNumber next = next(baseVersion == null ? null : parse(baseVersion), creationMethod);
+        int sequence = next.getLevel(SEQUENCE);
+        for (String existingVersion : existingVersions) {
+            VersionNumber existing = tryParse(existingVersion);
+            if (existing != null && isSameMonth(existing, next) && existing.getLevel(SEQUENCE) >= sequence) {
+                sequence = existing.getLevel(SEQUENCE) + 1;
+            }
+        }
+        return VersionNumber.of(next.getLevel(YEAR), next.getLevel(MONTH), sequence).toString();
+    }
+
+    @Override
+    VersionNumber next(VersionNumber baseVersion, VersionCreationMethod creationMethod) {
+        LocalDate today = LocalDate.now(clock);
+        VersionNumber firstOfMonth = VersionNumber.of(today.getYear(), today.getMonthValue(), 1);
+        if (baseVersion != null && isSameMonth(baseVersion, firstOfMonth)) {
+            return VersionNumber.of(today.getYear(), today.getMonthValue(), baseVersion.getLevel(SEQUENCE) + 1);
+        }
+        return firstOfMonth;
+    }
+
+    private static boolean isSameMonth(VersionNumber version, VersionNumber otherVersion) {
+        return version.getLevel(YEAR) == otherVersion.getLevel(YEAR)
+                       && version.getLevel(MONTH) == otherVersion.getLevel(MONTH);
+    }
+}
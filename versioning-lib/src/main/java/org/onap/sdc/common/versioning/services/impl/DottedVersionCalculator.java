@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import org.onap.sdc.common.versioning.services.types.Version;
+import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
+import org.onap.sdc.common.versioning.services.types.VersionNumber;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
+
+/**
+ * Base of the calculators of schemes whose version names are a fixed number of dot separated integers, parsed as
+ * {@link VersionNumber}s. The optional creation methods of a certified version are the creation methods of the
+ * scheme whose next version does not exist yet.
+ */
+abstract class DottedVersionCalculator implements VersionCalculator {
+
+    private static final String OPTIONAL_CREATION_METHODS = "OptionalCreationMethods";
+    // the same few names are shared by the versions of all items, the bound only guards against arbitrary names
+    private static final int MAX_PARSED_NAMES = 10000;
+
+    private final int levelsCount;
+    private final EnumSet<VersionCreationMethod> creationMethods;
+    private final ConcurrentMap<String, VersionNumber> parsedNames = new ConcurrentHashMap<>();
+
+    DottedVersionCalculator(int levelsCount, Set<VersionCreationMethod> creationMethods) {
+        this.levelsCount = levelsCount;
+        this.creationMethods = EnumSet.copyOf(creationMethods);
+    }
+
+    /**
+     * Calculates the version following the given one, which is null for the first version of an item.
+     */
+    abstract VersionNumber next(VersionNumber baseVersion, VersionCreationMethod creationMethod);
+
+    @Override
+    public String calculate(String baseVersion, VersionCreationMethod creationMethod) {
+        return next(baseVersion == null ? null : parse(baseVersion), creationMethod).toString();
+    }
+
+    @Override
+    public void injectAdditionalInfo(Version version, Set<String> existingVersions) {
+        version.addProperty(OPTIONAL_CREATION_METHODS, getOptionalCreationMethods(version,
+                versionNumber -> existingVersions.contains(versionNumber.toString())));
+    }
+
+    @Override
+    public void injectAdditionalInfo(Collection<? extends Version> versions) {
+        Set<VersionNumber> existingVersions = new HashSet<>(Math.max(versions.size() * 2, 16));
+        for (Version version : versions) {
+            VersionNumber versionNumber = tryParse(version.getName());
+            if (versionNumber != null) {
+                existingVersions.add(versionNumber);
+            }
+        }
+        for (Version version : versions) {
+            version.addProperty(OPTIONAL_CREATION_METHODS,
+                    getOptionalCreationMethods(version, existingVersions::contains));
+        }
+    }
+
+    /**
+     * Parses a version name of the scheme, through a cache of the parsed names. Parsed names are shared, which
+     * {@link VersionNumber} being immutable allows.
+     *
+     * @throws IllegalArgumentException if the name is not of the scheme
+     */
+    VersionNumber parse(String versionName) {
+        VersionNumber versionNumber = versionName == null ? null : parsedNames.get(versionName);
+        if (versionNumber == null) {
+            versionNumber = VersionNumber.parse(versionName, levelsCount);
+            if (parsedNames.size() < MAX_PARSED_NAMES) {
+                parsedNames.putIfAbsent(versionName, versionNumber);
+            }
+        }
+        return versionNumber;
+    }
+
+    /**
+     * Parses a version name of the scheme, returning null if it is not of the scheme.
+     */
+    VersionNumber tryParse(String versionName) {
+        if (versionName == null) {
+            return null;
+        }
+        try {
+            return parse(versionName);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets a set of the optional creation methods of its own for the version, which its callers may modify.
+     */
+    private Set<VersionCreationMethod> getOptionalCreationMethods(Version version,
+            Predicate<VersionNumber> existingVersion) {
+        if (version.getStatus() != VersionStatus.Certified) {
+            return EnumSet.noneOf(VersionCreationMethod.class);
+        }
+        VersionNumber versionNumber = parse(version.getName());
+        EnumSet<VersionCreationMethod> optionalCreationMethods = EnumSet.copyOf(creationMethods);
+        optionalCreationMethods.removeIf(creationMethod -> existingVersion.test(next(versionNumber, creationMethod)));
+        return optionalCreationMethods;
+    }
+}
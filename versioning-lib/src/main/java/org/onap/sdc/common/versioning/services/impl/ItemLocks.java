@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import com.google.common.util.concurrent.Striped;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Striped locks serializing the read-modify-write cycles of an item (getting it, changing it and updating it as a
+ * whole), so that concurrent changes of the same item, such as status changes of several of its versions updating its
+ * version status counters, do not overwrite each other. Changes of items mapped to different stripes run concurrently.
+ * The locks are local to this process.
+ */
+@Component
+public class ItemLocks {
+
+    private final Striped<Lock> locks;
+
+    public ItemLocks(@Value("${versioning.items.lock-stripes:64}") int stripes) {
+        locks = Striped.lock(Math.max(stripes, 1));
+    }
+
+    public void runLocked(String itemId, Runnable action) {
+        callLocked(itemId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T callLocked(String itemId, Supplier<T> action) {
+        Lock lock = locks.get(itemId);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -16,14 +16,19 @@
 
 package org.onap.sdc.common.versioning.services.impl;
 
+import com.google.common.collect.Iterators;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.onap.sdc.common.versioning.persistence.ItemDao;
 import org.onap.sdc.common.versioning.persistence.types.InternalItem;
 import org.onap.sdc.common.versioning.services.ItemManager;
 import org.onap.sdc.common.versioning.services.exceptions.VersioningException;
 import org.onap.sdc.common.versioning.services.types.Item;
+import org.onap.sdc.common.versioning.services.types.ItemFilter;
 import org.onap.sdc.common.versioning.services.types.ItemStatus;
 import org.springframework.stereotype.Service;
 
@@ -31,15 +36,29 @@ import org.springframework.stereotype.Service;
 public class ItemManagerImpl implements ItemManager {
 
     private final ItemDao itemDao;
+    private final ItemLocks itemLocks;
 
-    public ItemManagerImpl(ItemDao itemDao) {
+    public ItemManagerImpl(ItemDao itemDao, ItemLocks itemLocks) {
         this.itemDao = itemDao;
-
+        this.itemLocks = itemLocks;
     }
 
     @Override
     public Collection<Item> list(Predicate<Item> predicate) {
-        return itemDao.list().stream().filter(predicate).collect(Collectors.toList());
+        return stream(ItemFilter.ALL, predicate).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Item> stream(ItemFilter filter, Predicate<Item> predicate) {
+        return itemDao.list(filter).map(Item.class::cast).filter(predicate);
+    }
+
+    @Override
+    public Iterator<List<Item>> list(ItemFilter filter, Predicate<Item> predicate, int pageSize) {
+        if (pageSize <= 0) {
+            throw new VersioningException(String.format("Page size must be positive, got %d", pageSize));
+        }
+        return Iterators.partition(stream(filter, predicate).iterator(), pageSize);
     }
 
     @Override
@@ -57,10 +76,12 @@ public class ItemManagerImpl implements ItemManager {
 
     @Override
     public Item update(String itemId, Item item) {
-        InternalItem internalItem = getItem(itemId);
-        internalItem.populateExternalFields(item);
-        itemDao.update(internalItem);
-        return internalItem;
+        return itemLocks.callLocked(itemId, () -> {
+            InternalItem internalItem = getItemForUpdate(itemId);
+            internalItem.populateExternalFields(item);
+            itemDao.update(internalItem);
+            return internalItem;
+        });
     }
 
     @Override
@@ -70,18 +91,21 @@ public class ItemManagerImpl implements ItemManager {
 
     @Override
     public void updateStatus(String itemId, ItemStatus status) {
-        InternalItem item = getItem(itemId);
-        if (item.getStatus() == status) {
-            throw new VersioningException(
-                    String.format("Update status of item %s failed, it is already in status %s", item.getId(), status));
-        }
+        itemLocks.runLocked(itemId, () -> {
+            InternalItem item = getItemForUpdate(itemId);
+            if (item.getStatus() == status) {
+                throw new VersioningException(
+                        String.format("Update status of item %s failed, it is already in status %s", item.getId(),
+                                status));
+            }
 
-        item.setStatus(status);
-        itemDao.update(item);
+            item.setStatus(status);
+            itemDao.update(item);
+        });
     }
 
-    private InternalItem getItem(String itemId) {
-        InternalItem item = itemDao.get(itemId);
+    private InternalItem getItemForUpdate(String itemId) {
+        InternalItem item = itemDao.getForUpdate(itemId);
         if (item == null) {
             throw new VersioningException(String.format("Item with Id %s does not exist", itemId));
         }
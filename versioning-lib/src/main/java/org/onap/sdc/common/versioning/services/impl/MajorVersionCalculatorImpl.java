@@ -16,54 +16,33 @@
 
 package org.onap.sdc.common.versioning.services.impl;
 
-import org.onap.sdc.common.versioning.services.types.Version;
+import java.util.EnumSet;
 import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
-import org.onap.sdc.common.versioning.services.types.VersionStatus;
+import org.onap.sdc.common.versioning.services.types.VersionNumber;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
-import java.util.Set;
-
+/**
+ * The default versioning scheme, {@code {major}.{minor}}, in which a version is created from a certified one as its
+ * next major version. The primary version calculator, for the components injecting a single one.
+ */
 @Service
-public class MajorVersionCalculatorImpl implements VersionCalculator {
-
-    private static final String INITIAL_VERSION = "0.0";
-    private static final String VERSION_STRING_VIOLATION_MSG =
-            "Version string must be in the format of: {integer}.{integer}";
-
-    @Override
-    public String calculate(String baseVersion, VersionCreationMethod creationMethod) {
-
-        if (baseVersion == null) {
-            baseVersion = INITIAL_VERSION;
-        }
+@Primary
+public class MajorVersionCalculatorImpl extends DottedVersionCalculator {
 
-        String[] versionLevels = baseVersion.split("\\.");
-        if (versionLevels.length != 2) {
-            throw new IllegalArgumentException(VERSION_STRING_VIOLATION_MSG);
-        }
+    public static final String SCHEME = "major";
 
-        int majorIndex = Integer.parseInt(versionLevels[0]);
-        int minorIndex = Integer.parseInt(versionLevels[1]);
-        if (creationMethod.equals(VersionCreationMethod.major)) {
-            majorIndex++;
-            minorIndex = 0;
-        } else {
-            minorIndex++;
-        }
+    public MajorVersionCalculatorImpl() {
+        super(2, EnumSet.of(VersionCreationMethod.major));
+    }
 
-        return majorIndex + "." + minorIndex;
+    @Override
+    public String getScheme() {
+        return SCHEME;
     }
 
     @Override
-    public void injectAdditionalInfo(Version version, Set<String> existingVersions) {
-        Set<VersionCreationMethod> optionalCreationMethods = new HashSet<>();
-        if (version.getStatus().equals(VersionStatus.Certified)) {
-            String nextVersion = calculate(version.getName(), VersionCreationMethod.major);
-            if (!existingVersions.contains(nextVersion)) {
-                optionalCreationMethods.add(VersionCreationMethod.major);
-            }
-        }
-        version.addProperty("OptionalCreationMethods", optionalCreationMethods);
+    VersionNumber next(VersionNumber baseVersion, VersionCreationMethod creationMethod) {
+        return (baseVersion == null ? VersionNumber.INITIAL : baseVersion).next(creationMethod);
     }
 }
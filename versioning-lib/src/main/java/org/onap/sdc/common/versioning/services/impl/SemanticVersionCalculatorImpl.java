@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import java.util.EnumSet;
+import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
+import org.onap.sdc.common.versioning.services.types.VersionNumber;
+import org.springframework.stereotype.Service;
+
+/**
+ * Semantic versions, {@code {major}.{minor}.{patch}}, the first being 1.0.0 for a major creation.
+ */
+@Service
+public class SemanticVersionCalculatorImpl extends DottedVersionCalculator {
+
+    public static final String SCHEME = "semantic";
+
+    private static final VersionNumber INITIAL = VersionNumber.of(0, 0, 0);
+
+    public SemanticVersionCalculatorImpl() {
+        super(3, EnumSet.allOf(VersionCreationMethod.class));
+    }
+
+    @Override
+    public String getScheme() {
+        return SCHEME;
+    }
+
+    @Override
+    VersionNumber next(VersionNumber baseVersion, VersionCreationMethod creationMethod) {
+        return (baseVersion == null ? INITIAL : baseVersion).next(creationMethod);
+    }
+}
@@ -16,13 +16,38 @@
 
 package org.onap.sdc.common.versioning.services.impl;
 
+import java.util.Collection;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.onap.sdc.common.versioning.services.types.Version;
 import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
 
 public interface VersionCalculator {
 
+    /**
+     * The name of the versioning scheme of the calculator, by which item types are configured to use it.
+     */
+    default String getScheme() {
+        return getClass().getName();
+    }
+
     String calculate(String baseVersion, VersionCreationMethod creationMethod);
 
+    /**
+     * Calculates the name of a new version of an item knowing the names of its existing versions, for schemes whose
+     * next name depends on the other versions of the item and not only on the base one.
+     */
+    default String calculate(String baseVersion, VersionCreationMethod creationMethod, Set<String> existingVersions) {
+        return calculate(baseVersion, creationMethod);
+    }
+
     void injectAdditionalInfo(Version version, Set<String> existingVersions);
+
+    /**
+     * Injects the additional info of all the versions of an item at once.
+     */
+    default void injectAdditionalInfo(Collection<? extends Version> versions) {
+        Set<String> existingVersions = versions.stream().map(Version::getName).collect(Collectors.toSet());
+        versions.forEach(version -> injectAdditionalInfo(version, existingVersions));
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import com.google.common.base.Splitter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the version calculator of an item by the item type. Item types are mapped to versioning schemes in a
+ * comma separated list of {@code itemType:scheme} pairs, and items of other types use the default scheme.
+ */
+@Component
+public class VersionCalculatorRegistry {
+
+    private final VersionCalculator defaultCalculator;
+    private final Map<String, VersionCalculator> calculatorsByItemType;
+
+    public VersionCalculatorRegistry(List<VersionCalculator> calculators,
+            @Value("${versioning.version-schemes.default:major}") String defaultScheme,
+            @Value("${versioning.version-schemes.by-item-type:}") String schemesByItemType) {
+        Map<String, VersionCalculator> calculatorsByScheme = new HashMap<>();
+        for (VersionCalculator calculator : calculators) {
+            if (calculatorsByScheme.putIfAbsent(calculator.getScheme(), calculator) != null) {
+                throw new IllegalArgumentException(
+                        String.format("More than one version calculator of the scheme %s", calculator.getScheme()));
+            }
+        }
+        this.defaultCalculator = getCalculator(calculatorsByScheme, defaultScheme);
+
+        Map<String, VersionCalculator> byItemType = new HashMap<>();
+        Splitter.on(',').trimResults().omitEmptyStrings().withKeyValueSeparator(Splitter.on(':').trimResults())
+                .split(schemesByItemType)
+                .forEach((itemType, scheme) -> byItemType.put(itemType, getCalculator(calculatorsByScheme, scheme)));
+        this.calculatorsByItemType = Collections.unmodifiableMap(byItemType);
+    }
+
+    public VersionCalculator getDefault() {
+        return defaultCalculator;
+    }
+
+    public VersionCalculator get(String itemType) {
+        VersionCalculator calculator = itemType == null ? null : calculatorsByItemType.get(itemType);
+        return calculator == null ? defaultCalculator : calculator;
+    }
+
+    /**
+     * Resolves the calculator of an item, loading its type only if some item type has its own scheme.
+     */
+    public VersionCalculator get(Supplier<String> itemTypeLoader) {
+        return calculatorsByItemType.isEmpty() ? defaultCalculator : get(itemTypeLoader.get());
+    }
+
+    private static VersionCalculator getCalculator(Map<String, VersionCalculator> calculatorsByScheme,
+            String scheme) {
+        VersionCalculator calculator = calculatorsByScheme.get(scheme);
+        if (calculator == null) {
+            throw new IllegalArgumentException(
+                    String.format("No version calculator of the scheme %s, known schemes are %s", scheme,
+                            calculatorsByScheme.keySet()));
+        }
+        return calculator;
+    }
+}
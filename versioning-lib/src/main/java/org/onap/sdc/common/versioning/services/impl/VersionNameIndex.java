@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import com.google.common.cache.CacheBuilder;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.onap.sdc.common.versioning.services.types.Version;
+
+/**
+ * Holds the names of the versions of an item, loaded from the item version listing on first use and then maintained
+ * as versions are created, so that a name already taken is rejected without listing the versions again. The index
+ * misses the versions created on other nodes until it is refreshed, after a sync or a listing, or expires, so a name
+ * missing from it is only reserved once confirmed against a fresh listing.
+ */
+class VersionNameIndex {
+
+    private final ConcurrentMap<String, Set<String>> namesByItem;
+
+    VersionNameIndex(long maxSize, long ttlSeconds) {
+        namesByItem = CacheBuilder.newBuilder().maximumSize(Math.max(maxSize, 0))
+                              .expireAfterWrite(Math.max(ttlSeconds, 0), TimeUnit.SECONDS)
+                              .<String, Set<String>>build().asMap();
+    }
+
+    /**
+     * Reserves the name for a version being created, returning false if the item already has a version with it. The
+     * loader is called for a name that is not indexed, and should list the versions as currently persisted.
+     */
+    boolean reserve(String itemId, String versionName,
+            Supplier<? extends Collection<? extends Version>> versionsLoader) {
+        Set<String> names = namesByItem.get(itemId);
+        if (names != null && names.contains(versionName)) {
+            return false;
+        }
+        return namesByItem.merge(itemId, toNames(versionsLoader.get()), VersionNameIndex::union).add(versionName);
+    }
+
+    /**
+     * Returns the names of the versions of the item, including the reserved ones.
+     */
+    Set<String> get(String itemId, Supplier<? extends Collection<? extends Version>> versionsLoader) {
+        return Collections.unmodifiableSet(getOrLoad(itemId, versionsLoader));
+    }
+
+    void release(String itemId, String versionName) {
+        Set<String> names = namesByItem.get(itemId);
+        if (names != null) {
+            names.remove(versionName);
+        }
+    }
+
+    /**
+     * Adds the names of the listed versions, keeping the names reserved by the creations still in progress.
+     */
+    void refresh(String itemId, Collection<? extends Version> versions) {
+        namesByItem.merge(itemId, toNames(versions), VersionNameIndex::union);
+    }
+
+    void invalidate(String itemId) {
+        namesByItem.remove(itemId);
+    }
+
+    private Set<String> getOrLoad(String itemId, Supplier<? extends Collection<? extends Version>> versionsLoader) {
+        Set<String> names = namesByItem.get(itemId);
+        if (names == null) {
+            // loaded outside of the map, whose lock would otherwise block the other items while listing
+            names = namesByItem.merge(itemId, toNames(versionsLoader.get()), VersionNameIndex::union);
+        }
+        return names;
+    }
+
+    private static Set<String> union(Set<String> names, Set<String> loadedNames) {
+        names.addAll(loadedNames);
+        return names;
+    }
+
+    private static Set<String> toNames(Collection<? extends Version> versions) {
+        Set<String> names = ConcurrentHashMap.newKeySet(Math.max(versions.size() * 2, 16));
+        for (Version version : versions) {
+            if (version.getName() != null) {
+                names.add(version.getName());
+            }
+        }
+        return names;
+    }
+}
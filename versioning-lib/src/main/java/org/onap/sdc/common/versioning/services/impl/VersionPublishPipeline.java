@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PreDestroy;
+import org.onap.sdc.common.session.SessionContextProvider;
+import org.onap.sdc.common.versioning.services.VersioningMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the work that follows a durable version change (publishing it, updating the item) in the background. The
+ * tasks of an item run one after the other in submission order, those of different items run concurrently. A failing
+ * step is retried with a growing delay, and the task is failed, skipping its remaining steps, once it runs out of
+ * attempts. The session context and logging MDC of the submitting thread are applied while a task runs.
+ */
+@Component
+public class VersionPublishPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VersionPublishPipeline.class);
+    private static final String METRIC_PREFIX = "versioning.publish-pipeline.";
+
+    private final SessionContextProvider sessionContextProvider;
+    private final boolean enabled;
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+    // null when disabled
+    private final ScheduledThreadPoolExecutor executor;
+    // the completion of the last task submitted per item, which the next task of the item runs after
+    private final ConcurrentMap<String, CompletableFuture<Void>> lastTaskByItem = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public VersionPublishPipeline(SessionContextProvider sessionContextProvider,
+            VersioningMetrics metrics,
+            @Value("${versioning.publish.pipeline.enabled:false}") boolean enabled,
+            @Value("${versioning.publish.pipeline.threads:4}") int threads,
+            @Value("${versioning.publish.pipeline.max-attempts:3}") int maxAttempts,
+            @Value("${versioning.publish.pipeline.retry-delay-millis:500}") long retryDelayMillis) {
+        this.sessionContextProvider = sessionContextProvider;
+        this.enabled = enabled;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retryDelayMillis = Math.max(retryDelayMillis, 0);
+        this.executor = enabled ? new ScheduledThreadPoolExecutor(Math.max(threads, 1),
+                new ThreadFactoryBuilder().setNameFormat("versioning-publish-%d").setDaemon(true).build()) : null;
+        if (enabled) {
+            metrics.gauge(METRIC_PREFIX + "queue-depth", this::getQueueDepth);
+            metrics.gauge(METRIC_PREFIX + "retries", retries::sum);
+            metrics.gauge(METRIC_PREFIX + "failures", failures::sum);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            // the queued tasks still run, the ones submitted from now on are failed
+            executor.shutdown();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Number of tasks submitted and not completed yet, including the running ones.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Runs the given steps of an item, in order, after the tasks previously submitted for the item. The returned
+     * future completes once all the steps are done, or exceptionally with the exception of the step that ran out of
+     * attempts.
+     */
+    public CompletableFuture<Void> submit(String itemId, Runnable... steps) {
+        if (!enabled) {
+            throw new IllegalStateException("The version publish pipeline is disabled");
+        }
+        Task task = new Task(itemId, CallerContext.capture(sessionContextProvider), steps);
+        queueDepth.incrementAndGet();
+        lastTaskByItem.compute(itemId, (id, lastTask) -> {
+            if (lastTask == null) {
+                execute(task, 0);
+            } else {
+                // runs whether the previous task succeeded or not, its failure was already reported
+                lastTask.whenComplete((result, throwable) -> execute(task, 0));
+            }
+            return task.completion;
+        });
+        return task.completion.whenComplete((result, throwable) -> {
+            lastTaskByItem.remove(itemId, task.completion);
+            queueDepth.decrementAndGet();
+        });
+    }
+
+    private void execute(Task task, long delayMillis) {
+        try {
+            if (delayMillis == 0) {
+                executor.execute(() -> run(task));
+            } else {
+                executor.schedule(() -> run(task), delayMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            task.completion.completeExceptionally(e);
+        }
+    }
+
+    private void run(Task task) {
+        task.callerContext.run(() -> {
+            try {
+                while (task.nextStep < task.steps.length) {
+                    task.steps[task.nextStep].run();
+                    task.nextStep++;
+                    task.failedAttempts = 0;
+                }
+                task.completion.complete(null);
+            } catch (RuntimeException e) {
+                task.failedAttempts++;
+                if (task.failedAttempts < maxAttempts) {
+                    retries.increment();
+                    LOGGER.warn("Item {}: step {} of a version publish task failed, attempt {} of {}", task.itemId,
+                            task.nextStep + 1, task.failedAttempts, maxAttempts, e);
+                    execute(task, Math.max(retryDelayMillis * task.failedAttempts, 1));
+                } else {
+                    failures.increment();
+                    LOGGER.error("Item {}: step {} of a version publish task failed after {} attempts, giving up",
+                            task.itemId, task.nextStep + 1, maxAttempts, e);
+                    task.completion.completeExceptionally(e);
+                }
+            } catch (Error e) {
+                task.completion.completeExceptionally(e);
+                throw e;
+            }
+        });
+    }
+
+    private static class Task {
+
+        private final String itemId;
+        private final CallerContext callerContext;
+        private final Runnable[] steps;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        // only accessed by the thread running the task, the executor hand off publishes them to the next attempt
+        private int nextStep;
+        private int failedAttempts;
+
+        private Task(String itemId, CallerContext callerContext, Runnable[] steps) {
+            this.itemId = itemId;
+            this.callerContext = callerContext;
+            this.steps = steps.clone();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.onap.sdc.common.session.SessionContextProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the syncs of versions read in lazy sync mode in the background, so that reading a version returns its public
+ * snapshot at once instead of waiting for the sync. A sync requested while another one of the same version is
+ * pending joins it, so many readers of an out of sync version cause a single sync. A failed sync is only logged, the
+ * next read of the version requests it again.
+ */
+@Component
+public class VersionSyncScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VersionSyncScheduler.class);
+
+    private final SessionContextProvider sessionContextProvider;
+    private final boolean lazy;
+    // null when not lazy
+    private final ThreadPoolExecutor executor;
+    // the pending syncs, by item and version ids
+    private final ConcurrentMap<List<String>, CompletableFuture<Void>> pendingSyncs = new ConcurrentHashMap<>();
+
+    public VersionSyncScheduler(SessionContextProvider sessionContextProvider,
+            @Value("${versioning.versions.sync.lazy:false}") boolean lazy,
+            @Value("${versioning.versions.sync.threads:2}") int threads) {
+        this.sessionContextProvider = sessionContextProvider;
+        this.lazy = lazy;
+        int poolSize = Math.max(threads, 1);
+        this.executor = lazy ? new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("versioning-sync-%d").setDaemon(true).build()) : null;
+        if (executor != null) {
+            executor.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public int getPendingSyncs() {
+        return pendingSyncs.size();
+    }
+
+    /**
+     * Schedules the given sync of a version, unless a sync of the version is already pending, in which case the
+     * future of the pending one is returned.
+     */
+    public CompletableFuture<Void> schedule(String itemId, String versionId, Runnable sync) {
+        if (!lazy) {
+            throw new IllegalStateException("Versions are not synced lazily");
+        }
+        CallerContext callerContext = CallerContext.capture(sessionContextProvider);
+        List<String> key = Arrays.asList(itemId, versionId);
+        CompletableFuture<Void> scheduledSync = new CompletableFuture<>();
+        CompletableFuture<Void> pendingSync = pendingSyncs.putIfAbsent(key, scheduledSync);
+        if (pendingSync != null) {
+            return pendingSync;
+        }
+        try {
+            executor.execute(() -> callerContext.run(() -> {
+                try {
+                    sync.run();
+                    complete(key, scheduledSync, null);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Item {}: background sync of version {} failed", itemId, versionId, e);
+                    complete(key, scheduledSync, e);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            complete(key, scheduledSync, e);
+        }
+        return scheduledSync;
+    }
+
+    private void complete(List<String> key, CompletableFuture<Void> scheduledSync, Throwable failure) {
+        // no longer pending once completed, so that a sync requested upon completion is not joined to this one
+        pendingSyncs.remove(key, scheduledSync);
+        if (failure == null) {
+            scheduledSync.complete(null);
+        } else {
+            scheduledSync.completeExceptionally(failure);
+        }
+    }
+}
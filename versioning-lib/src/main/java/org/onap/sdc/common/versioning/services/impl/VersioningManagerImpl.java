@@ -20,8 +20,16 @@ package org.onap.sdc.common.versioning.services.impl;
 import static org.onap.sdc.common.versioning.services.types.VersionStatus.Certified;
 import static org.onap.sdc.common.versioning.services.types.VersionStatus.Draft;
 
+import com.google.common.base.Suppliers;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.onap.sdc.common.versioning.persistence.ItemDao;
 import org.onap.sdc.common.versioning.persistence.VersionDao;
@@ -34,6 +42,8 @@ import org.onap.sdc.common.versioning.services.types.SynchronizationState;
 import org.onap.sdc.common.versioning.services.types.Version;
 import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
 import org.onap.sdc.common.versioning.services.types.VersionStatus;
+import org.onap.sdc.common.versioning.services.types.VersionsListing;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -41,26 +51,50 @@ public class VersioningManagerImpl implements VersioningManager {
 
     private final ItemDao itemDao;
     private final VersionDao versionDao;
-    private final VersionCalculator versionCalculator;
-
-    public VersioningManagerImpl(VersionDao versionDao, VersionCalculator versionCalculator, ItemDao itemDao) {
+    private final VersionCalculatorRegistry versionCalculators;
+    private final VersionNameIndex versionNameIndex;
+    private final VersionPublishPipeline publishPipeline;
+    private final ItemLocks itemLocks;
+    private final VersionSyncScheduler syncScheduler;
+
+    public VersioningManagerImpl(VersionDao versionDao, VersionCalculatorRegistry versionCalculators, ItemDao itemDao,
+            VersionPublishPipeline publishPipeline, ItemLocks itemLocks, VersionSyncScheduler syncScheduler,
+            @Value("${versioning.versions.names-index.max-size:10000}") long namesIndexMaxSize,
+            @Value("${versioning.versions.names-index.ttl-seconds:60}") long namesIndexTtlSeconds) {
         this.itemDao = itemDao;
         this.versionDao = versionDao;
-        this.versionCalculator = versionCalculator;
+        this.versionCalculators = versionCalculators;
+        this.versionNameIndex = new VersionNameIndex(namesIndexMaxSize, namesIndexTtlSeconds);
+        this.publishPipeline = publishPipeline;
+        this.itemLocks = itemLocks;
+        this.syncScheduler = syncScheduler;
     }
 
 
     @Override
     public List<Version> list(String itemId) {
-        List<InternalVersion> versions = versionDao.list(itemId);
-        Set<String> versionsNames = versions.stream().map(Version::getName).collect(Collectors.toSet());
-        versions.forEach(version -> versionCalculator.injectAdditionalInfo(version, versionsNames));
-        return versions.stream().map(version -> (Version) version).collect(Collectors.toList());
+        return toVersions(itemId, versionDao.list(itemId));
+    }
+
+    @Override
+    public VersionsListing listAll(Collection<String> itemIds) {
+        Map<String, List<Version>> versions = new LinkedHashMap<>();
+        Map<String, RuntimeException> failures = new LinkedHashMap<>();
+        versionDao.listAll(itemIds).forEach((itemId, itemVersions) -> {
+            try {
+                versions.put(itemId, toVersions(itemId, itemVersions.join()));
+            } catch (CompletionException e) {
+                failures.put(itemId, e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e);
+            } catch (RuntimeException e) {
+                failures.put(itemId, e);
+            }
+        });
+        return new VersionsListing(versions, failures);
     }
 
     @Override
     public Version get(String itemId, String versionId) {
-        return getVersion(itemId, versionId);
+        return getVersion(itemId, versionId, syncScheduler.isLazy());
     }
 
     @Override
@@ -76,11 +110,20 @@ public class VersioningManagerImpl implements VersioningManager {
             validateBaseVersion(itemId, baseVersion);
             baseVersionName = baseVersion.getName();
         }
-        String versionName = versionCalculator.calculate(baseVersionName, creationMethod);
-        validateVersionName(itemId, versionName);
+        // listed at most once per creation, when the names are not indexed yet or the name is not indexed
+        Supplier<List<InternalVersion>> versionsLoader = Suppliers.memoize(() -> versionDao.list(itemId));
+        String versionName = getVersionCalculator(itemId).calculate(baseVersionName, creationMethod,
+                versionNameIndex.get(itemId, versionsLoader));
+        reserveVersionName(itemId, versionName, versionsLoader);
         internalVersion.setName(versionName);
 
-        InternalVersion createdVersion = versionDao.create(itemId, internalVersion);
+        InternalVersion createdVersion;
+        try {
+            createdVersion = versionDao.create(itemId, internalVersion);
+        } catch (RuntimeException e) {
+            versionNameIndex.release(itemId, versionName);
+            throw e;
+        }
 
         updateStatusOnItem(itemId, Draft, null);
 
@@ -98,6 +141,19 @@ public class VersioningManagerImpl implements VersioningManager {
 
     @Override
     public void updateStatus(String itemId, String versionId, VersionStatus status, String message) {
+        try {
+            updateStatusAsync(itemId, versionId, status, message).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> updateStatusAsync(String itemId, String versionId, VersionStatus status,
+        String message) {
         InternalVersion version = getVersion(itemId, versionId);
 
         VersionStatus prevStatus = version.getStatus();
@@ -110,9 +166,14 @@ public class VersioningManagerImpl implements VersioningManager {
         version.setStatus(status);
         versionDao.update(itemId, version);
 
+        if (publishPipeline.isEnabled()) {
+            return publishPipeline.submit(itemId, () -> publish(itemId, versionId, message),
+                () -> updateStatusOnItem(itemId, status, prevStatus));
+        }
         publish(itemId, versionId, message);
 
         updateStatusOnItem(itemId, status, prevStatus);
+        return CompletableFuture.completedFuture(null);
     }
 
     @Override
@@ -123,11 +184,13 @@ public class VersioningManagerImpl implements VersioningManager {
     @Override
     public void sync(String itemId, String versionId) {
         versionDao.sync(itemId, versionId);
+        versionNameIndex.invalidate(itemId);
     }
 
     @Override
     public void forceSync(String itemId, String versionId) {
         versionDao.forceSync(itemId, versionId);
+        versionNameIndex.invalidate(itemId);
     }
 
     @Override
@@ -140,20 +203,58 @@ public class VersioningManagerImpl implements VersioningManager {
         return versionDao.listRevisions(itemId, versionId);
     }
 
+    @Override
+    public List<Revision> listRevisions(String itemId, String versionId, Date before, String beforeRevisionId,
+        int limit) {
+        if (limit <= 0) {
+            throw new VersioningException(
+                String.format("Item %s: list revisions of version %s failed, limit must be positive", itemId,
+                    versionId));
+        }
+        return versionDao.listRevisions(itemId, versionId, before, beforeRevisionId, limit);
+    }
+
     @Override
     public void clean(String itemId, String versionId) {
         versionDao.clean(itemId, versionId);
     }
 
+    private List<Version> toVersions(String itemId, List<InternalVersion> versions) {
+        versionNameIndex.refresh(itemId, versions);
+        getVersionCalculator(itemId).injectAdditionalInfo(versions);
+        return versions.stream().map(version -> (Version) version).collect(Collectors.toList());
+    }
+
+    private VersionCalculator getVersionCalculator(String itemId) {
+        return versionCalculators.get(() -> {
+            InternalItem item = itemDao.get(itemId);
+            return item == null ? null : item.getType();
+        });
+    }
+
     private InternalVersion getVersion(String itemId, String versionId) {
+        return getVersion(itemId, versionId, false);
+    }
+
+    /**
+     * Gets a version, syncing it first when needed. With lazy sync, used for plain reads only, the version is returned
+     * as is, or as its public snapshot when missing privately, and synced in the background.
+     */
+    private InternalVersion getVersion(String itemId, String versionId, boolean lazySync) {
         return versionDao.get(itemId, versionId)
-            .map(retrievedVersion -> getUpdateRetrievedVersion(itemId, retrievedVersion))
-            .orElseGet(() -> getSyncedVersion(itemId, versionId));
+            .map(retrievedVersion -> getUpdateRetrievedVersion(itemId, retrievedVersion, lazySync))
+            .orElseGet(() -> getSyncedVersion(itemId, versionId, lazySync));
     }
 
-    private InternalVersion getUpdateRetrievedVersion(String itemId, InternalVersion version) {
+    private InternalVersion getUpdateRetrievedVersion(String itemId, InternalVersion version, boolean lazySync) {
         if (version.getStatus() == Certified
             && version.getState().getSynchronizationState() == SynchronizationState.OutOfSync) {
+            if (lazySync) {
+                // the status was already read from the public version, only the content is behind
+                String versionId = version.getId();
+                syncScheduler.schedule(itemId, versionId, () -> forceSync(itemId, versionId));
+                return version;
+            }
             forceSync(itemId, version.getId());
             version = versionDao.get(itemId, version.getId()).orElseThrow(() -> new IllegalStateException(
                 "Get version after a successful force sync must return the version"));
@@ -161,7 +262,14 @@ public class VersioningManagerImpl implements VersioningManager {
         return version;
     }
 
-    private InternalVersion getSyncedVersion(String itemId, String versionId) {
+    private InternalVersion getSyncedVersion(String itemId, String versionId, boolean lazySync) {
+        if (lazySync) {
+            Optional<InternalVersion> publicVersion = versionDao.getPublic(itemId, versionId);
+            if (publicVersion.isPresent()) {
+                syncScheduler.schedule(itemId, versionId, () -> sync(itemId, versionId));
+                return publicVersion.get();
+            }
+        }
         sync(itemId, versionId);
         return versionDao.get(itemId, versionId).orElseThrow(
             () -> new IllegalStateException("Get version after a successful sync must return the version"));
@@ -174,8 +282,9 @@ public class VersioningManagerImpl implements VersioningManager {
         }
     }
 
-    private void validateVersionName(String itemId, String versionName) {
-        if (versionDao.list(itemId).stream().anyMatch(version -> versionName.equals(version.getName()))) {
+    private void reserveVersionName(String itemId, String versionName,
+            Supplier<List<InternalVersion>> versionsLoader) {
+        if (!versionNameIndex.reserve(itemId, versionName, versionsLoader)) {
             throw new VersioningException(
                 String.format("Item %s: create version failed, a version with the name %s already exist", itemId,
                     versionName));
@@ -184,14 +293,16 @@ public class VersioningManagerImpl implements VersioningManager {
 
     private void updateStatusOnItem(String itemId, VersionStatus addedVersionStatus,
         VersionStatus removedVersionStatus) {
-        InternalItem item = itemDao.get(itemId);
-        if (item == null) {
-            throw new VersioningException(String.format("Item with Id %s does not exist", itemId));
-        }
-        item.addVersionStatus(addedVersionStatus);
-        if (removedVersionStatus != null) {
-            item.removeVersionStatus(removedVersionStatus);
-        }
-        itemDao.update(item);
+        itemLocks.runLocked(itemId, () -> {
+            InternalItem item = itemDao.getForUpdate(itemId);
+            if (item == null) {
+                throw new VersioningException(String.format("Item with Id %s does not exist", itemId));
+            }
+            item.addVersionStatus(addedVersionStatus);
+            if (removedVersionStatus != null) {
+                item.removeVersionStatus(removedVersionStatus);
+            }
+            itemDao.update(item);
+        });
     }
 }
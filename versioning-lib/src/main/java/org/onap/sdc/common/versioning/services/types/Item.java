@@ -57,4 +57,12 @@ public class Item {
     public <T> T getProperty(String key) {
         return (T) properties.get(key);
     }
+
+    /**
+     * Moves the properties to a {@link CompactProperties}, trading hash lookups for a smaller footprint, for items
+     * that are held for long such as cached ones. The properties are read and added as before.
+     */
+    public void compactProperties() {
+        properties = new CompactProperties(getProperties());
+    }
 }
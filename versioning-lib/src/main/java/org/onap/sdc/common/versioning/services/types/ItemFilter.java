@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.types;
+
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * Criteria on the item fields every item persistence can evaluate before the item is fully loaded. A criterion left
+ * null matches any item.
+ */
+@Getter
+public final class ItemFilter {
+
+    public static final ItemFilter ALL = new ItemFilter(null, null, null);
+
+    private final String type;
+    private final String owner;
+    private final ItemStatus status;
+
+    private ItemFilter(String type, String owner, ItemStatus status) {
+        this.type = type;
+        this.owner = owner;
+        this.status = status;
+    }
+
+    public ItemFilter withType(String type) {
+        return new ItemFilter(type, owner, status);
+    }
+
+    public ItemFilter withOwner(String owner) {
+        return new ItemFilter(type, owner, status);
+    }
+
+    public ItemFilter withStatus(ItemStatus status) {
+        return new ItemFilter(type, owner, status);
+    }
+
+    public boolean isAll() {
+        return type == null && owner == null && status == null;
+    }
+
+    public boolean matches(String itemType, String itemOwner, ItemStatus itemStatus) {
+        return (type == null || type.equals(itemType)) && (owner == null || owner.equals(itemOwner))
+                       && (status == null || status == itemStatus);
+    }
+
+    public boolean matches(Item item) {
+        return matches(item.getType(), item.getOwner(), item.getStatus());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ItemFilter that = (ItemFilter) o;
+        return Objects.equals(type, that.type) && Objects.equals(owner, that.owner) && status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, owner, status);
+    }
+
+    @Override
+    public String toString() {
+        return "ItemFilter{type=" + type + ", owner=" + owner + ", status=" + status + '}';
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.onap.sdc.common.versioning.services.types;
 
+import java.util.Comparator;
 import java.util.Date;
 import lombok.Getter;
 import lombok.Setter;
@@ -24,6 +25,12 @@ import lombok.Setter;
 @Setter
 public class Revision {
 
+    /**
+     * Orders revisions newest first, the revisions of the same time by descending id so that the order is total.
+     */
+    public static final Comparator<Revision> NEWEST_FIRST =
+            Comparator.comparing(Revision::getTime).thenComparing(Revision::getId).reversed();
+
     private String id;
     private String message;
     private Date time;
@@ -17,5 +17,5 @@
 package org.onap.sdc.common.versioning.services.types;
 
 public enum VersionCreationMethod {
-    major, minor
+    major, minor, patch
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.types;
+
+import java.util.Arrays;
+
+/**
+ * A parsed version name, made of dot separated non negative integers from the major level down. Names are of the form
+ * {@code {major}.{minor}} unless parsed with another number of levels.
+ */
+public final class VersionNumber implements Comparable<VersionNumber> {
+
+    public static final VersionNumber INITIAL = new VersionNumber(0, 0);
+
+    private static final int MAJOR_AND_MINOR = 2;
+
+    private final int[] levels;
+
+    public VersionNumber(int major, int minor) {
+        this.levels = new int[] {major, minor};
+    }
+
+    private VersionNumber(int[] levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * Creates a version number of the given levels, from the major one on.
+     */
+    public static VersionNumber of(int... levels) {
+        if (levels.length == 0) {
+            throw new IllegalArgumentException("A version number has at least one level");
+        }
+        return new VersionNumber(levels.clone());
+    }
+
+    /**
+     * Parses a version name.
+     *
+     * @throws IllegalArgumentException if the name is not of the form {@code {integer}.{integer}}
+     */
+    public static VersionNumber parse(String versionName) {
+        return parse(versionName, MAJOR_AND_MINOR);
+    }
+
+    /**
+     * Parses a version name of the given number of levels, without going through regular expressions or
+     * intermediate strings.
+     *
+     * @throws IllegalArgumentException if the name is not made of that many dot separated non negative integers
+     */
+    public static VersionNumber parse(String versionName, int levelsCount) {
+        int[] levels = versionName == null ? null : parseLevels(versionName, levelsCount);
+        if (levels == null) {
+            throw new IllegalArgumentException("Version string must be in the format of: " + format(levelsCount));
+        }
+        return new VersionNumber(levels);
+    }
+
+    public int getMajor() {
+        return levels[0];
+    }
+
+    public int getMinor() {
+        return levels.length > 1 ? levels[1] : 0;
+    }
+
+    public int getLevelsCount() {
+        return levels.length;
+    }
+
+    public int getLevel(int index) {
+        return levels[index];
+    }
+
+    /**
+     * Increments the level of the creation method, the major, minor or patch level, and resets the levels after it.
+     *
+     * @throws IllegalArgumentException if the version number has no such level
+     */
+    public VersionNumber next(VersionCreationMethod creationMethod) {
+        // the creation methods are declared from the major level down
+        int level = creationMethod.ordinal();
+        if (level >= levels.length) {
+            throw new IllegalArgumentException(String.format("Version %s has no %s level", this, creationMethod));
+        }
+        int[] nextLevels = new int[levels.length];
+        System.arraycopy(levels, 0, nextLevels, 0, level);
+        nextLevels[level] = levels[level] + 1;
+        return new VersionNumber(nextLevels);
+    }
+
+    @Override
+    public int compareTo(VersionNumber other) {
+        for (int i = 0; i < Math.min(levels.length, other.levels.length); i++) {
+            if (levels[i] != other.levels[i]) {
+                return Integer.compare(levels[i], other.levels[i]);
+            }
+        }
+        return Integer.compare(levels.length, other.levels.length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(levels, ((VersionNumber) o).levels);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(levels);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder name = new StringBuilder(levels.length * 3);
+        for (int level = 0; level < levels.length; level++) {
+            if (level > 0) {
+                name.append('.');
+            }
+            name.append(levels[level]);
+        }
+        return name.toString();
+    }
+
+    private static int[] parseLevels(String name, int levelsCount) {
+        int[] values = new int[levelsCount];
+        int level = 0;
+        int index = 0;
+        int length = name.length();
+        while (level < levelsCount) {
+            int value = 0;
+            int start = index;
+            while (index < length && name.charAt(index) >= '0' && name.charAt(index) <= '9') {
+                int digit = name.charAt(index++) - '0';
+                if (value > (Integer.MAX_VALUE - digit) / 10) {
+                    return null;
+                }
+                value = value * 10 + digit;
+            }
+            if (index == start) {
+                return null;
+            }
+            values[level++] = value;
+            if (level < levelsCount) {
+                if (index == length || name.charAt(index) != '.') {
+                    return null;
+                }
+                index++;
+            }
+        }
+        return index == length ? values : null;
+    }
+
+    private static String format(int levelsCount) {
+        StringBuilder format = new StringBuilder("{integer}");
+        for (int level = 1; level < levelsCount; level++) {
+            format.append(".{integer}");
+        }
+        return format.toString();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.types;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * The versions of several items, listed together. Items whose versions could not be listed are reported in the
+ * failures, by item id, instead of failing the whole listing.
+ */
+@Getter
+public class VersionsListing {
+
+    private final Map<String, List<Version>> versions;
+    private final Map<String, RuntimeException> failures;
+
+    public VersionsListing(Map<String, List<Version>> versions, Map<String, RuntimeException> failures) {
+        this.versions = Collections.unmodifiableMap(new LinkedHashMap<>(versions));
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+import org.onap.sdc.common.versioning.services.types.Item;
+import org.onap.sdc.common.versioning.services.types.ItemFilter;
+
+public class ItemDaoTest {
+
+    private final ItemDao itemDao = new ListingOnlyItemDao(Arrays.asList(item("1", "vsp"), item("2", "vlm")));
+
+    @Test
+    public void testDefaultListFiltersTheListing() {
+        assertEquals(Arrays.asList("1"), ids(itemDao.list(ItemFilter.ALL.withType("vsp"))));
+        assertEquals(Arrays.asList("1", "2"), ids(itemDao.list(ItemFilter.ALL)));
+    }
+
+    private static List<String> ids(Stream<InternalItem> items) {
+        return items.map(Item::getId).collect(Collectors.toList());
+    }
+
+    private static InternalItem item(String id, String type) {
+        InternalItem item = new InternalItem();
+        item.setId(id);
+        item.setType(type);
+        return item;
+    }
+
+    private static class ListingOnlyItemDao implements ItemDao {
+
+        private final Collection<InternalItem> items;
+
+        private ListingOnlyItemDao(Collection<InternalItem> items) {
+            this.items = items;
+        }
+
+        @Override
+        public Collection<InternalItem> list() {
+            return items;
+        }
+
+        @Override
+        public InternalItem get(String itemId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InternalItem create(InternalItem item) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void update(InternalItem item) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String itemId) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
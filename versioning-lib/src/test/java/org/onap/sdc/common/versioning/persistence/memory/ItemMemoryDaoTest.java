@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.onap.sdc.common.session.SessionContext;
+import org.onap.sdc.common.session.SessionContextProvider;
+import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+import org.onap.sdc.common.versioning.services.exceptions.VersioningException;
+import org.onap.sdc.common.versioning.services.types.Item;
+import org.onap.sdc.common.versioning.services.types.ItemFilter;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
+
+public class ItemMemoryDaoTest {
+
+    private final SessionContextProvider sessionContextProvider = Mockito.mock(SessionContextProvider.class);
+    private final ItemMemoryDao itemDao = new ItemMemoryDao(sessionContextProvider);
+    private String tenant = "tenant";
+
+    @BeforeEach
+    public void setUp() {
+        when(sessionContextProvider.get()).thenAnswer(invocation -> {
+            SessionContext sessionContext = Mockito.mock(SessionContext.class);
+            when(sessionContext.getUserId()).thenReturn("user");
+            when(sessionContext.getTenant()).thenReturn(tenant);
+            return sessionContext;
+        });
+    }
+
+    @Test
+    public void testCreateAndGet() {
+        InternalItem item = createItem(null, "vsp");
+
+        InternalItem created = itemDao.create(item);
+
+        assertNotNull(created.getId());
+        InternalItem retrieved = itemDao.get(created.getId());
+        assertEquals("vsp", retrieved.getType());
+        assertNotNull(retrieved.getCreationTime());
+    }
+
+    @Test
+    public void testCreateExisting() {
+        itemDao.create(createItem("1", "vsp"));
+
+        assertThrows(VersioningException.class, () -> itemDao.create(createItem("1", "vsp")));
+    }
+
+    @Test
+    public void testStoredItemIsNotShared() {
+        InternalItem item = createItem("1", "vsp");
+        itemDao.create(item);
+        item.addVersionStatus(VersionStatus.Draft);
+        itemDao.get("1").addVersionStatus(VersionStatus.Draft);
+
+        assertEquals(0, itemDao.get("1").getVersionStatusCounters().size());
+    }
+
+    @Test
+    public void testUpdate() {
+        itemDao.create(createItem("1", "vsp"));
+        InternalItem item = itemDao.get("1");
+        item.addVersionStatus(VersionStatus.Draft);
+
+        itemDao.update(item);
+
+        InternalItem updated = itemDao.get("1");
+        assertEquals(1, updated.getVersionStatusCounters().get(VersionStatus.Draft).intValue());
+        assertEquals(item.getCreationTime(), updated.getCreationTime());
+    }
+
+    @Test
+    public void testUpdateNonExisting() {
+        assertThrows(VersioningException.class, () -> itemDao.update(createItem("1", "vsp")));
+    }
+
+    @Test
+    public void testDelete() {
+        itemDao.create(createItem("1", "vsp"));
+
+        itemDao.delete("1");
+
+        assertNull(itemDao.get("1"));
+    }
+
+    @Test
+    public void testListFiltered() {
+        itemDao.create(createItem("1", "vsp"));
+        itemDao.create(createItem("2", "vlm"));
+        itemDao.create(createItem("3", "vsp"));
+
+        assertEquals(Arrays.asList("1", "3"),
+                itemDao.list(ItemFilter.ALL.withType("vsp")).map(Item::getId).sorted().collect(Collectors.toList()));
+        assertEquals(3, itemDao.list().size());
+    }
+
+    @Test
+    public void testItemsAreKeptPerTenant() {
+        itemDao.create(createItem("1", "vsp"));
+
+        tenant = "otherTenant";
+
+        assertNull(itemDao.get("1"));
+        assertEquals(0, itemDao.list().size());
+    }
+
+    private static InternalItem createItem(String id, String type) {
+        InternalItem item = new InternalItem();
+        item.setId(id);
+        item.setType(type);
+        item.setName("name" + id);
+        return item;
+    }
+}
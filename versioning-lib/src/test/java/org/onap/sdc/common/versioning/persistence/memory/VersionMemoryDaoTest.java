@@ -0,0 +1,210 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.onap.sdc.common.session.SessionContext;
+import org.onap.sdc.common.session.SessionContextProvider;
+import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
+import org.onap.sdc.common.versioning.services.exceptions.VersioningException;
+import org.onap.sdc.common.versioning.services.types.Revision;
+import org.onap.sdc.common.versioning.services.types.SynchronizationState;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
+
+public class VersionMemoryDaoTest {
+
+    private static final String ITEM_ID = "itemId";
+
+    private final SessionContextProvider sessionContextProvider = Mockito.mock(SessionContextProvider.class);
+    private final VersionMemoryDao versionDao = new VersionMemoryDao(sessionContextProvider);
+    private String user = "user1";
+
+    @BeforeEach
+    public void setUp() {
+        when(sessionContextProvider.get()).thenAnswer(invocation -> {
+            SessionContext sessionContext = Mockito.mock(SessionContext.class);
+            when(sessionContext.getUserId()).thenReturn(user);
+            when(sessionContext.getTenant()).thenReturn("tenant");
+            return sessionContext;
+        });
+    }
+
+    @Test
+    public void testCreatedVersionIsPrivateUntilPublished() {
+        String versionId = versionDao.create(ITEM_ID, createVersion("1.0")).getId();
+
+        assertTrue(versionDao.get(ITEM_ID, versionId).isPresent());
+        assertTrue(versionDao.list(ITEM_ID).isEmpty());
+        assertFalse(versionDao.getPublic(ITEM_ID, versionId).isPresent());
+
+        versionDao.publish(ITEM_ID, versionId, "create");
+
+        assertEquals(Arrays.asList("1.0"), names(versionDao.list(ITEM_ID)));
+        InternalVersion version = versionDao.get(ITEM_ID, versionId).get();
+        assertEquals(SynchronizationState.UpToDate, version.getState().getSynchronizationState());
+        assertFalse(version.getState().isDirty());
+    }
+
+    @Test
+    public void testOtherUserSyncsPublishedVersion() {
+        String versionId = createPublishedVersion("1.0");
+
+        user = "user2";
+        assertFalse(versionDao.get(ITEM_ID, versionId).isPresent());
+        versionDao.sync(ITEM_ID, versionId);
+
+        assertEquals("1.0", versionDao.get(ITEM_ID, versionId).get().getName());
+    }
+
+    @Test
+    public void testVersionIsOutOfSyncOncePublishedByOtherUser() {
+        String versionId = createPublishedVersion("1.0");
+        user = "user2";
+        versionDao.sync(ITEM_ID, versionId);
+        InternalVersion version = versionDao.get(ITEM_ID, versionId).get();
+        version.setStatus(VersionStatus.Certified);
+        versionDao.update(ITEM_ID, version);
+        versionDao.publish(ITEM_ID, versionId, "certify");
+
+        user = "user1";
+        InternalVersion outOfSync = versionDao.get(ITEM_ID, versionId).get();
+
+        assertEquals(SynchronizationState.OutOfSync, outOfSync.getState().getSynchronizationState());
+        assertEquals(VersionStatus.Certified, outOfSync.getStatus());
+        versionDao.sync(ITEM_ID, versionId);
+        assertEquals(SynchronizationState.UpToDate,
+                versionDao.get(ITEM_ID, versionId).get().getState().getSynchronizationState());
+    }
+
+    @Test
+    public void testConflictingChangesMergeUntilForceSynced() {
+        String versionId = createPublishedVersion("1.0");
+        user = "user2";
+        versionDao.sync(ITEM_ID, versionId);
+        updateDescription(versionId, "user2 description");
+        versionDao.publish(ITEM_ID, versionId, "user2 change");
+        user = "user1";
+        updateDescription(versionId, "user1 description");
+
+        assertThrows(VersioningException.class, () -> versionDao.publish(ITEM_ID, versionId, "user1 change"));
+        versionDao.sync(ITEM_ID, versionId);
+        assertEquals(SynchronizationState.Merging,
+                versionDao.get(ITEM_ID, versionId).get().getState().getSynchronizationState());
+
+        versionDao.forceSync(ITEM_ID, versionId);
+
+        InternalVersion version = versionDao.get(ITEM_ID, versionId).get();
+        assertEquals(SynchronizationState.UpToDate, version.getState().getSynchronizationState());
+        assertEquals("user2 description", version.getDescription());
+    }
+
+    @Test
+    public void testPublishWithoutChangesIsRejected() {
+        String versionId = createPublishedVersion("1.0");
+
+        assertThrows(VersioningException.class, () -> versionDao.publish(ITEM_ID, versionId, "no change"));
+        assertEquals(1, versionDao.listRevisions(ITEM_ID, versionId).size());
+    }
+
+    @Test
+    public void testRevisionsAndRevert() {
+        String versionId = createPublishedVersion("1.0");
+        updateDescription(versionId, "changed");
+        versionDao.publish(ITEM_ID, versionId, "change");
+
+        List<Revision> revisions = versionDao.listRevisions(ITEM_ID, versionId);
+
+        assertEquals(Arrays.asList("change", "create"),
+                revisions.stream().map(Revision::getMessage).collect(Collectors.toList()));
+        versionDao.revert(ITEM_ID, versionId, revisions.get(1).getId());
+        InternalVersion reverted = versionDao.get(ITEM_ID, versionId).get();
+        assertEquals("description", reverted.getDescription());
+        assertTrue(reverted.getState().isDirty());
+    }
+
+    @Test
+    public void testRevisionsPagesCoverAllRevisions() {
+        String versionId = createPublishedVersion("1.0");
+        for (int i = 0; i < 5; i++) {
+            updateDescription(versionId, "change " + i);
+            versionDao.publish(ITEM_ID, versionId, "change " + i);
+        }
+
+        List<Revision> pagedRevisions = new ArrayList<>();
+        List<Revision> page = versionDao.listRevisions(ITEM_ID, versionId, null, null, 2);
+        while (!page.isEmpty()) {
+            pagedRevisions.addAll(page);
+            Revision last = page.get(page.size() - 1);
+            page = versionDao.listRevisions(ITEM_ID, versionId, last.getTime(), last.getId(), 2);
+        }
+
+        assertEquals(6, pagedRevisions.stream().map(Revision::getId).distinct().count());
+    }
+
+    @Test
+    public void testClean() {
+        String versionId = createPublishedVersion("1.0");
+
+        versionDao.clean(ITEM_ID, versionId);
+
+        assertFalse(versionDao.get(ITEM_ID, versionId).isPresent());
+        assertTrue(versionDao.getPublic(ITEM_ID, versionId).isPresent());
+    }
+
+    @Test
+    public void testUpdateNonExisting() {
+        InternalVersion version = createVersion("1.0");
+        version.setId("versionId");
+
+        assertThrows(VersioningException.class, () -> versionDao.update(ITEM_ID, version));
+    }
+
+    private String createPublishedVersion(String name) {
+        String versionId = versionDao.create(ITEM_ID, createVersion(name)).getId();
+        versionDao.publish(ITEM_ID, versionId, "create");
+        return versionId;
+    }
+
+    private void updateDescription(String versionId, String description) {
+        InternalVersion version = versionDao.get(ITEM_ID, versionId).get();
+        version.setDescription(description);
+        versionDao.update(ITEM_ID, version);
+    }
+
+    private static InternalVersion createVersion(String name) {
+        InternalVersion version = new InternalVersion();
+        version.setName(name);
+        version.setDescription("description");
+        return version;
+    }
+
+    private static List<String> names(List<InternalVersion> versions) {
+        return versions.stream().map(InternalVersion::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence.zusammen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.onap.sdc.common.versioning.persistence.zusammen.ItemZusammenDao.InfoPropertyName.ITEM_OWNER;
+import static org.onap.sdc.common.versioning.persistence.zusammen.ItemZusammenDao.InfoPropertyName.ITEM_STATUS;
+import static org.onap.sdc.common.versioning.persistence.zusammen.ItemZusammenDao.InfoPropertyName.ITEM_TYPE;
+import static org.onap.sdc.common.versioning.persistence.zusammen.ItemZusammenDao.InfoPropertyName.ITEM_VERSIONS_STATUSES;
+
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.Item;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+import org.onap.sdc.common.versioning.services.types.ItemStatus;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
+
+public class InfoBackedItemTest {
+
+    private static final Date CREATION_TIME = new Date(1000);
+    private static final Date MODIFICATION_TIME = new Date(2000);
+
+    @Test
+    public void testReadFields() {
+        InfoBackedItem item = new InfoBackedItem(createZusammenItem(ItemStatus.ARCHIVED.name()));
+
+        assertEquals("itemId", item.getId());
+        assertEquals("name", item.getName());
+        assertEquals("description", item.getDescription());
+        assertEquals(CREATION_TIME, item.getCreationTime());
+        assertEquals(MODIFICATION_TIME, item.getModificationTime());
+        assertEquals("vsp", item.getType());
+        assertEquals("owner", item.getOwner());
+        assertEquals(ItemStatus.ARCHIVED, item.getStatus());
+        assertEquals(1, item.getVersionStatusCounters().get(VersionStatus.Draft));
+        assertEquals(2, item.getVersionStatusCounters().get(VersionStatus.Certified));
+        assertEquals("value", item.getProperty("app_prop"));
+    }
+
+    @Test
+    public void testMissingStatusIsActive() {
+        assertEquals(ItemStatus.ACTIVE, new InfoBackedItem(createZusammenItem(null)).getStatus());
+    }
+
+    @Test
+    public void testFieldsSetBeforeRead() {
+        InfoBackedItem item = new InfoBackedItem(createZusammenItem(null));
+
+        item.setType("vf");
+        item.setOwner("other");
+        item.setStatus(ItemStatus.ARCHIVED);
+
+        assertEquals("vf", item.getType());
+        assertEquals("other", item.getOwner());
+        assertEquals(ItemStatus.ARCHIVED, item.getStatus());
+    }
+
+    @Test
+    public void testProperties() {
+        InfoBackedItem item = new InfoBackedItem(createZusammenItem(null));
+
+        item.addProperty("added", 1);
+        item.addProperty("app_prop", "changed");
+
+        assertNull(item.getProperty(ITEM_TYPE));
+        assertEquals(1, item.<Integer>getProperty("added"));
+        assertEquals("changed", item.getProperty("app_prop"));
+        Map<String, Object> properties = item.getProperties();
+        assertEquals(2, properties.size());
+        assertEquals("changed", properties.get("app_prop"));
+        assertFalse(properties.containsKey(ITEM_VERSIONS_STATUSES));
+
+        item.addProperty("after", true);
+        assertTrue(item.getProperties().containsKey("after"));
+    }
+
+    @Test
+    public void testUpdateVersionStatusCounters() {
+        InfoBackedItem item = new InfoBackedItem(createZusammenItem(null));
+
+        item.addVersionStatus(VersionStatus.Draft);
+        item.removeVersionStatus(VersionStatus.Certified);
+
+        assertEquals(2, item.getVersionStatusCounters().get(VersionStatus.Draft));
+        assertEquals(1, item.getVersionStatusCounters().get(VersionStatus.Certified));
+    }
+
+    @Test
+    public void testCopy() {
+        InfoBackedItem item = new InfoBackedItem(createZusammenItem(ItemStatus.ARCHIVED.name()));
+
+        InternalItem copy = item.copy();
+        item.addVersionStatus(VersionStatus.Draft);
+
+        assertEquals("vsp", copy.getType());
+        assertEquals("owner", copy.getOwner());
+        assertEquals(ItemStatus.ARCHIVED, copy.getStatus());
+        assertEquals(1, copy.getVersionStatusCounters().get(VersionStatus.Draft));
+        assertEquals("value", copy.getProperty("app_prop"));
+    }
+
+    private static Item createZusammenItem(String status) {
+        Info info = new Info();
+        info.setName("name");
+        info.setDescription("description");
+        info.addProperty(ITEM_TYPE, "vsp");
+        info.addProperty(ITEM_OWNER, "owner");
+        if (status != null) {
+            info.addProperty(ITEM_STATUS, status);
+        }
+        // as read from zusammen, which keeps the counters in json
+        Map<String, Number> versionStatusCounters = new HashMap<>();
+        versionStatusCounters.put(VersionStatus.Draft.name(), 1.0);
+        versionStatusCounters.put(VersionStatus.Certified.name(), 2);
+        info.addProperty(ITEM_VERSIONS_STATUSES, versionStatusCounters);
+        info.addProperty("app_prop", "value");
+        Item item = new Item();
+        item.setId(new Id("itemId"));
+        item.setInfo(info);
+        item.setCreationTime(CREATION_TIME);
+        item.setModificationTime(MODIFICATION_TIME);
+        return item;
+    }
+}
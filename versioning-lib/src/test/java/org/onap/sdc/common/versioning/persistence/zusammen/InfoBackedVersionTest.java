@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence.zusammen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.ItemVersion;
+import com.amdocs.zusammen.datatypes.item.ItemVersionData;
+import java.util.Date;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
+
+public class InfoBackedVersionTest {
+
+    @Test
+    public void testReadFields() {
+        InfoBackedVersion version = new InfoBackedVersion(createItemVersion(VersionStatus.Certified.name()));
+
+        assertEquals("versionId", version.getId());
+        assertEquals("baseId", version.getBaseId());
+        assertEquals("1.0", version.getName());
+        assertEquals("description", version.getDescription());
+        assertEquals(new Date(1000), version.getCreationTime());
+        assertEquals(new Date(2000), version.getModificationTime());
+        assertEquals(VersionStatus.Certified, version.getStatus());
+        assertEquals("value", version.getProperty("app_prop"));
+        assertNull(version.getProperty(VersionZusammenDao.STATUS_PROPERTY));
+    }
+
+    @Test
+    public void testMissingStatusIsDraft() {
+        assertEquals(VersionStatus.Draft, new InfoBackedVersion(createItemVersion(null)).getStatus());
+    }
+
+    @Test
+    public void testProperties() {
+        InfoBackedVersion version = new InfoBackedVersion(createItemVersion(VersionStatus.Draft.name()));
+
+        version.addProperty("added", 1);
+
+        assertEquals(1, version.<Integer>getProperty("added"));
+        Map<String, Object> properties = version.getProperties();
+        assertEquals(2, properties.size());
+        assertEquals("value", properties.get("app_prop"));
+        assertFalse(properties.containsKey(VersionZusammenDao.STATUS_PROPERTY));
+    }
+
+    @Test
+    public void testCopy() {
+        InfoBackedVersion version = new InfoBackedVersion(createItemVersion(VersionStatus.Certified.name()));
+        version.addProperty("added", 1);
+
+        InternalVersion copy = version.copy();
+
+        assertEquals(VersionStatus.Certified, copy.getStatus());
+        assertEquals("value", copy.getProperty("app_prop"));
+        assertEquals(1, copy.<Integer>getProperty("added"));
+    }
+
+    private static ItemVersion createItemVersion(String status) {
+        Info info = new Info();
+        info.setName("1.0");
+        info.setDescription("description");
+        if (status != null) {
+            info.addProperty(VersionZusammenDao.STATUS_PROPERTY, status);
+        }
+        info.addProperty("app_prop", "value");
+        ItemVersionData data = new ItemVersionData();
+        data.setInfo(info);
+        ItemVersion itemVersion = new ItemVersion();
+        itemVersion.setId(new Id("versionId"));
+        itemVersion.setBaseId(new Id("baseId"));
+        itemVersion.setData(data);
+        itemVersion.setCreationTime(new Date(1000));
+        itemVersion.setModificationTime(new Date(2000));
+        return itemVersion;
+    }
+}
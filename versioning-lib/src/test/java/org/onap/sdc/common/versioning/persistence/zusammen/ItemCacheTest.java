@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.persistence.zusammen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+
+public class ItemCacheTest {
+
+    private static final String TENANT = "tenant";
+    private static final String ITEM_ID = "itemId";
+
+    private final ItemCache itemCache = new ItemCache(100, 60, false);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void testReturnsCopies() {
+        InternalItem loaded = itemCache.get(TENANT, ITEM_ID, loader("loaded"));
+        InternalItem cached = itemCache.get(TENANT, ITEM_ID, loader("not expected"));
+
+        assertNotSame(loaded, cached);
+        assertEquals("loaded", cached.getName());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testWritePublishesWrittenItem() {
+        long version = itemCache.beginWrite(TENANT, ITEM_ID);
+        itemCache.completeWrite(TENANT, ITEM_ID, version, item("written"));
+
+        assertEquals("written", itemCache.get(TENANT, ITEM_ID, loader("loaded")).getName());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    public void testOverlappingWritesAreNotPublished() {
+        long firstVersion = itemCache.beginWrite(TENANT, ITEM_ID);
+        long secondVersion = itemCache.beginWrite(TENANT, ITEM_ID);
+        itemCache.completeWrite(TENANT, ITEM_ID, secondVersion, item("second"));
+        itemCache.completeWrite(TENANT, ITEM_ID, firstVersion, item("first"));
+
+        assertEquals("loaded", itemCache.get(TENANT, ITEM_ID, loader("loaded")).getName());
+    }
+
+    @Test
+    public void testOverlappingWritesCompletedInOrderAreNotPublished() {
+        long firstVersion = itemCache.beginWrite(TENANT, ITEM_ID);
+        long secondVersion = itemCache.beginWrite(TENANT, ITEM_ID);
+        itemCache.completeWrite(TENANT, ITEM_ID, firstVersion, item("first"));
+        itemCache.completeWrite(TENANT, ITEM_ID, secondVersion, item("second"));
+
+        assertEquals("loaded", itemCache.get(TENANT, ITEM_ID, loader("loaded")).getName());
+    }
+
+    @Test
+    public void testLoadDuringWriteIsNotPublished() {
+        long version = itemCache.beginWrite(TENANT, ITEM_ID);
+        itemCache.get(TENANT, ITEM_ID, loader("before write"));
+        itemCache.completeWrite(TENANT, ITEM_ID, version, null);
+
+        assertEquals("after write", itemCache.get(TENANT, ITEM_ID, loader("after write")).getName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testLoadRacingWriteIsNotPublished() {
+        Supplier<InternalItem> racingLoader = () -> {
+            long version = itemCache.beginWrite(TENANT, ITEM_ID);
+            itemCache.completeWrite(TENANT, ITEM_ID, version, item("written"));
+            return item("before write");
+        };
+
+        assertEquals("before write", itemCache.get(TENANT, ITEM_ID, racingLoader).getName());
+        assertEquals("written", itemCache.get(TENANT, ITEM_ID, loader("loaded")).getName());
+    }
+
+    @Test
+    public void testEntriesArePerTenant() {
+        itemCache.get(TENANT, ITEM_ID, loader("tenant item"));
+
+        assertEquals("other tenant item", itemCache.get("otherTenant", ITEM_ID, loader("other tenant item")).getName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testStats() {
+        ItemCache smallCache = new ItemCache(1, 60, false);
+        smallCache.get(TENANT, "1", loader("1"));
+        smallCache.get(TENANT, "1", loader("1"));
+        smallCache.get(TENANT, "2", loader("2"));
+
+        assertEquals(1, smallCache.getStats().hitCount());
+        assertEquals(2, smallCache.getStats().missCount());
+        assertEquals(1, smallCache.getStats().evictionCount());
+    }
+
+    @Test
+    public void testCompactedPropertiesAreCopiedOut() {
+        ItemCache compactingCache = new ItemCache(100, 60, true);
+        InternalItem written = item("written");
+        written.addProperty("key", "value");
+        long version = compactingCache.beginWrite(TENANT, ITEM_ID);
+        compactingCache.completeWrite(TENANT, ITEM_ID, version, written);
+
+        InternalItem cached = compactingCache.get(TENANT, ITEM_ID, loader("loaded"));
+        cached.addProperty("other", "value");
+
+        assertEquals("value", cached.getProperty("key"));
+        assertEquals(1, compactingCache.get(TENANT, ITEM_ID, loader("loaded")).getProperties().size());
+    }
+
+    private Supplier<InternalItem> loader(String name) {
+        return () -> {
+            loads.incrementAndGet();
+            return item(name);
+        };
+    }
+
+    private static InternalItem item(String name) {
+        InternalItem item = new InternalItem();
+        item.setId(ITEM_ID);
+        item.setName(name);
+        return item;
+    }
+}
@@ -20,9 +20,13 @@ package org.onap.sdc.common.versioning.persistence.zusammen;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.onap.sdc.common.versioning.persistence.zusammen.ItemZusammenDao.InfoPropertyName.ITEM_OWNER;
 import static org.onap.sdc.common.versioning.persistence.zusammen.ItemZusammenDao.InfoPropertyName.ITEM_STATUS;
@@ -46,10 +50,9 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mockito;
-import org.mockito.MockitoAnnotations;
 import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+import org.onap.sdc.common.versioning.services.types.ItemFilter;
 import org.onap.sdc.common.versioning.services.types.ItemStatus;
 import org.onap.sdc.common.versioning.services.types.VersionStatus;
 import org.onap.sdc.common.zusammen.services.ZusammenAdaptor;
@@ -68,12 +71,11 @@ public class ItemZusammenDaoTest {
     private final ZusammenSessionContextCreator contextCreatorMock = Mockito.mock(ZusammenSessionContextCreator.class);
 
     private final ZusammenAdaptor zusammenAdaptorMock = Mockito.mock(ZusammenAdaptor.class);
-    @InjectMocks
     private ItemZusammenDao itemDao;
 
     @BeforeEach
     public void mockSessionContext() {
-        MockitoAnnotations.initMocks(this);
+        itemDao = new ItemZusammenDao(contextCreatorMock, zusammenAdaptorMock, 100, 60, false);
         doReturn(SESSION_CONTEXT).when(contextCreatorMock).create();
 
     }
@@ -112,6 +114,39 @@ public class ItemZusammenDaoTest {
         assertItemEquals(itemIterator.next(), returnedItems.get(2));
     }
 
+    @Test
+    public void testListFiltered() {
+        Item vsp1 = createItem("1", "vsp1", "vsp 1", "vsp", new Date(), new Date(), new HashMap<>());
+        Item vlm1 = createItem("2", "vlm1", "vlm 1", "vlm", new Date(), new Date(), new HashMap<>());
+        Item vsp2 = createItem("3", "vsp2", "vsp 2", "vsp", new Date(), new Date(), new HashMap<>());
+        vsp2.getInfo().addProperty(ITEM_STATUS, ItemStatus.ARCHIVED.name());
+        Item vsp3 = createItem("4", "vsp3", "vsp 3", "vsp", new Date(), new Date(), new HashMap<>());
+        vsp3.getInfo().addProperty(ITEM_OWNER, "otherUser");
+        doReturn(Stream.of(vsp1, vlm1, vsp2, vsp3).collect(Collectors.toList())).when(zusammenAdaptorMock)
+                .listItems(eq(SESSION_CONTEXT));
+
+        assertEquals(Stream.of("1", "3", "4").collect(Collectors.toList()),
+                itemDao.list(ItemFilter.ALL.withType("vsp")).map(InternalItem::getId).collect(Collectors.toList()));
+        assertEquals(Stream.of("1", "4").collect(Collectors.toList()),
+                itemDao.list(ItemFilter.ALL.withType("vsp").withStatus(ItemStatus.ACTIVE)).map(InternalItem::getId)
+                        .collect(Collectors.toList()));
+        assertEquals(Stream.of("4").collect(Collectors.toList()),
+                itemDao.list(ItemFilter.ALL.withOwner("otherUser")).map(InternalItem::getId)
+                        .collect(Collectors.toList()));
+        assertEquals(4, itemDao.list(ItemFilter.ALL).count());
+    }
+
+    @Test
+    public void testListFilteredTreatsMissingStatusAsActive() {
+        Item item = createItem("1", "vsp1", "vsp 1", "vsp", new Date(), new Date(), new HashMap<>());
+        item.getInfo().getProperties().remove(ITEM_STATUS);
+        doReturn(Stream.of(item).collect(Collectors.toList())).when(zusammenAdaptorMock)
+                .listItems(eq(SESSION_CONTEXT));
+
+        assertEquals(1, itemDao.list(ItemFilter.ALL.withStatus(ItemStatus.ACTIVE)).count());
+        assertEquals(0, itemDao.list(ItemFilter.ALL.withStatus(ItemStatus.ARCHIVED)).count());
+    }
+
     @Test
     public void testGetNonExisting() {
         InternalItem item = itemDao.get("nonExisting");
@@ -198,6 +233,96 @@ public class ItemZusammenDaoTest {
         assertEquals(item.getVersionStatusCounters(), inputItem.getVersionStatusCounters());
     }
 
+    @Test
+    public void testGetIsCached() {
+        Item zusammenItem = createItem("1", "vsp1", "vsp 1", "vsp", new Date(), new Date(), new HashMap<>());
+        doReturn(zusammenItem).when(zusammenAdaptorMock).getItem(eq(SESSION_CONTEXT), eq(new Id("1")));
+
+        InternalItem item = itemDao.get("1");
+        item.setName("changed by the caller");
+        InternalItem cachedItem = itemDao.get("1");
+
+        assertItemEquals(cachedItem, zusammenItem);
+        verify(zusammenAdaptorMock, times(1)).getItem(eq(SESSION_CONTEXT), eq(new Id("1")));
+        assertEquals(1, itemDao.getCacheStats().hitCount());
+        assertEquals(1, itemDao.getCacheStats().missCount());
+    }
+
+    @Test
+    public void testGetForUpdateIsNotCached() {
+        Item zusammenItem = createItem("1", "vsp1", "vsp 1", "vsp", new Date(), new Date(), new HashMap<>());
+        doReturn(zusammenItem).when(zusammenAdaptorMock).getItem(eq(SESSION_CONTEXT), eq(new Id("1")));
+        itemDao.get("1");
+        Item updatedZusammenItem =
+                createItem("1", "vsp1", "updated on another node", "vsp", new Date(), new Date(), new HashMap<>());
+        doReturn(updatedZusammenItem).when(zusammenAdaptorMock).getItem(eq(SESSION_CONTEXT), eq(new Id("1")));
+
+        InternalItem item = itemDao.getForUpdate("1");
+
+        assertItemEquals(item, updatedZusammenItem);
+        verify(zusammenAdaptorMock, times(2)).getItem(eq(SESSION_CONTEXT), eq(new Id("1")));
+    }
+
+    @Test
+    public void testGetIsCachedPerTenant() {
+        SessionContext otherTenantContext = new SessionContext();
+        otherTenantContext.setUser(new UserInfo("user"));
+        otherTenantContext.setTenant("otherTenant");
+        Item zusammenItem = createItem("1", "vsp1", "vsp 1", "vsp", new Date(), new Date(), new HashMap<>());
+        doReturn(zusammenItem).when(zusammenAdaptorMock).getItem(any(SessionContext.class), eq(new Id("1")));
+
+        itemDao.get("1");
+        doReturn(otherTenantContext).when(contextCreatorMock).create();
+        itemDao.get("1");
+
+        verify(zusammenAdaptorMock).getItem(eq(SESSION_CONTEXT), eq(new Id("1")));
+        verify(zusammenAdaptorMock).getItem(eq(otherTenantContext), eq(new Id("1")));
+    }
+
+    @Test
+    public void testUpdateIsWrittenThrough() {
+        Item zusammenItem = createItem("1", "vsp1", "vsp 1", "vsp", new Date(), new Date(), new HashMap<>());
+        doReturn(zusammenItem).when(zusammenAdaptorMock).getItem(eq(SESSION_CONTEXT), eq(new Id("1")));
+        InternalItem item = itemDao.get("1");
+        item.setDescription("updated");
+        item.addVersionStatus(VersionStatus.Certified);
+
+        itemDao.update(item);
+        item.setDescription("changed after the update");
+
+        InternalItem updatedItem = itemDao.get("1");
+        assertEquals("updated", updatedItem.getDescription());
+        assertEquals(1, updatedItem.getVersionStatusCounters().get(VersionStatus.Certified).intValue());
+        verify(zusammenAdaptorMock, times(1)).getItem(eq(SESSION_CONTEXT), eq(new Id("1")));
+    }
+
+    @Test
+    public void testFailedUpdateIsNotCached() {
+        Item zusammenItem = createItem("1", "vsp1", "vsp 1", "vsp", new Date(), new Date(), new HashMap<>());
+        doReturn(zusammenItem).when(zusammenAdaptorMock).getItem(eq(SESSION_CONTEXT), eq(new Id("1")));
+        InternalItem item = itemDao.get("1");
+        item.setDescription("updated");
+        doThrow(new RuntimeException("update failed")).when(zusammenAdaptorMock)
+                .updateItem(eq(SESSION_CONTEXT), eq(new Id("1")), any(Info.class));
+
+        assertThrows(RuntimeException.class, () -> itemDao.update(item));
+
+        assertEquals("vsp 1", itemDao.get("1").getDescription());
+        verify(zusammenAdaptorMock, times(2)).getItem(eq(SESSION_CONTEXT), eq(new Id("1")));
+    }
+
+    @Test
+    public void testDeleteIsWrittenThrough() {
+        doReturn(createItem("1", "vsp1", "vsp 1", "vsp", new Date(), new Date(), new HashMap<>()))
+                .doReturn(null).when(zusammenAdaptorMock).getItem(eq(SESSION_CONTEXT), eq(new Id("1")));
+        itemDao.get("1");
+
+        itemDao.delete("1");
+
+        assertNull(itemDao.get("1"));
+        verify(zusammenAdaptorMock).deleteItem(eq(SESSION_CONTEXT), eq(new Id("1")));
+    }
+
     @Test
     public void testUpdate() {
         InternalItem item = new InternalItem();
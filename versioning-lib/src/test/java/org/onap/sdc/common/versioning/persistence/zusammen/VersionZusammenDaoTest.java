@@ -18,10 +18,14 @@
 package org.onap.sdc.common.versioning.persistence.zusammen;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.amdocs.zusammen.datatypes.Id;
@@ -34,23 +38,30 @@ import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
 import com.amdocs.zusammen.datatypes.item.SynchronizationStatus;
 import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mockito;
-import org.mockito.MockitoAnnotations;
 import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
 import org.onap.sdc.common.versioning.services.types.Revision;
+import org.onap.sdc.common.versioning.services.types.SynchronizationState;
 import org.onap.sdc.common.versioning.services.types.VersionStatus;
+import org.onap.sdc.common.zusammen.services.AsyncZusammenAdaptor;
 import org.onap.sdc.common.zusammen.services.ZusammenAdaptor;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+import org.onap.sdc.common.zusammen.services.impl.AsyncZusammenAdaptorImpl;
+import org.onap.sdc.common.zusammen.services.impl.ZusammenAsyncExecutor;
 
 public class VersionZusammenDaoTest {
 
@@ -64,16 +75,22 @@ public class VersionZusammenDaoTest {
 
     private final ZusammenSessionContextCreator contextCreatorMock = Mockito.mock(ZusammenSessionContextCreator.class);
     private final ZusammenAdaptor zusammenAdaptorMock = Mockito.mock(ZusammenAdaptor.class);
-    @InjectMocks
+    private final ZusammenAsyncExecutor asyncExecutor = new ZusammenAsyncExecutor(2, 10);
     private VersionZusammenDao versionDao;
 
     @BeforeEach
     public void mockSessionContext() {
-        MockitoAnnotations.initMocks(this);
+        versionDao = new VersionZusammenDao(contextCreatorMock, zusammenAdaptorMock,
+                new AsyncZusammenAdaptorImpl(zusammenAdaptorMock, asyncExecutor), true, 2);
         doReturn(SESSION_CONTEXT).when(contextCreatorMock).create();
 
     }
 
+    @AfterEach
+    public void shutdownAsyncExecutor() {
+        asyncExecutor.shutdown();
+    }
+
     @Test
     public void testListWhenNone() {
         String itemId = "itemId";
@@ -112,6 +129,50 @@ public class VersionZusammenDaoTest {
         }
     }
 
+    @Test
+    public void testListAll() {
+        Id versionId = new Id("v1_id");
+        List<ItemVersion> zusammenVersions = Stream.of(
+            createZusammenVersion(versionId, null, "version desc", "1.0", VersionStatus.Certified))
+            .collect(Collectors.toList());
+        doReturn(zusammenVersions).when(zusammenAdaptorMock)
+            .listPublicVersions(eq(SESSION_CONTEXT), eq(new Id("item1")));
+        doThrow(new ZusammenException("list failed")).when(zusammenAdaptorMock)
+            .listPublicVersions(eq(SESSION_CONTEXT), eq(new Id("item2")));
+        doReturn(new ArrayList<>()).when(zusammenAdaptorMock)
+            .listPublicVersions(eq(SESSION_CONTEXT), eq(new Id("item3")));
+
+        Map<String, CompletableFuture<List<InternalVersion>>> versions =
+            versionDao.listAll(Arrays.asList("item1", "item2", "item3", "item1"));
+
+        assertEquals(Arrays.asList("item1", "item2", "item3"), new ArrayList<>(versions.keySet()));
+        assertEquals(1, versions.get("item1").join().size());
+        assetVersionEquals(versions.get("item1").join().get(0), zusammenVersions.get(0), null);
+        CompletionException failure = assertThrows(CompletionException.class, () -> versions.get("item2").join());
+        assertEquals("list failed", failure.getCause().getMessage());
+        assertTrue(versions.get("item3").join().isEmpty());
+        verify(contextCreatorMock, times(1)).create();
+        verify(zusammenAdaptorMock, times(1)).listPublicVersions(eq(SESSION_CONTEXT), eq(new Id("item1")));
+    }
+
+    @Test
+    public void testListAllWhenSubmissionFails() {
+        AsyncZusammenAdaptor asyncZusammenAdaptorMock = Mockito.mock(AsyncZusammenAdaptor.class);
+        VersionZusammenDao singleListingDao =
+            new VersionZusammenDao(contextCreatorMock, zusammenAdaptorMock, asyncZusammenAdaptorMock, true, 1);
+        doThrow(new ZusammenException("submit failed")).when(asyncZusammenAdaptorMock)
+            .listPublicVersions(eq(SESSION_CONTEXT), eq(new Id("item1")));
+        doReturn(CompletableFuture.completedFuture(new ArrayList<>())).when(asyncZusammenAdaptorMock)
+            .listPublicVersions(eq(SESSION_CONTEXT), eq(new Id("item2")));
+
+        Map<String, CompletableFuture<List<InternalVersion>>> versions =
+            singleListingDao.listAll(Arrays.asList("item1", "item2"));
+
+        CompletionException failure = assertThrows(CompletionException.class, () -> versions.get("item1").join());
+        assertEquals("submit failed", failure.getCause().getMessage());
+        assertTrue(versions.get("item2").join().isEmpty());
+    }
+
     @Test
     public void testCreate() {
         testCreate(null, null);
@@ -266,6 +327,28 @@ public class VersionZusammenDaoTest {
         assetVersionEquals(version.get(), zusammenPrivateVersion, zusammenVersionStatus);
     }
 
+    @Test
+    public void testGetPublic() {
+        Id itemIdObj = new Id("itemId");
+        Id versionIdObj = new Id("versionId");
+        ItemVersion zusammenPublicVersion =
+            createZusammenVersion(versionIdObj, new Id("baseId"), "version desc", "2.0", VersionStatus.Certified);
+        doReturn(zusammenPublicVersion).when(zusammenAdaptorMock)
+            .getPublicVersion(eq(SESSION_CONTEXT), eq(itemIdObj), eq(versionIdObj));
+
+        Optional<InternalVersion> version = versionDao.getPublic("itemId", "versionId");
+
+        assertTrue(version.isPresent());
+        assertEquals("2.0", version.get().getName());
+        assertEquals(VersionStatus.Certified, version.get().getStatus());
+        assertEquals(SynchronizationState.OutOfSync, version.get().getState().getSynchronizationState());
+    }
+
+    @Test
+    public void testGetPublicNotPublished() {
+        assertFalse(versionDao.getPublic("itemId", "versionId").isPresent());
+    }
+
     @Test
     public void testGetMerging() {
         String itemId = "itemId";
@@ -295,6 +378,66 @@ public class VersionZusammenDaoTest {
         assetVersionEquals(version.get(), zusammenPrivateVersion, zusammenVersionStatus);
     }
 
+    @Test
+    public void testGetOutOfSyncSequentially() {
+        versionDao = new VersionZusammenDao(contextCreatorMock, zusammenAdaptorMock,
+                new AsyncZusammenAdaptorImpl(zusammenAdaptorMock, asyncExecutor), false, 2);
+        Id itemIdObj = new Id("itemId");
+        Id versionIdObj = new Id("versionId");
+
+        ItemVersion zusammenPrivateVersion =
+            createZusammenVersion(versionIdObj, new Id("baseId"), "version desc", "2.0", VersionStatus.Draft);
+        doReturn(zusammenPrivateVersion).when(zusammenAdaptorMock)
+            .getVersion(eq(SESSION_CONTEXT), eq(itemIdObj), eq(versionIdObj));
+        ItemVersionStatus zusammenVersionStatus = new ItemVersionStatus(SynchronizationStatus.OUT_OF_SYNC, false);
+        doReturn(zusammenVersionStatus).when(zusammenAdaptorMock)
+            .getVersionStatus(eq(SESSION_CONTEXT), eq(itemIdObj), eq(versionIdObj));
+        doReturn(createZusammenVersion(versionIdObj, new Id("baseId"), "version desc", "2.0", VersionStatus.Certified))
+            .when(zusammenAdaptorMock).getPublicVersion(eq(SESSION_CONTEXT), eq(itemIdObj), eq(versionIdObj));
+
+        Optional<InternalVersion> version = versionDao.get("itemId", "versionId");
+
+        assertTrue(version.isPresent());
+        assertEquals(VersionStatus.Certified, version.get().getStatus());
+    }
+
+    @Test
+    public void testGetSyncedIgnoresFailedPublicVersion() {
+        Id itemIdObj = new Id("itemId");
+        Id versionIdObj = new Id("versionId");
+
+        ItemVersion zusammenPrivateVersion =
+            createZusammenVersion(versionIdObj, new Id("baseId"), "version desc", "2.0", VersionStatus.Draft);
+        doReturn(zusammenPrivateVersion).when(zusammenAdaptorMock)
+            .getVersion(eq(SESSION_CONTEXT), eq(itemIdObj), eq(versionIdObj));
+        doReturn(new ItemVersionStatus(SynchronizationStatus.UP_TO_DATE, false)).when(zusammenAdaptorMock)
+            .getVersionStatus(eq(SESSION_CONTEXT), eq(itemIdObj), eq(versionIdObj));
+        doThrow(new ZusammenException("not published")).when(zusammenAdaptorMock)
+            .getPublicVersion(eq(SESSION_CONTEXT), eq(itemIdObj), eq(versionIdObj));
+
+        Optional<InternalVersion> version = versionDao.get("itemId", "versionId");
+
+        assertTrue(version.isPresent());
+        assertEquals(VersionStatus.Draft, version.get().getStatus());
+    }
+
+    @Test
+    public void testGetOutOfSyncFailsOnFailedPublicVersion() {
+        Id itemIdObj = new Id("itemId");
+        Id versionIdObj = new Id("versionId");
+
+        doReturn(createZusammenVersion(versionIdObj, new Id("baseId"), "version desc", "2.0", VersionStatus.Draft))
+            .when(zusammenAdaptorMock).getVersion(eq(SESSION_CONTEXT), eq(itemIdObj), eq(versionIdObj));
+        doReturn(new ItemVersionStatus(SynchronizationStatus.OUT_OF_SYNC, false)).when(zusammenAdaptorMock)
+            .getVersionStatus(eq(SESSION_CONTEXT), eq(itemIdObj), eq(versionIdObj));
+        doThrow(new ZusammenException("public version failed")).when(zusammenAdaptorMock)
+            .getPublicVersion(eq(SESSION_CONTEXT), eq(itemIdObj), eq(versionIdObj));
+
+        ZusammenException exception =
+            assertThrows(ZusammenException.class, () -> versionDao.get("itemId", "versionId"));
+        assertEquals("public version failed", exception.getMessage());
+    }
+
     @Test
     public void testPublish() {
         String itemId = "itemId";
@@ -378,6 +521,73 @@ public class VersionZusammenDaoTest {
         assertRevisionEquals(revisions.get(3), zusammenRevisions.get(1)); // rev1 - oldest
     }
 
+    @Test
+    public void testListRevisionsPaged() {
+        String itemId = "itemId";
+        String versionId = "versionId";
+
+        long currentTime = System.currentTimeMillis();
+        List<com.amdocs.zusammen.datatypes.itemversion.Revision> zusammenRevisions = new ArrayList<>();
+        for (int i : new int[] {3, 0, 4, 1, 2}) {
+            zusammenRevisions.add(createZusammenRevision("rev" + i, "rev " + i, "user", new Date(currentTime + i)));
+        }
+        ItemVersionRevisions toBeReturned = new ItemVersionRevisions();
+        toBeReturned.setItemVersionRevisions(zusammenRevisions);
+        doReturn(toBeReturned).when(zusammenAdaptorMock)
+            .listRevisions(eq(SESSION_CONTEXT), eq(new Id(itemId)), eq(new Id(versionId)));
+
+        List<Revision> firstPage = versionDao.listRevisions(itemId, versionId, null, null, 2);
+        assertEquals(Arrays.asList("rev4", "rev3"), revisionIds(firstPage));
+
+        List<Revision> secondPage =
+            versionDao.listRevisions(itemId, versionId, firstPage.get(1).getTime(), firstPage.get(1).getId(), 2);
+        assertEquals(Arrays.asList("rev2", "rev1"), revisionIds(secondPage));
+
+        List<Revision> lastPage =
+            versionDao.listRevisions(itemId, versionId, secondPage.get(1).getTime(), secondPage.get(1).getId(), 2);
+        assertEquals(Arrays.asList("rev0"), revisionIds(lastPage));
+        assertRevisionEquals(lastPage.get(0), zusammenRevisions.get(1));
+
+        assertTrue(versionDao
+            .listRevisions(itemId, versionId, lastPage.get(0).getTime(), lastPage.get(0).getId(), 2).isEmpty());
+    }
+
+    @Test
+    public void testListRevisionsPagedKeepsRevisionsOfTheSameTime() {
+        String itemId = "itemId";
+        String versionId = "versionId";
+
+        Date time = new Date();
+        List<com.amdocs.zusammen.datatypes.itemversion.Revision> zusammenRevisions = new ArrayList<>();
+        for (String revisionId : new String[] {"rev1", "rev3", "rev2"}) {
+            zusammenRevisions.add(createZusammenRevision(revisionId, revisionId, "user", time));
+        }
+        zusammenRevisions.add(createZusammenRevision("rev0", "rev0", "user", new Date(time.getTime() - 1)));
+        ItemVersionRevisions toBeReturned = new ItemVersionRevisions();
+        toBeReturned.setItemVersionRevisions(zusammenRevisions);
+        doReturn(toBeReturned).when(zusammenAdaptorMock)
+            .listRevisions(eq(SESSION_CONTEXT), eq(new Id(itemId)), eq(new Id(versionId)));
+
+        List<Revision> firstPage = versionDao.listRevisions(itemId, versionId, null, null, 2);
+        assertEquals(Arrays.asList("rev3", "rev2"), revisionIds(firstPage));
+
+        List<Revision> secondPage =
+            versionDao.listRevisions(itemId, versionId, firstPage.get(1).getTime(), firstPage.get(1).getId(), 2);
+        assertEquals(Arrays.asList("rev1", "rev0"), revisionIds(secondPage));
+    }
+
+    @Test
+    public void testListRevisionsPagedWhenNone() {
+        doReturn(new ItemVersionRevisions()).when(zusammenAdaptorMock)
+            .listRevisions(eq(SESSION_CONTEXT), eq(new Id("itemId")), eq(new Id("versionId")));
+
+        assertTrue(versionDao.listRevisions("itemId", "versionId", null, null, 10).isEmpty());
+    }
+
+    private static List<String> revisionIds(List<Revision> revisions) {
+        return revisions.stream().map(Revision::getId).collect(Collectors.toList());
+    }
+
     private ItemVersion createZusammenVersion(Id id, Id baseId, String description, String name, VersionStatus status) {
         ItemVersion version = new ItemVersion();
         version.setId(id);
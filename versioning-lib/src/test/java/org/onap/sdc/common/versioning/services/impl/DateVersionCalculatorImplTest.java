@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
+
+public class DateVersionCalculatorImplTest {
+
+    private final DateVersionCalculatorImpl calculator =
+        new DateVersionCalculatorImpl(Clock.fixed(Instant.parse("2019-03-15T10:00:00Z"), ZoneOffset.UTC));
+
+    @Test
+    public void calculateInitialVersion() {
+        assertEquals("2019.3.1", calculator.calculate(null, VersionCreationMethod.major));
+    }
+
+    @Test
+    public void calculateNextVersionOfMonth() {
+        assertEquals("2019.3.3", calculator.calculate("2019.3.2", VersionCreationMethod.minor));
+    }
+
+    @Test
+    public void calculateFirstVersionOfMonth() {
+        assertEquals("2019.3.1", calculator.calculate("2019.2.7", VersionCreationMethod.major));
+        assertEquals("2019.3.1", calculator.calculate("2018.3.7", VersionCreationMethod.major));
+    }
+
+    @Test
+    public void calculateFollowsExistingVersionsOfMonth() {
+        Set<String> existingVersions = new HashSet<>(Arrays.asList("2019.2.7", "2019.3.1", "2019.3.2", "2018.3.9"));
+
+        assertEquals("2019.3.3", calculator.calculate("2019.2.7", VersionCreationMethod.major, existingVersions));
+        assertEquals("2019.3.3", calculator.calculate("2019.3.1", VersionCreationMethod.major, existingVersions));
+        assertEquals("2019.3.1", calculator.calculate(null, VersionCreationMethod.major, Collections.emptySet()));
+    }
+
+    @Test
+    public void calculateException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> calculator.calculate("2019.3", VersionCreationMethod.major));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ItemLocksTest {
+
+    private final ItemLocks itemLocks = new ItemLocks(16);
+
+    @Test
+    public void testCallLockedReturnsResult() {
+        assertEquals("result", itemLocks.callLocked("item", () -> "result"));
+    }
+
+    @Test
+    public void testLockIsReleasedOnFailure() throws Exception {
+        assertThrows(IllegalStateException.class, () -> itemLocks.runLocked("item", () -> {
+            throw new IllegalStateException("failed");
+        }));
+
+        CompletableFuture.runAsync(() -> itemLocks.runLocked("item", () -> { })).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testChangesOfItemAreSerialized() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> itemLocks.runLocked("item", () -> {
+            locked.countDown();
+            await(release);
+        }));
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> waiter = CompletableFuture.runAsync(() -> itemLocks.runLocked("item", () -> { }));
+        Thread.sleep(50);
+        assertFalse(waiter.isDone());
+
+        release.countDown();
+        CompletableFuture.allOf(holder, waiter).get(5, TimeUnit.SECONDS);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
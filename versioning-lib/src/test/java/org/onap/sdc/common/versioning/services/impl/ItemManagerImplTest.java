@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.onap.sdc.common.versioning.persistence.ItemDao;
+import org.onap.sdc.common.versioning.persistence.types.InternalItem;
+import org.onap.sdc.common.versioning.services.exceptions.VersioningException;
+import org.onap.sdc.common.versioning.services.types.Item;
+import org.onap.sdc.common.versioning.services.types.ItemFilter;
+
+public class ItemManagerImplTest {
+
+    private final ItemDao itemDao = Mockito.mock(ItemDao.class);
+    private final ItemManagerImpl itemManager = new ItemManagerImpl(itemDao, new ItemLocks(4));
+
+    @Test
+    public void testListAppliesPredicateOnAllItems() {
+        when(itemDao.list(ItemFilter.ALL)).thenReturn(Stream.of(createItem("1"), createItem("2"), createItem("3")));
+
+        Collection<Item> items = itemManager.list(item -> !"2".equals(item.getId()));
+
+        assertEquals(Arrays.asList("1", "3"), items.stream().map(Item::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testStreamPushesFilterToDao() {
+        ItemFilter filter = ItemFilter.ALL.withType("vsp");
+        when(itemDao.list(filter)).thenReturn(Stream.of(createItem("1")));
+
+        assertEquals(1, itemManager.stream(filter, item -> true).count());
+        verify(itemDao).list(filter);
+    }
+
+    @Test
+    public void testListInPages() {
+        when(itemDao.list(ItemFilter.ALL)).thenReturn(
+                Stream.of(createItem("1"), createItem("2"), createItem("3"), createItem("4"), createItem("5")));
+
+        Iterator<List<Item>> pages = itemManager.list(ItemFilter.ALL, item -> true, 2);
+
+        assertEquals(Arrays.asList("1", "2"), ids(pages.next()));
+        assertEquals(Arrays.asList("3", "4"), ids(pages.next()));
+        assertEquals(Arrays.asList("5"), ids(pages.next()));
+        assertFalse(pages.hasNext());
+    }
+
+    @Test
+    public void testListInPagesOfNonPositiveSize() {
+        assertThrows(VersioningException.class, () -> itemManager.list(ItemFilter.ALL, item -> true, 0));
+    }
+
+    private static List<String> ids(List<Item> items) {
+        return items.stream().map(Item::getId).collect(Collectors.toList());
+    }
+
+    private static InternalItem createItem(String id) {
+        InternalItem item = new InternalItem();
+        item.setId(id);
+        return item;
+    }
+}
@@ -19,9 +19,16 @@ package org.onap.sdc.common.versioning.services.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
 import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
 
 public class MajorVersionCalculatorImplTest {
 
@@ -101,4 +108,58 @@ public class MajorVersionCalculatorImplTest {
         );
     }
 
-}
\ No newline at end of file
+    @Test
+    public void injectAdditionalInfoOfAllVersions() {
+        InternalVersion certified = createVersion("1.0", VersionStatus.Certified);
+        InternalVersion latestCertified = createVersion("2.0", VersionStatus.Certified);
+        InternalVersion draft = createVersion("1.1", VersionStatus.Draft);
+        List<InternalVersion> versions = Arrays.asList(certified, latestCertified, draft);
+
+        calculator.injectAdditionalInfo(versions);
+
+        assertEquals(Collections.emptySet(), certified.getProperty("OptionalCreationMethods"));
+        assertEquals(Collections.singleton(VersionCreationMethod.major),
+            latestCertified.getProperty("OptionalCreationMethods"));
+        assertEquals(Collections.emptySet(), draft.getProperty("OptionalCreationMethods"));
+    }
+
+    @Test
+    public void injectAdditionalInfoOfAllVersionsMatchesPerVersion() {
+        List<InternalVersion> versions = Arrays.asList(createVersion("1.0", VersionStatus.Certified),
+            createVersion("1.1", VersionStatus.Certified), createVersion("3.0", VersionStatus.Certified),
+            createVersion("draft", VersionStatus.Draft));
+        List<InternalVersion> sameVersions = Arrays.asList(createVersion("1.0", VersionStatus.Certified),
+            createVersion("1.1", VersionStatus.Certified), createVersion("3.0", VersionStatus.Certified),
+            createVersion("draft", VersionStatus.Draft));
+        HashSet<String> names = new HashSet<>(Arrays.asList("1.0", "1.1", "3.0", "draft"));
+
+        calculator.injectAdditionalInfo(versions);
+        sameVersions.forEach(version -> calculator.injectAdditionalInfo(version, names));
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(sameVersions.get(i).<Object>getProperty("OptionalCreationMethods"),
+                versions.get(i).getProperty("OptionalCreationMethods"));
+        }
+    }
+
+    @Test
+    public void injectedOptionalCreationMethodsAreModifiablePerVersion() {
+        InternalVersion certified = createVersion("1.0", VersionStatus.Certified);
+        InternalVersion otherCertified = createVersion("3.0", VersionStatus.Certified);
+        InternalVersion draft = createVersion("1.1", VersionStatus.Draft);
+
+        calculator.injectAdditionalInfo(Arrays.asList(certified, otherCertified, draft));
+        certified.<Set<VersionCreationMethod>>getProperty("OptionalCreationMethods").clear();
+        draft.<Set<VersionCreationMethod>>getProperty("OptionalCreationMethods").add(VersionCreationMethod.major);
+
+        assertEquals(Collections.singleton(VersionCreationMethod.major),
+            otherCertified.getProperty("OptionalCreationMethods"));
+    }
+
+    private static InternalVersion createVersion(String name, VersionStatus status) {
+        InternalVersion version = new InternalVersion();
+        version.setName(name);
+        version.setStatus(status);
+        return version;
+    }
+}
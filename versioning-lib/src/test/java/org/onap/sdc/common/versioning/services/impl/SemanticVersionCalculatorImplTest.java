@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
+import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
+
+public class SemanticVersionCalculatorImplTest {
+
+    private final SemanticVersionCalculatorImpl calculator = new SemanticVersionCalculatorImpl();
+
+    @Test
+    public void calculateInitialVersion() {
+        assertEquals("1.0.0", calculator.calculate(null, VersionCreationMethod.major));
+        assertEquals("0.1.0", calculator.calculate(null, VersionCreationMethod.minor));
+        assertEquals("0.0.1", calculator.calculate(null, VersionCreationMethod.patch));
+    }
+
+    @Test
+    public void calculateIncrements() {
+        assertEquals("2.0.0", calculator.calculate("1.9.3", VersionCreationMethod.major));
+        assertEquals("1.10.0", calculator.calculate("1.9.3", VersionCreationMethod.minor));
+        assertEquals("1.9.4", calculator.calculate("1.9.3", VersionCreationMethod.patch));
+    }
+
+    @Test
+    public void calculateException() {
+        for (String invalidVersion : Arrays.asList("1.0", "1.0.0.0", "1.a.0", "1..0", "1.0.", "99999999999.0.0")) {
+            assertThrows(IllegalArgumentException.class,
+                () -> calculator.calculate(invalidVersion, VersionCreationMethod.major));
+        }
+    }
+
+    @Test
+    public void injectAdditionalInfo() {
+        InternalVersion certified = createVersion("1.0.0", VersionStatus.Certified);
+        InternalVersion draft = createVersion("1.0.1", VersionStatus.Draft);
+
+        calculator.injectAdditionalInfo(Arrays.asList(certified, draft));
+
+        assertEquals(EnumSet.of(VersionCreationMethod.major, VersionCreationMethod.minor),
+            certified.getProperty("OptionalCreationMethods"));
+        assertEquals(EnumSet.noneOf(VersionCreationMethod.class), draft.getProperty("OptionalCreationMethods"));
+    }
+
+    private static InternalVersion createVersion(String name, VersionStatus status) {
+        InternalVersion version = new InternalVersion();
+        version.setName(name);
+        version.setStatus(status);
+        return version;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class VersionCalculatorRegistryTest {
+
+    private final MajorVersionCalculatorImpl majorCalculator = new MajorVersionCalculatorImpl();
+    private final SemanticVersionCalculatorImpl semanticCalculator = new SemanticVersionCalculatorImpl();
+    private final DateVersionCalculatorImpl dateCalculator = new DateVersionCalculatorImpl();
+    private final List<VersionCalculator> calculators =
+        Arrays.asList(majorCalculator, semanticCalculator, dateCalculator);
+
+    @Test
+    public void testByItemType() {
+        VersionCalculatorRegistry registry =
+            new VersionCalculatorRegistry(calculators, "major", " vsp : semantic , service:date ");
+
+        assertSame(semanticCalculator, registry.get("vsp"));
+        assertSame(dateCalculator, registry.get("service"));
+        assertSame(majorCalculator, registry.get("vlm"));
+        assertSame(majorCalculator, registry.get((String) null));
+    }
+
+    @Test
+    public void testItemTypeNotLoadedWithoutItemTypeSchemes() {
+        VersionCalculatorRegistry registry = new VersionCalculatorRegistry(calculators, "semantic", "");
+
+        assertSame(semanticCalculator, registry.get(() -> {
+            throw new AssertionError("item type loaded");
+        }));
+    }
+
+    @Test
+    public void testUnknownScheme() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new VersionCalculatorRegistry(calculators, "major", "vsp:unknown"));
+        assertThrows(IllegalArgumentException.class,
+            () -> new VersionCalculatorRegistry(Collections.singletonList(majorCalculator), "semantic", ""));
+    }
+
+    @Test
+    public void testDuplicateScheme() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionCalculatorRegistry(
+            Arrays.asList(majorCalculator, new MajorVersionCalculatorImpl()), "major", ""));
+    }
+}
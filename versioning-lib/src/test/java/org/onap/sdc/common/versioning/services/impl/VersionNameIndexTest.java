@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
+
+public class VersionNameIndexTest {
+
+    private static final String ITEM_ID = "itemId";
+
+    private final VersionNameIndex versionNameIndex = new VersionNameIndex(100, 60);
+
+    @Test
+    public void testReserveRejectsIndexedNameWithoutLoading() {
+        AtomicInteger loads = new AtomicInteger();
+        versionNameIndex.refresh(ITEM_ID, versions("1.0"));
+
+        assertFalse(versionNameIndex.reserve(ITEM_ID, "1.0", () -> {
+            loads.incrementAndGet();
+            return versions("1.0");
+        }));
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    public void testReserveConfirmsNameMissingFromIndex() {
+        versionNameIndex.refresh(ITEM_ID, versions("1.0"));
+
+        // created on another node since the names were indexed
+        assertFalse(versionNameIndex.reserve(ITEM_ID, "1.1", () -> versions("1.0", "1.1")));
+        assertTrue(versionNameIndex.reserve(ITEM_ID, "1.2", () -> versions("1.0", "1.1")));
+    }
+
+    @Test
+    public void testReleasedNameCanBeReservedAgain() {
+        assertTrue(versionNameIndex.reserve(ITEM_ID, "2.0", () -> versions("1.0")));
+        versionNameIndex.release(ITEM_ID, "2.0");
+
+        assertTrue(versionNameIndex.reserve(ITEM_ID, "2.0", () -> versions("1.0")));
+    }
+
+    @Test
+    public void testRefreshKeepsReservedNames() {
+        assertTrue(versionNameIndex.reserve(ITEM_ID, "2.0", () -> versions("1.0")));
+        versionNameIndex.refresh(ITEM_ID, versions("1.0", "1.1"));
+
+        assertFalse(versionNameIndex.reserve(ITEM_ID, "2.0", () -> versions("1.0")));
+        assertFalse(versionNameIndex.reserve(ITEM_ID, "1.1", () -> versions("1.0")));
+    }
+
+    @Test
+    public void testReserveKeepsNamesRefreshedWhileLoading() {
+        assertTrue(versionNameIndex.reserve(ITEM_ID, "2.0", () -> {
+            versionNameIndex.refresh(ITEM_ID, versions("1.1"));
+            return versions("1.0");
+        }));
+
+        assertFalse(versionNameIndex.reserve(ITEM_ID, "1.0", Collections::emptyList));
+        assertFalse(versionNameIndex.reserve(ITEM_ID, "1.1", Collections::emptyList));
+    }
+
+    private static List<InternalVersion> versions(String... names) {
+        List<InternalVersion> versions = new ArrayList<>();
+        for (String name : names) {
+            InternalVersion version = new InternalVersion();
+            version.setName(name);
+            versions.add(version);
+        }
+        return versions;
+    }
+}
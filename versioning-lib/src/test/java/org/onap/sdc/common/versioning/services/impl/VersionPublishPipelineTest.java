@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.onap.sdc.common.session.SessionContext;
+import org.onap.sdc.common.session.SessionContextProvider;
+import org.onap.sdc.common.zusammen.metrics.InMemoryZusammenMetricsRegistry;
+
+public class VersionPublishPipelineTest {
+
+    private final SessionContextProvider sessionContextProvider = Mockito.mock(SessionContextProvider.class);
+    private final InMemoryZusammenMetricsRegistry metricsRegistry = new InMemoryZusammenMetricsRegistry();
+    private VersionPublishPipeline pipeline;
+
+    @BeforeEach
+    public void setUp() {
+        SessionContext sessionContext = Mockito.mock(SessionContext.class);
+        when(sessionContext.getUserId()).thenReturn("user");
+        when(sessionContext.getTenant()).thenReturn("tenant");
+        when(sessionContextProvider.get()).thenReturn(sessionContext);
+        pipeline = new VersionPublishPipeline(sessionContextProvider, metricsRegistry::gauge, true, 4, 3, 1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    public void testTasksOfItemRunInOrder() throws Exception {
+        List<String> steps = new CopyOnWriteArrayList<>();
+        CountDownLatch firstAllowed = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = pipeline.submit("item", () -> {
+            await(firstAllowed);
+            steps.add("first");
+        });
+        CompletableFuture<Void> second = pipeline.submit("item", () -> steps.add("second"));
+        pipeline.submit("otherItem", () -> steps.add("other")).get(5, TimeUnit.SECONDS);
+
+        assertFalse(second.isDone());
+        assertEquals(2, pipeline.getQueueDepth());
+        assertEquals(2L, metricsRegistry.getGauges().get("versioning.publish-pipeline.queue-depth").longValue());
+        firstAllowed.countDown();
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("other", "first", "second"), steps);
+        assertEquals(0, pipeline.getQueueDepth());
+    }
+
+    @Test
+    public void testFailedStepIsRetried() throws Exception {
+        AtomicInteger firstStepRuns = new AtomicInteger();
+        AtomicInteger secondStepRuns = new AtomicInteger();
+
+        pipeline.submit("item", firstStepRuns::incrementAndGet, () -> {
+            if (secondStepRuns.incrementAndGet() < 3) {
+                throw new IllegalStateException("failed");
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, firstStepRuns.get());
+        assertEquals(3, secondStepRuns.get());
+        assertEquals(2L, metricsRegistry.getGauges().get("versioning.publish-pipeline.retries").longValue());
+    }
+
+    @Test
+    public void testTaskFailsAfterMaxAttempts() throws Exception {
+        IllegalStateException failure = new IllegalStateException("failed");
+        AtomicInteger nextStepRuns = new AtomicInteger();
+
+        CompletableFuture<Void> failed = pipeline.submit("item", () -> {
+            throw failure;
+        }, nextStepRuns::incrementAndGet);
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+
+        assertSame(failure, thrown.getCause());
+        assertEquals(0, nextStepRuns.get());
+        assertEquals(1L, metricsRegistry.getGauges().get("versioning.publish-pipeline.failures").longValue());
+        pipeline.submit("item", nextStepRuns::incrementAndGet).get(5, TimeUnit.SECONDS);
+        assertEquals(1, nextStepRuns.get());
+    }
+
+    @Test
+    public void testTaskRunsInSubmitterSession() throws Exception {
+        pipeline.submit("item", () -> { }).get(5, TimeUnit.SECONDS);
+
+        verify(sessionContextProvider).create("user", "tenant");
+        // the session is closed once the task completed
+        verify(sessionContextProvider, timeout(5000)).close();
+    }
+
+    @Test
+    public void testSubmitWhenDisabled() {
+        VersionPublishPipeline disabledPipeline =
+            new VersionPublishPipeline(sessionContextProvider, metricsRegistry::gauge, false, 4, 3, 1);
+
+        assertFalse(disabledPipeline.isEnabled());
+        assertThrows(IllegalStateException.class, () -> disabledPipeline.submit("item", () -> { }));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.onap.sdc.common.session.SessionContext;
+import org.onap.sdc.common.session.SessionContextProvider;
+
+public class VersionSyncSchedulerTest {
+
+    private final SessionContextProvider sessionContextProvider = Mockito.mock(SessionContextProvider.class);
+    private VersionSyncScheduler syncScheduler;
+
+    @BeforeEach
+    public void setUp() {
+        SessionContext sessionContext = Mockito.mock(SessionContext.class);
+        when(sessionContext.getUserId()).thenReturn("user");
+        when(sessionContext.getTenant()).thenReturn("tenant");
+        when(sessionContextProvider.get()).thenReturn(sessionContext);
+        syncScheduler = new VersionSyncScheduler(sessionContextProvider, true, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        syncScheduler.shutdown();
+    }
+
+    @Test
+    public void testConcurrentSyncsOfVersionAreDeduplicated() throws Exception {
+        AtomicInteger syncs = new AtomicInteger();
+        CountDownLatch syncAllowed = new CountDownLatch(1);
+        Runnable sync = () -> {
+            await(syncAllowed);
+            syncs.incrementAndGet();
+        };
+
+        CompletableFuture<Void> first = syncScheduler.schedule("item", "version", sync);
+        CompletableFuture<Void> second = syncScheduler.schedule("item", "version", sync);
+        CompletableFuture<Void> otherVersion = syncScheduler.schedule("item", "otherVersion", syncs::incrementAndGet);
+
+        assertSame(first, second);
+        otherVersion.get(5, TimeUnit.SECONDS);
+        assertEquals(1, syncScheduler.getPendingSyncs());
+        syncAllowed.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals(2, syncs.get());
+        assertEquals(0, syncScheduler.getPendingSyncs());
+    }
+
+    @Test
+    public void testVersionIsSyncedAgainOnceSynced() throws Exception {
+        AtomicInteger syncs = new AtomicInteger();
+
+        syncScheduler.schedule("item", "version", syncs::incrementAndGet).get(5, TimeUnit.SECONDS);
+        syncScheduler.schedule("item", "version", syncs::incrementAndGet).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, syncs.get());
+    }
+
+    @Test
+    public void testFailedSyncIsReported() {
+        CompletableFuture<Void> failed = syncScheduler.schedule("item", "version", () -> {
+            throw new IllegalStateException("failed");
+        });
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertEquals("failed", thrown.getCause().getMessage());
+    }
+
+    @Test
+    public void testSyncRunsInCallerSession() throws Exception {
+        syncScheduler.schedule("item", "version", () -> { }).get(5, TimeUnit.SECONDS);
+
+        verify(sessionContextProvider).create("user", "tenant");
+    }
+
+    @Test
+    public void testScheduleWhenNotLazy() {
+        VersionSyncScheduler eagerSyncScheduler = new VersionSyncScheduler(sessionContextProvider, false, 2);
+
+        assertFalse(eagerSyncScheduler.isLazy());
+        assertThrows(IllegalStateException.class, () -> eagerSyncScheduler.schedule("item", "version", () -> { }));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
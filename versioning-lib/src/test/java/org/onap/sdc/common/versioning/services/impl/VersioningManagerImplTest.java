@@ -17,34 +17,74 @@
 package org.onap.sdc.common.versioning.services.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mockito;
-import org.mockito.MockitoAnnotations;
+import org.onap.sdc.common.session.SessionContext;
+import org.onap.sdc.common.session.SessionContextProvider;
+import org.onap.sdc.common.versioning.persistence.ItemDao;
 import org.onap.sdc.common.versioning.persistence.VersionDao;
+import org.onap.sdc.common.versioning.persistence.types.InternalItem;
 import org.onap.sdc.common.versioning.persistence.types.InternalVersion;
+import org.onap.sdc.common.versioning.services.VersioningMetrics;
+import org.onap.sdc.common.versioning.services.exceptions.VersioningException;
+import org.onap.sdc.common.versioning.services.types.Revision;
+import org.onap.sdc.common.versioning.services.types.SynchronizationState;
 import org.onap.sdc.common.versioning.services.types.Version;
+import org.onap.sdc.common.versioning.services.types.VersionCreationMethod;
+import org.onap.sdc.common.versioning.services.types.VersionState;
+import org.onap.sdc.common.versioning.services.types.VersionStatus;
+import org.onap.sdc.common.versioning.services.types.VersionsListing;
 
 public class VersioningManagerImplTest {
 
     private final VersionDao versionDao = Mockito.mock(VersionDao.class);
 
     private final VersionCalculator versionCalculator = Mockito.mock(VersionCalculator.class);
-    @InjectMocks
+    private final ItemDao itemDao = Mockito.mock(ItemDao.class);
+    private final VersionPublishPipeline publishPipeline = Mockito.mock(VersionPublishPipeline.class);
+    private final ItemLocks itemLocks = new ItemLocks(4);
+    private final VersionSyncScheduler syncScheduler = Mockito.mock(VersionSyncScheduler.class);
     private VersioningManagerImpl versioningManager;
 
     @BeforeEach
     public void mockSessionContext() {
-        MockitoAnnotations.initMocks(this);
+        when(versionCalculator.getScheme()).thenReturn("mock");
+        versioningManager = createVersioningManager(
+            new VersionCalculatorRegistry(Collections.singletonList(versionCalculator), "mock", ""), publishPipeline,
+            syncScheduler);
     }
 
     @Test
@@ -98,4 +138,337 @@ public class VersioningManagerImplTest {
         assertEquals(versionId, updatedVersion.getId());
         assertEquals(version.getDescription(), updatedVersion.getDescription());
     }
+
+    @Test
+    public void testCreateValidatesNameWithSingleListingPerCreation() {
+        String itemId = "itemId";
+        mockCreation(itemId, "1.0", "2.0");
+
+        versioningManager.create(itemId, null, new Version(), VersionCreationMethod.major);
+        versioningManager.create(itemId, null, new Version(), VersionCreationMethod.major);
+
+        verify(versionDao, times(2)).list(itemId);
+        verify(versionDao, times(2)).create(eq(itemId), any(InternalVersion.class));
+    }
+
+    @Test
+    public void testCreateWithExistingName() {
+        String itemId = "itemId";
+        mockCreation(itemId, "1.0");
+        when(versionDao.list(itemId)).thenReturn(ImmutableList.of(createVersion("1.0")));
+
+        assertThrows(VersioningException.class,
+            () -> versioningManager.create(itemId, null, new Version(), VersionCreationMethod.major));
+    }
+
+    @Test
+    public void testCreateWithNameCreatedOnAnotherNode() {
+        String itemId = "itemId";
+        mockCreation(itemId, "1.1");
+        when(versionDao.list(itemId)).thenReturn(ImmutableList.of(createVersion("1.0")),
+            ImmutableList.of(createVersion("1.0"), createVersion("1.1")));
+        versioningManager.list(itemId);
+
+        assertThrows(VersioningException.class,
+            () -> versioningManager.create(itemId, null, new Version(), VersionCreationMethod.major));
+    }
+
+    @Test
+    public void testCreateWithNameOfCreatedVersion() {
+        String itemId = "itemId";
+        mockCreation(itemId, "1.0", "1.0");
+
+        versioningManager.create(itemId, null, new Version(), VersionCreationMethod.major);
+
+        assertThrows(VersioningException.class,
+            () -> versioningManager.create(itemId, null, new Version(), VersionCreationMethod.major));
+        verify(versionDao, times(1)).list(itemId);
+    }
+
+    @Test
+    public void testFailedCreateReleasesName() {
+        String itemId = "itemId";
+        mockCreation(itemId, "1.0", "1.0");
+        when(versionDao.create(eq(itemId), any(InternalVersion.class))).thenThrow(new IllegalStateException("failed"))
+            .thenAnswer(invocation -> invocation.getArgument(1));
+
+        assertThrows(IllegalStateException.class,
+            () -> versioningManager.create(itemId, null, new Version(), VersionCreationMethod.major));
+
+        assertEquals("1.0", versioningManager.create(itemId, null, new Version(), VersionCreationMethod.major)
+                                .getName());
+    }
+
+    @Test
+    public void testNamesReloadedAfterSync() {
+        String itemId = "itemId";
+        mockCreation(itemId, "1.0", "2.0");
+
+        versioningManager.create(itemId, null, new Version(), VersionCreationMethod.major);
+        versioningManager.sync(itemId, "versionId");
+        versioningManager.create(itemId, null, new Version(), VersionCreationMethod.major);
+
+        verify(versionDao, times(2)).list(itemId);
+    }
+
+    @Test
+    public void testListRefreshesNames() {
+        String itemId = "itemId";
+        mockCreation(itemId, "1.0");
+        when(versionDao.list(itemId)).thenReturn(ImmutableList.of(createVersion("1.0")));
+
+        versioningManager.list(itemId);
+
+        assertThrows(VersioningException.class,
+            () -> versioningManager.create(itemId, null, new Version(), VersionCreationMethod.major));
+        verify(versionDao, times(1)).list(itemId);
+    }
+
+    @Test
+    public void testCreateCalculatesNameByItemType() {
+        String itemId = "itemId";
+        VersionCalculator semanticCalculator = Mockito.mock(VersionCalculator.class);
+        when(semanticCalculator.getScheme()).thenReturn("semantic");
+        when(semanticCalculator.calculate(isNull(), eq(VersionCreationMethod.major), anySet())).thenReturn("1.0.0");
+        versioningManager = createVersioningManager(
+            new VersionCalculatorRegistry(Arrays.asList(versionCalculator, semanticCalculator), "mock", "vsp:semantic"),
+            publishPipeline, syncScheduler);
+        mockCreation(itemId, "1.0");
+        InternalItem item = new InternalItem();
+        item.setType("vsp");
+        when(itemDao.get(itemId)).thenReturn(item);
+
+        Version version = versioningManager.create(itemId, null, new Version(), VersionCreationMethod.major);
+
+        assertEquals("1.0.0", version.getName());
+    }
+
+    @Test
+    public void testListRevisionsPage() {
+        Date before = new Date();
+        List<Revision> revisions = ImmutableList.of(new Revision());
+        when(versionDao.listRevisions("itemId", "versionId", before, "revisionId", 10)).thenReturn(revisions);
+
+        assertEquals(revisions, versioningManager.listRevisions("itemId", "versionId", before, "revisionId", 10));
+    }
+
+    @Test
+    public void testListRevisionsPageOfNonPositiveLimit() {
+        assertThrows(VersioningException.class,
+            () -> versioningManager.listRevisions("itemId", "versionId", null, null, 0));
+    }
+
+    private void mockCreation(String itemId, String versionName, String... nextVersionNames) {
+        when(versionCalculator.calculate(isNull(), eq(VersionCreationMethod.major), anySet()))
+            .thenReturn(versionName, nextVersionNames);
+        when(versionDao.list(itemId)).thenReturn(ImmutableList.of());
+        when(versionDao.create(eq(itemId), any(InternalVersion.class)))
+            .thenAnswer(invocation -> invocation.getArgument(1));
+        when(itemDao.get(itemId)).thenReturn(new InternalItem());
+        when(itemDao.getForUpdate(itemId)).thenReturn(new InternalItem());
+    }
+
+    private static InternalVersion createVersion(String name) {
+        InternalVersion version = new InternalVersion();
+        version.setName(name);
+        return version;
+    }
+
+    @Test
+    public void testListAllReportsFailedItems() {
+        InternalVersion version = createVersion("1.0");
+        CompletableFuture<List<InternalVersion>> failedListing = new CompletableFuture<>();
+        failedListing.completeExceptionally(new VersioningException("list failed"));
+        Map<String, CompletableFuture<List<InternalVersion>>> listings = new LinkedHashMap<>();
+        listings.put("item1", CompletableFuture.completedFuture(ImmutableList.of(version)));
+        listings.put("item2", failedListing);
+        when(versionDao.listAll(Arrays.asList("item1", "item2"))).thenReturn(listings);
+
+        VersionsListing listing = versioningManager.listAll(Arrays.asList("item1", "item2"));
+
+        assertFalse(listing.isComplete());
+        assertEquals(ImmutableList.of(version), listing.getVersions().get("item1"));
+        assertFalse(listing.getVersions().containsKey("item2"));
+        assertEquals("list failed", listing.getFailures().get("item2").getMessage());
+        verify(versionCalculator).injectAdditionalInfo(ImmutableList.of(version));
+    }
+
+    @Test
+    public void testUpdateStatus() {
+        String itemId = "itemId";
+        InternalItem item = mockStatusUpdate(itemId, "versionId");
+
+        versioningManager.updateStatus(itemId, "versionId", VersionStatus.Certified, "certify");
+
+        verify(versionDao).publish(itemId, "versionId", "certify");
+        verify(itemDao).update(item);
+        assertEquals(1, item.getVersionStatusCounters().get(VersionStatus.Certified).intValue());
+    }
+
+    @Test
+    public void testUpdateStatusPipelined() throws Exception {
+        String itemId = "itemId";
+        InternalItem item = mockStatusUpdate(itemId, "versionId");
+        CountDownLatch publishAllowed = new CountDownLatch(1);
+        doAnswer(invocation -> publishAllowed.await(5, TimeUnit.SECONDS)).when(versionDao)
+            .publish(itemId, "versionId", "certify");
+        SessionContextProvider sessionContextProvider = Mockito.mock(SessionContextProvider.class);
+        when(sessionContextProvider.get()).thenReturn(Mockito.mock(SessionContext.class));
+        VersionPublishPipeline pipeline = new VersionPublishPipeline(sessionContextProvider,
+            VersioningMetrics.NONE, true, 2, 3, 1);
+        versioningManager = createVersioningManager(
+            new VersionCalculatorRegistry(Collections.singletonList(versionCalculator), "mock", ""), pipeline,
+            syncScheduler);
+        try {
+            CompletableFuture<Void> completion =
+                versioningManager.updateStatusAsync(itemId, "versionId", VersionStatus.Certified, "certify");
+
+            verify(versionDao).update(eq(itemId), any(InternalVersion.class));
+            assertFalse(completion.isDone());
+            publishAllowed.countDown();
+            completion.get(5, TimeUnit.SECONDS);
+            verify(itemDao).update(item);
+            assertEquals(1, item.getVersionStatusCounters().get(VersionStatus.Certified).intValue());
+        } finally {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void testUpdateStatusPipelinedWaitsAndReportsFailure() {
+        String itemId = "itemId";
+        mockStatusUpdate(itemId, "versionId");
+        doThrow(new IllegalStateException("publish failed")).when(versionDao).publish(itemId, "versionId", "certify");
+        SessionContextProvider sessionContextProvider = Mockito.mock(SessionContextProvider.class);
+        when(sessionContextProvider.get()).thenReturn(Mockito.mock(SessionContext.class));
+        VersionPublishPipeline pipeline = new VersionPublishPipeline(sessionContextProvider,
+            VersioningMetrics.NONE, true, 2, 2, 1);
+        versioningManager = createVersioningManager(
+            new VersionCalculatorRegistry(Collections.singletonList(versionCalculator), "mock", ""), pipeline,
+            syncScheduler);
+        try {
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> versioningManager.updateStatus(itemId, "versionId", VersionStatus.Certified, "certify"));
+
+            assertEquals("publish failed", exception.getMessage());
+            verify(versionDao, times(2)).publish(itemId, "versionId", "certify");
+            verify(itemDao, never()).update(any(InternalItem.class));
+        } finally {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrentStatusUpdatesKeepAllCounts() throws Exception {
+        String itemId = "itemId";
+        int versions = 8;
+        InternalItem storedItem = new InternalItem();
+        storedItem.setId(itemId);
+        for (int i = 0; i < versions; i++) {
+            InternalVersion version = createVersion("1." + i);
+            version.setId("version" + i);
+            version.setStatus(VersionStatus.Draft);
+            when(versionDao.get(itemId, version.getId())).thenReturn(Optional.of(version));
+            storedItem.addVersionStatus(VersionStatus.Draft);
+        }
+        // the dao hands out and stores copies, as a persistent one does
+        when(itemDao.getForUpdate(itemId)).thenAnswer(invocation -> copyCounters(storedItem));
+        doAnswer(invocation -> {
+            InternalItem updatedItem = invocation.getArgument(0);
+            Thread.yield();
+            storedItem.setVersionStatusCounters(copyCounters(updatedItem).getVersionStatusCounters());
+            return null;
+        }).when(itemDao).update(any(InternalItem.class));
+        ExecutorService executor = Executors.newFixedThreadPool(versions);
+        try {
+            List<Future<?>> updates = new ArrayList<>();
+            for (int i = 0; i < versions; i++) {
+                String versionId = "version" + i;
+                updates.add(executor.submit(
+                    () -> versioningManager.updateStatus(itemId, versionId, VersionStatus.Certified, "certify")));
+            }
+            for (Future<?> update : updates) {
+                update.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(Collections.singletonMap(VersionStatus.Certified, versions),
+            storedItem.getVersionStatusCounters());
+    }
+
+    @Test
+    public void testLazyGetReturnsPublicVersionAndSyncsInBackground() {
+        String itemId = "itemId";
+        InternalVersion publicVersion = createVersion("1.0");
+        publicVersion.setId("versionId");
+        when(versionDao.get(itemId, "versionId")).thenReturn(Optional.empty());
+        when(versionDao.getPublic(itemId, "versionId")).thenReturn(Optional.of(publicVersion));
+        VersionSyncScheduler lazySyncScheduler = createLazySyncScheduler();
+        versioningManager = createVersioningManager(
+            new VersionCalculatorRegistry(Collections.singletonList(versionCalculator), "mock", ""), publishPipeline,
+            lazySyncScheduler);
+        try {
+            assertEquals(publicVersion, versioningManager.get(itemId, "versionId"));
+
+            verify(versionDao, timeout(5000)).sync(itemId, "versionId");
+        } finally {
+            lazySyncScheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void testLazyGetForceSyncsCertifiedVersionInBackground() {
+        String itemId = "itemId";
+        InternalVersion version = createVersion("1.0");
+        version.setId("versionId");
+        version.setStatus(VersionStatus.Certified);
+        VersionState state = new VersionState();
+        state.setSynchronizationState(SynchronizationState.OutOfSync);
+        version.setState(state);
+        when(versionDao.get(itemId, "versionId")).thenReturn(Optional.of(version));
+        VersionSyncScheduler lazySyncScheduler = createLazySyncScheduler();
+        versioningManager = createVersioningManager(
+            new VersionCalculatorRegistry(Collections.singletonList(versionCalculator), "mock", ""), publishPipeline,
+            lazySyncScheduler);
+        try {
+            assertEquals(version, versioningManager.get(itemId, "versionId"));
+
+            verify(versionDao, timeout(5000)).forceSync(itemId, "versionId");
+            verify(versionDao, times(1)).get(itemId, "versionId");
+        } finally {
+            lazySyncScheduler.shutdown();
+        }
+    }
+
+    private VersioningManagerImpl createVersioningManager(VersionCalculatorRegistry versionCalculators,
+        VersionPublishPipeline pipeline, VersionSyncScheduler versionSyncScheduler) {
+        return new VersioningManagerImpl(versionDao, versionCalculators, itemDao, pipeline, itemLocks,
+            versionSyncScheduler, 100, 60);
+    }
+
+    private static VersionSyncScheduler createLazySyncScheduler() {
+        SessionContextProvider sessionContextProvider = Mockito.mock(SessionContextProvider.class);
+        when(sessionContextProvider.get()).thenReturn(Mockito.mock(SessionContext.class));
+        return new VersionSyncScheduler(sessionContextProvider, true, 1);
+    }
+
+    private static InternalItem copyCounters(InternalItem item) {
+        InternalItem copy = new InternalItem();
+        copy.setId(item.getId());
+        copy.setVersionStatusCounters(new EnumMap<>(item.getVersionStatusCounters()));
+        return copy;
+    }
+
+    private InternalItem mockStatusUpdate(String itemId, String versionId) {
+        InternalVersion version = createVersion("1.0");
+        version.setId(versionId);
+        version.setStatus(VersionStatus.Draft);
+        when(versionDao.get(itemId, versionId)).thenReturn(Optional.of(version));
+        InternalItem item = new InternalItem();
+        item.addVersionStatus(VersionStatus.Draft);
+        when(itemDao.getForUpdate(itemId)).thenReturn(item);
+        return item;
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class CompactPropertiesTest {
+
+    @Test
+    public void testBehavesAsMap() {
+        Map<String, Object> expected = new HashMap<>();
+        CompactProperties properties = new CompactProperties();
+        for (int i = 0; i < 10; i++) {
+            expected.put("key" + i, i);
+            properties.put("key" + i, i);
+        }
+        expected.put("key3", "replaced");
+        assertEquals(3, properties.put("key3", "replaced"));
+        expected.remove("key5");
+        assertEquals(5, properties.remove("key5"));
+        expected.put("nullValue", null);
+        properties.put("nullValue", null);
+
+        assertEquals(expected, properties);
+        assertEquals(properties, expected);
+        assertEquals(expected.hashCode(), properties.hashCode());
+        assertTrue(properties.containsKey("nullValue"));
+        assertFalse(properties.containsKey("key5"));
+        assertNull(properties.remove("missing"));
+    }
+
+    @Test
+    public void testEntriesCanBeChangedAndRemovedWhileIterating() {
+        CompactProperties properties = new CompactProperties();
+        properties.put("first", 1);
+        properties.put("second", 2);
+        properties.put("third", 3);
+
+        Iterator<Map.Entry<String, Object>> entries = properties.entrySet().iterator();
+        entries.next().setValue(10);
+        entries.next();
+        entries.remove();
+        entries.next();
+
+        assertFalse(entries.hasNext());
+        assertEquals(2, properties.size());
+        assertEquals(10, properties.get("first"));
+        assertEquals(3, properties.get("third"));
+    }
+
+    @Test
+    public void testKeysAreInterned() {
+        CompactProperties first = new CompactProperties();
+        first.put(new String("interned"), 1);
+        CompactProperties second = new CompactProperties();
+        second.put(new String("interned"), 2);
+
+        assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+    }
+
+    @Test
+    public void testItemPropertiesAreKeptWhenCompacted() {
+        Item item = new Item();
+        item.addProperty("key", "value");
+
+        item.compactProperties();
+        item.addProperty("other", 1);
+
+        assertTrue(item.getProperties() instanceof CompactProperties);
+        assertEquals("value", item.getProperty("key"));
+        assertEquals(Integer.valueOf(1), item.getProperty("other"));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.versioning.services.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class VersionNumberTest {
+
+    @Test
+    public void testParse() {
+        VersionNumber versionNumber = VersionNumber.parse("12.3");
+
+        assertEquals(12, versionNumber.getMajor());
+        assertEquals(3, versionNumber.getMinor());
+        assertEquals("12.3", versionNumber.toString());
+    }
+
+    @Test
+    public void testParseInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> VersionNumber.parse("1"));
+        assertThrows(IllegalArgumentException.class, () -> VersionNumber.parse("1.2.3"));
+        assertThrows(IllegalArgumentException.class, () -> VersionNumber.parse("1.a"));
+        assertThrows(IllegalArgumentException.class, () -> VersionNumber.parse("."));
+    }
+
+    @Test
+    public void testNext() {
+        assertEquals(new VersionNumber(2, 0), VersionNumber.parse("1.9").next(VersionCreationMethod.major));
+        assertEquals(new VersionNumber(1, 10), VersionNumber.parse("1.9").next(VersionCreationMethod.minor));
+    }
+
+    @Test
+    public void testLevels() {
+        VersionNumber versionNumber = VersionNumber.parse("1.9.3", 3);
+
+        assertEquals(VersionNumber.of(2, 0, 0), versionNumber.next(VersionCreationMethod.major));
+        assertEquals(VersionNumber.of(1, 10, 0), versionNumber.next(VersionCreationMethod.minor));
+        assertEquals(VersionNumber.of(1, 9, 4), versionNumber.next(VersionCreationMethod.patch));
+        assertEquals("1.9.3", versionNumber.toString());
+        assertThrows(IllegalArgumentException.class, () -> VersionNumber.parse("1.9", 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> VersionNumber.parse("1.9").next(VersionCreationMethod.patch));
+    }
+
+    @Test
+    public void testCompare() {
+        assertTrue(VersionNumber.parse("1.10").compareTo(VersionNumber.parse("1.9")) > 0);
+        assertTrue(VersionNumber.parse("2.0").compareTo(VersionNumber.parse("1.10")) > 0);
+        assertEquals(0, VersionNumber.parse("1.0").compareTo(new VersionNumber(1, 0)));
+        assertTrue(VersionNumber.of(1, 0, 1).compareTo(VersionNumber.parse("1.0")) > 0);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.config;
+
+import org.onap.sdc.common.zusammen.metrics.InMemoryZusammenMetricsRegistry;
+import org.onap.sdc.common.zusammen.metrics.ZusammenMetricsRegistry;
+import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
+import org.onap.sdc.common.zusammen.persistence.impl.HealthCachingZusammenConnector;
+import org.onap.sdc.common.zusammen.persistence.impl.MeteredZusammenConnector;
+import org.onap.sdc.common.zusammen.persistence.impl.ResilientZusammenConnector;
+import org.onap.sdc.common.zusammen.persistence.impl.ZusammenBulkhead;
+import org.onap.sdc.common.zusammen.persistence.impl.ZusammenCircuitBreaker;
+import org.onap.sdc.common.zusammen.persistence.impl.ZusammenConnectorImpl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Composes the zusammen connector used by the services out of the plain connector and its decorators.
+ */
+@Configuration
+public class ZusammenConnectorConfig {
+
+    @Bean
+    @Primary
+    public ZusammenConnector zusammenConnector(ZusammenConnectorImpl connector, ZusammenBulkhead bulkhead,
+            ZusammenCircuitBreaker circuitBreaker, ObjectProvider<ZusammenMetricsRegistry> metricsRegistryProvider,
+            @Value("${zusammen.metrics.enabled:true}") boolean metricsEnabled,
+            @Value("${zusammen.resilience.enabled:true}") boolean resilienceEnabled,
+            @Value("${zusammen.health.cache.enabled:true}") boolean healthCacheEnabled,
+            @Value("${zusammen.health.cache.refresh-interval-millis:10000}") long healthRefreshIntervalMillis,
+            @Value("${zusammen.health.cache.stale-after-millis:30000}") long healthStaleAfterMillis) {
+        ZusammenMetricsRegistry metricsRegistry = metricsRegistryProvider.getIfAvailable(
+                InMemoryZusammenMetricsRegistry::new);
+        ZusammenConnector composedConnector = connector;
+        if (metricsEnabled) {
+            // innermost, so that the latencies are of zusammen itself rather than of the resilience guards
+            composedConnector = new MeteredZusammenConnector(composedConnector, metricsRegistry);
+        }
+        if (resilienceEnabled) {
+            if (metricsEnabled) {
+                bulkhead.bindTo(metricsRegistry);
+                circuitBreaker.bindTo(metricsRegistry);
+            }
+            composedConnector = new ResilientZusammenConnector(composedConnector, bulkhead, circuitBreaker);
+        }
+        if (healthCacheEnabled) {
+            composedConnector = new HealthCachingZusammenConnector(composedConnector, healthRefreshIntervalMillis,
+                    healthStaleAfterMillis);
+        }
+        return composedConnector;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The metrics SPI of the zusammen library. Meters are resolved once, by name, and then updated on every call, so
+ * implementations should make updating a meter cheap and allocation free. Implement it and expose it as a bean to
+ * publish the zusammen metrics to another metrics system, otherwise {@link InMemoryZusammenMetricsRegistry} is used.
+ */
+public interface ZusammenMetricsRegistry {
+
+    Timer timer(String name);
+
+    Counter counter(String name);
+
+    /**
+     * Registers a gauge, the value supplier is called whenever the gauge is read.
+     */
+    void gauge(String name, LongSupplier value);
+
+    interface Timer {
+
+        void record(long durationNanos);
+    }
+
+    interface Counter {
+
+        void increment();
+    }
+}
@@ -32,7 +32,11 @@ import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
 import com.amdocs.zusammen.datatypes.item.Resolution;
 import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public interface ZusammenConnector {
 
@@ -40,6 +44,14 @@ public interface ZusammenConnector {
 
   String getReleaseVersion(SessionContext sessionContext);
 
+  /**
+   * Gets a snapshot of the zusammen health and release version. Implementations may serve a snapshot taken earlier,
+   * unless forceRefresh is set; this one checks them on every call.
+   */
+  default ZusammenHealthSnapshot getHealthSnapshot(SessionContext sessionContext, boolean forceRefresh) {
+    return ZusammenHealthSnapshot.take(this, sessionContext, Clock.systemUTC(), Duration.ZERO);
+  }
+
   Collection<Item> listItems(SessionContext context);
 
   Item getItem(SessionContext context, Id itemId);
@@ -92,6 +104,19 @@ public interface ZusammenConnector {
 
   Element getElement(SessionContext context, ElementContext elementContext, Id elementId);
 
+  /**
+   * Gets the elements of the given ids, the returned elements keep the order of the given ids. This one gets them one
+   * by one.
+   */
+  default Collection<Element> getElements(SessionContext context, ElementContext elementContext,
+          Collection<Id> elementIds) {
+    List<Element> elements = new ArrayList<>(elementIds.size());
+    for (Id elementId : elementIds) {
+      elements.add(getElement(context, elementContext, elementId));
+    }
+    return elements;
+  }
+
   ElementConflict getElementConflict(SessionContext context, ElementContext elementContext, Id elementId);
 
   Element saveElement(SessionContext context, ElementContext elementContext, Element element, String message);
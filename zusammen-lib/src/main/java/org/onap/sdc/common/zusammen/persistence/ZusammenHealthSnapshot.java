@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence;
+
+import com.amdocs.zusammen.commons.health.data.HealthInfo;
+import com.amdocs.zusammen.commons.health.data.HealthStatus;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Function;
+
+/**
+ * The zusammen health as of a point in time. A snapshot is stale once it is older than the age it was taken to be
+ * trusted for, which happens when refreshing it takes longer than expected (e.g. the backend hangs).
+ */
+public class ZusammenHealthSnapshot {
+
+    private static final String ZUSAMMEN_MODULE = "zusammen";
+
+    private final Collection<HealthInfo> healthInfos;
+    private final String releaseVersion;
+    private final Instant takenAt;
+    private final Duration staleAfter;
+    private final String failure;
+
+    public ZusammenHealthSnapshot(Collection<HealthInfo> healthInfos, String releaseVersion, Instant takenAt,
+            Duration staleAfter, String failure) {
+        this.healthInfos = healthInfos == null ? Collections.emptyList()
+                                   : Collections.unmodifiableList(new ArrayList<>(healthInfos));
+        this.releaseVersion = releaseVersion;
+        this.takenAt = takenAt;
+        this.staleAfter = staleAfter;
+        this.failure = failure;
+    }
+
+    /**
+     * Checks the zusammen health through the given connector. A failure to check it is reported in the snapshot,
+     * along with a zusammen module DOWN, rather than thrown.
+     */
+    public static ZusammenHealthSnapshot take(ZusammenConnector connector, SessionContext context, Clock clock,
+            Duration staleAfter) {
+        return take(connector::checkHealth, connector::getReleaseVersion, context, clock, staleAfter);
+    }
+
+    /**
+     * Checks the zusammen health and release version through the given functions, as described for the connector.
+     */
+    public static ZusammenHealthSnapshot take(Function<SessionContext, Collection<HealthInfo>> healthCheck,
+            Function<SessionContext, String> releaseVersionGetter, SessionContext context, Clock clock,
+            Duration staleAfter) {
+        Collection<HealthInfo> healthInfos;
+        String failure = null;
+        try {
+            healthInfos = healthCheck.apply(context);
+        } catch (RuntimeException e) {
+            failure = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+            healthInfos = Collections.singletonList(new HealthInfo(ZUSAMMEN_MODULE, HealthStatus.DOWN, failure));
+        }
+        String releaseVersion;
+        try {
+            releaseVersion = releaseVersionGetter.apply(context);
+        } catch (RuntimeException e) {
+            releaseVersion = null;
+        }
+        return new ZusammenHealthSnapshot(healthInfos, releaseVersion, clock.instant(), staleAfter, failure);
+    }
+
+    public Collection<HealthInfo> getHealthInfos() {
+        return healthInfos;
+    }
+
+    public String getReleaseVersion() {
+        return releaseVersion;
+    }
+
+    public Instant getTakenAt() {
+        return takenAt;
+    }
+
+    /**
+     * Gets the message of the failure to check the health when taking this snapshot, null if it was checked.
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    public boolean isHealthy() {
+        return failure == null && !healthInfos.isEmpty() && healthInfos.stream().allMatch(
+                healthInfo -> healthInfo.getHealthStatus() == HealthStatus.UP);
+    }
+
+    public Duration getAge(Clock clock) {
+        return Duration.between(takenAt, clock.instant());
+    }
+
+    public boolean isStale(Clock clock) {
+        return getAge(clock).compareTo(staleAfter) > 0;
+    }
+
+    public Duration getAge() {
+        return getAge(Clock.systemUTC());
+    }
+
+    public boolean isStale() {
+        return isStale(Clock.systemUTC());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+import com.amdocs.zusammen.datatypes.SessionContext;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Holds the adaptor interfaces resolved by a zusammen adaptor factory, one per tenant, since the tenant is the only
+ * part of the session context an adaptor flavour may depend on (the user varies per call and is passed to every
+ * adaptor method anyway).
+ */
+class AdaptorCache<A> {
+
+    private static final String NO_TENANT = "";
+
+    private final Function<SessionContext, A> adaptorFactory;
+    // null when every call resolves its adaptor from the factory
+    private final ConcurrentMap<String, A> adaptorsByTenant;
+
+    AdaptorCache(Function<SessionContext, A> adaptorFactory, boolean enabled) {
+        this.adaptorFactory = adaptorFactory;
+        this.adaptorsByTenant = enabled ? new ConcurrentHashMap<>() : null;
+    }
+
+    A get(SessionContext context) {
+        if (adaptorsByTenant == null) {
+            return adaptorFactory.apply(context);
+        }
+        String tenant = context.getTenant() == null ? NO_TENANT : context.getTenant();
+        A adaptor = adaptorsByTenant.get(tenant);
+        return adaptor != null ? adaptor : adaptorsByTenant.computeIfAbsent(tenant, t -> adaptorFactory.apply(context));
+    }
+
+    void invalidate(String tenant) {
+        if (adaptorsByTenant != null) {
+            adaptorsByTenant.remove(tenant == null ? NO_TENANT : tenant);
+        }
+    }
+
+    void invalidateAll() {
+        if (adaptorsByTenant != null) {
+            adaptorsByTenant.clear();
+        }
+    }
+}
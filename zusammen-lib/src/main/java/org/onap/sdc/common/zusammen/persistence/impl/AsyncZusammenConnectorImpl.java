@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementConflict;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ItemVersionConflict;
+import com.amdocs.zusammen.commons.health.data.HealthInfo;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import com.amdocs.zusammen.datatypes.item.Item;
+import com.amdocs.zusammen.datatypes.item.ItemVersion;
+import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
+import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import org.onap.sdc.common.zusammen.persistence.AsyncZusammenConnector;
+import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
+import org.onap.sdc.common.zusammen.services.impl.ZusammenAsyncExecutor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AsyncZusammenConnectorImpl implements AsyncZusammenConnector {
+
+    private final ZusammenConnector connector;
+    private final ZusammenAsyncExecutor executor;
+
+    public AsyncZusammenConnectorImpl(ZusammenConnector connector, ZusammenAsyncExecutor executor) {
+        this.connector = connector;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Collection<HealthInfo>> checkHealth(SessionContext context) {
+        return executor.supply(() -> connector.checkHealth(context));
+    }
+
+    @Override
+    public CompletableFuture<Collection<Item>> listItems(SessionContext context) {
+        return executor.supply(() -> connector.listItems(context));
+    }
+
+    @Override
+    public CompletableFuture<Item> getItem(SessionContext context, Id itemId) {
+        return executor.supply(() -> connector.getItem(context, itemId));
+    }
+
+    @Override
+    public CompletableFuture<Collection<ItemVersion>> listPublicVersions(SessionContext context, Id itemId) {
+        return executor.supply(() -> connector.listPublicVersions(context, itemId));
+    }
+
+    @Override
+    public CompletableFuture<ItemVersion> getPublicVersion(SessionContext context, Id itemId, Id versionId) {
+        return executor.supply(() -> connector.getPublicVersion(context, itemId, versionId));
+    }
+
+    @Override
+    public CompletableFuture<ItemVersion> getVersion(SessionContext context, Id itemId, Id versionId) {
+        return executor.supply(() -> connector.getVersion(context, itemId, versionId));
+    }
+
+    @Override
+    public CompletableFuture<ItemVersionStatus> getVersionStatus(SessionContext context, Id itemId, Id versionId) {
+        return executor.supply(() -> connector.getVersionStatus(context, itemId, versionId));
+    }
+
+    @Override
+    public CompletableFuture<ItemVersionRevisions> listVersionRevisions(SessionContext context, Id itemId,
+            Id versionId) {
+        return executor.supply(() -> connector.listVersionRevisions(context, itemId, versionId));
+    }
+
+    @Override
+    public CompletableFuture<ItemVersionConflict> getVersionConflict(SessionContext context, Id itemId,
+            Id versionId) {
+        return executor.supply(() -> connector.getVersionConflict(context, itemId, versionId));
+    }
+
+    @Override
+    public CompletableFuture<Collection<ElementInfo>> listElements(SessionContext context,
+            ElementContext elementContext, Id parentElementId) {
+        return executor.supply(() -> connector.listElements(context, elementContext, parentElementId));
+    }
+
+    @Override
+    public CompletableFuture<ElementInfo> getElementInfo(SessionContext context, ElementContext elementContext,
+            Id elementId) {
+        return executor.supply(() -> connector.getElementInfo(context, elementContext, elementId));
+    }
+
+    @Override
+    public CompletableFuture<Element> getElement(SessionContext context, ElementContext elementContext,
+            Id elementId) {
+        return executor.supply(() -> connector.getElement(context, elementContext, elementId));
+    }
+
+    @Override
+    public CompletableFuture<Collection<Element>> getElements(SessionContext context, ElementContext elementContext,
+            Collection<Id> elementIds) {
+        return executor.supply(() -> connector.getElements(context, elementContext, elementIds));
+    }
+
+    @Override
+    public CompletableFuture<ElementConflict> getElementConflict(SessionContext context,
+            ElementContext elementContext, Id elementId) {
+        return executor.supply(() -> connector.getElementConflict(context, elementContext, elementId));
+    }
+}
@@ -0,0 +1,501 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementConflict;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ItemVersionConflict;
+import com.amdocs.zusammen.commons.health.data.HealthInfo;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.Item;
+import com.amdocs.zusammen.datatypes.item.ItemVersion;
+import com.amdocs.zusammen.datatypes.item.ItemVersionData;
+import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
+import com.amdocs.zusammen.datatypes.item.Resolution;
+import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
+import com.amdocs.zusammen.datatypes.itemversion.Tag;
+import java.util.Collection;
+import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
+
+/**
+ * Base of the connectors decorating another connector, notified before and after each call of the delegate. The
+ * hooks take and return primitives only, so that decorating a call allocates nothing.
+ */
+public abstract class DelegatingZusammenConnector implements ZusammenConnector {
+
+    protected final ZusammenConnector delegate;
+
+    protected DelegatingZusammenConnector(ZusammenConnector delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Called before a call of the delegate connector, a call rejected by the decorator throws here.
+     *
+     * @return a token passed to {@link #afterCall} once the call returns, such as the call start time
+     */
+    protected abstract long beforeCall(ZusammenOperation operation, SessionContext context);
+
+    /**
+     * Called once a call of the delegate connector, which {@link #beforeCall} let through, returned or threw.
+     *
+     * @param failure what the call threw, null when it returned
+     */
+    protected abstract void afterCall(ZusammenOperation operation, long callToken, Throwable failure);
+
+    @Override
+    public Collection<HealthInfo> checkHealth(SessionContext sessionContext) {
+        long callToken = beforeCall(ZusammenOperation.CHECK_HEALTH, sessionContext);
+        Throwable failure = null;
+        try {
+            return delegate.checkHealth(sessionContext);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.CHECK_HEALTH, callToken, failure);
+        }
+    }
+
+    @Override
+    public String getReleaseVersion(SessionContext sessionContext) {
+        long callToken = beforeCall(ZusammenOperation.GET_RELEASE_VERSION, sessionContext);
+        Throwable failure = null;
+        try {
+            return delegate.getReleaseVersion(sessionContext);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.GET_RELEASE_VERSION, callToken, failure);
+        }
+    }
+
+    @Override
+    public Collection<Item> listItems(SessionContext context) {
+        long callToken = beforeCall(ZusammenOperation.LIST_ITEMS, context);
+        Throwable failure = null;
+        try {
+            return delegate.listItems(context);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.LIST_ITEMS, callToken, failure);
+        }
+    }
+
+    @Override
+    public Item getItem(SessionContext context, Id itemId) {
+        long callToken = beforeCall(ZusammenOperation.GET_ITEM, context);
+        Throwable failure = null;
+        try {
+            return delegate.getItem(context, itemId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.GET_ITEM, callToken, failure);
+        }
+    }
+
+    @Override
+    public Id createItem(SessionContext context, Info info) {
+        long callToken = beforeCall(ZusammenOperation.CREATE_ITEM, context);
+        Throwable failure = null;
+        try {
+            return delegate.createItem(context, info);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.CREATE_ITEM, callToken, failure);
+        }
+    }
+
+    @Override
+    public Id createItem(SessionContext context, Id itemId, Info info) {
+        long callToken = beforeCall(ZusammenOperation.CREATE_ITEM, context);
+        Throwable failure = null;
+        try {
+            return delegate.createItem(context, itemId, info);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.CREATE_ITEM, callToken, failure);
+        }
+    }
+
+    @Override
+    public void deleteItem(SessionContext context, Id itemId) {
+        long callToken = beforeCall(ZusammenOperation.DELETE_ITEM, context);
+        Throwable failure = null;
+        try {
+            delegate.deleteItem(context, itemId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.DELETE_ITEM, callToken, failure);
+        }
+    }
+
+    @Override
+    public void updateItem(SessionContext context, Id itemId, Info info) {
+        long callToken = beforeCall(ZusammenOperation.UPDATE_ITEM, context);
+        Throwable failure = null;
+        try {
+            delegate.updateItem(context, itemId, info);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.UPDATE_ITEM, callToken, failure);
+        }
+    }
+
+    @Override
+    public Collection<ItemVersion> listPublicVersions(SessionContext context, Id itemId) {
+        long callToken = beforeCall(ZusammenOperation.LIST_PUBLIC_VERSIONS, context);
+        Throwable failure = null;
+        try {
+            return delegate.listPublicVersions(context, itemId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.LIST_PUBLIC_VERSIONS, callToken, failure);
+        }
+    }
+
+    @Override
+    public ItemVersion getPublicVersion(SessionContext context, Id itemId, Id versionId) {
+        long callToken = beforeCall(ZusammenOperation.GET_PUBLIC_VERSION, context);
+        Throwable failure = null;
+        try {
+            return delegate.getPublicVersion(context, itemId, versionId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.GET_PUBLIC_VERSION, callToken, failure);
+        }
+    }
+
+    @Override
+    public Id createVersion(SessionContext context, Id itemId, Id baseVersionId, ItemVersionData itemVersionData) {
+        long callToken = beforeCall(ZusammenOperation.CREATE_VERSION, context);
+        Throwable failure = null;
+        try {
+            return delegate.createVersion(context, itemId, baseVersionId, itemVersionData);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.CREATE_VERSION, callToken, failure);
+        }
+    }
+
+    @Override
+    public Id createVersion(SessionContext context, Id itemId, Id versionId, Id baseVersionId,
+            ItemVersionData itemVersionData) {
+        long callToken = beforeCall(ZusammenOperation.CREATE_VERSION, context);
+        Throwable failure = null;
+        try {
+            return delegate.createVersion(context, itemId, versionId, baseVersionId, itemVersionData);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.CREATE_VERSION, callToken, failure);
+        }
+    }
+
+    @Override
+    public void updateVersion(SessionContext context, Id itemId, Id versionId, ItemVersionData itemVersionData) {
+        long callToken = beforeCall(ZusammenOperation.UPDATE_VERSION, context);
+        Throwable failure = null;
+        try {
+            delegate.updateVersion(context, itemId, versionId, itemVersionData);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.UPDATE_VERSION, callToken, failure);
+        }
+    }
+
+    @Override
+    public ItemVersion getVersion(SessionContext context, Id itemId, Id versionId) {
+        long callToken = beforeCall(ZusammenOperation.GET_VERSION, context);
+        Throwable failure = null;
+        try {
+            return delegate.getVersion(context, itemId, versionId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.GET_VERSION, callToken, failure);
+        }
+    }
+
+    @Override
+    public ItemVersionStatus getVersionStatus(SessionContext context, Id itemId, Id versionId) {
+        long callToken = beforeCall(ZusammenOperation.GET_VERSION_STATUS, context);
+        Throwable failure = null;
+        try {
+            return delegate.getVersionStatus(context, itemId, versionId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.GET_VERSION_STATUS, callToken, failure);
+        }
+    }
+
+    @Override
+    public void tagVersion(SessionContext context, Id itemId, Id versionId, Tag tag) {
+        long callToken = beforeCall(ZusammenOperation.TAG_VERSION, context);
+        Throwable failure = null;
+        try {
+            delegate.tagVersion(context, itemId, versionId, tag);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.TAG_VERSION, callToken, failure);
+        }
+    }
+
+    @Override
+    public void resetVersionRevision(SessionContext context, Id itemId, Id versionId, Id revisionId) {
+        long callToken = beforeCall(ZusammenOperation.RESET_VERSION_REVISION, context);
+        Throwable failure = null;
+        try {
+            delegate.resetVersionRevision(context, itemId, versionId, revisionId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.RESET_VERSION_REVISION, callToken, failure);
+        }
+    }
+
+    @Override
+    public void revertVersionRevision(SessionContext context, Id itemId, Id versionId, Id revisionId) {
+        long callToken = beforeCall(ZusammenOperation.REVERT_VERSION_REVISION, context);
+        Throwable failure = null;
+        try {
+            delegate.revertVersionRevision(context, itemId, versionId, revisionId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.REVERT_VERSION_REVISION, callToken, failure);
+        }
+    }
+
+    @Override
+    public ItemVersionRevisions listVersionRevisions(SessionContext context, Id itemId, Id versionId) {
+        long callToken = beforeCall(ZusammenOperation.LIST_VERSION_REVISIONS, context);
+        Throwable failure = null;
+        try {
+            return delegate.listVersionRevisions(context, itemId, versionId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.LIST_VERSION_REVISIONS, callToken, failure);
+        }
+    }
+
+    @Override
+    public void publishVersion(SessionContext context, Id itemId, Id versionId, String message) {
+        long callToken = beforeCall(ZusammenOperation.PUBLISH_VERSION, context);
+        Throwable failure = null;
+        try {
+            delegate.publishVersion(context, itemId, versionId, message);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.PUBLISH_VERSION, callToken, failure);
+        }
+    }
+
+    @Override
+    public void syncVersion(SessionContext context, Id itemId, Id versionId) {
+        long callToken = beforeCall(ZusammenOperation.SYNC_VERSION, context);
+        Throwable failure = null;
+        try {
+            delegate.syncVersion(context, itemId, versionId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.SYNC_VERSION, callToken, failure);
+        }
+    }
+
+    @Override
+    public void forceSyncVersion(SessionContext context, Id itemId, Id versionId) {
+        long callToken = beforeCall(ZusammenOperation.FORCE_SYNC_VERSION, context);
+        Throwable failure = null;
+        try {
+            delegate.forceSyncVersion(context, itemId, versionId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.FORCE_SYNC_VERSION, callToken, failure);
+        }
+    }
+
+    @Override
+    public void cleanVersion(SessionContext context, Id itemId, Id versionId) {
+        long callToken = beforeCall(ZusammenOperation.CLEAN_VERSION, context);
+        Throwable failure = null;
+        try {
+            delegate.cleanVersion(context, itemId, versionId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.CLEAN_VERSION, callToken, failure);
+        }
+    }
+
+    @Override
+    public ItemVersionConflict getVersionConflict(SessionContext context, Id itemId, Id versionId) {
+        long callToken = beforeCall(ZusammenOperation.GET_VERSION_CONFLICT, context);
+        Throwable failure = null;
+        try {
+            return delegate.getVersionConflict(context, itemId, versionId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.GET_VERSION_CONFLICT, callToken, failure);
+        }
+    }
+
+    @Override
+    public Collection<ElementInfo> listElements(SessionContext context, ElementContext elementContext,
+            Id parentElementId) {
+        long callToken = beforeCall(ZusammenOperation.LIST_ELEMENTS, context);
+        Throwable failure = null;
+        try {
+            return delegate.listElements(context, elementContext, parentElementId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.LIST_ELEMENTS, callToken, failure);
+        }
+    }
+
+    @Override
+    public ElementInfo getElementInfo(SessionContext context, ElementContext elementContext, Id elementId) {
+        long callToken = beforeCall(ZusammenOperation.GET_ELEMENT_INFO, context);
+        Throwable failure = null;
+        try {
+            return delegate.getElementInfo(context, elementContext, elementId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.GET_ELEMENT_INFO, callToken, failure);
+        }
+    }
+
+    @Override
+    public Element getElement(SessionContext context, ElementContext elementContext, Id elementId) {
+        long callToken = beforeCall(ZusammenOperation.GET_ELEMENT, context);
+        Throwable failure = null;
+        try {
+            return delegate.getElement(context, elementContext, elementId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.GET_ELEMENT, callToken, failure);
+        }
+    }
+
+    @Override
+    public Collection<Element> getElements(SessionContext context, ElementContext elementContext,
+            Collection<Id> elementIds) {
+        long callToken = beforeCall(ZusammenOperation.GET_ELEMENTS, context);
+        Throwable failure = null;
+        try {
+            return delegate.getElements(context, elementContext, elementIds);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.GET_ELEMENTS, callToken, failure);
+        }
+    }
+
+    @Override
+    public ElementConflict getElementConflict(SessionContext context, ElementContext elementContext, Id elementId) {
+        long callToken = beforeCall(ZusammenOperation.GET_ELEMENT_CONFLICT, context);
+        Throwable failure = null;
+        try {
+            return delegate.getElementConflict(context, elementContext, elementId);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.GET_ELEMENT_CONFLICT, callToken, failure);
+        }
+    }
+
+    @Override
+    public Element saveElement(SessionContext context, ElementContext elementContext, Element element, String message) {
+        long callToken = beforeCall(ZusammenOperation.SAVE_ELEMENT, context);
+        Throwable failure = null;
+        try {
+            return delegate.saveElement(context, elementContext, element, message);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.SAVE_ELEMENT, callToken, failure);
+        }
+    }
+
+    @Override
+    public void resolveElementConflict(SessionContext context, ElementContext elementContext, Element element,
+            Resolution resolution) {
+        long callToken = beforeCall(ZusammenOperation.RESOLVE_ELEMENT_CONFLICT, context);
+        Throwable failure = null;
+        try {
+            delegate.resolveElementConflict(context, elementContext, element, resolution);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            afterCall(ZusammenOperation.RESOLVE_ELEMENT_CONFLICT, callToken, failure);
+        }
+    }
+}
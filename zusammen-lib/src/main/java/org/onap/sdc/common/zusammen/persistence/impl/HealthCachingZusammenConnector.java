@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+import com.amdocs.zusammen.commons.health.data.HealthInfo;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
+import org.onap.sdc.common.zusammen.persistence.ZusammenHealthSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the zusammen health and release version from a snapshot refreshed in the background, so that frequent
+ * health checks neither wait for zusammen nor load it. The first read takes the snapshot and starts the background
+ * refresh, which then runs with the session context of the latest reader.
+ */
+public class HealthCachingZusammenConnector extends DelegatingZusammenConnector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HealthCachingZusammenConnector.class);
+    private static final ThreadFactory REFRESH_THREAD_FACTORY =
+            new ThreadFactoryBuilder().setNameFormat("zusammen-health-refresh-%d").setDaemon(true).build();
+
+    private final long refreshIntervalMillis;
+    private final Duration staleAfter;
+    private final Clock clock;
+    private final ScheduledExecutorService refresher;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private volatile SessionContext refreshContext;
+    private final AtomicReference<CheckedSnapshot> latest = new AtomicReference<>();
+
+    public HealthCachingZusammenConnector(ZusammenConnector delegate, long refreshIntervalMillis,
+            long staleAfterMillis) {
+        this(delegate, refreshIntervalMillis, staleAfterMillis, Clock.systemUTC(),
+                Executors.newSingleThreadScheduledExecutor(REFRESH_THREAD_FACTORY));
+    }
+
+    HealthCachingZusammenConnector(ZusammenConnector delegate, long refreshIntervalMillis, long staleAfterMillis,
+            Clock clock, ScheduledExecutorService refresher) {
+        super(delegate);
+        this.refreshIntervalMillis = Math.max(refreshIntervalMillis, 1);
+        this.staleAfter = Duration.ofMillis(Math.max(staleAfterMillis, this.refreshIntervalMillis));
+        this.clock = clock;
+        this.refresher = refresher;
+    }
+
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    @Override
+    public Collection<HealthInfo> checkHealth(SessionContext sessionContext) {
+        return getHealthSnapshot(sessionContext, false).getHealthInfos();
+    }
+
+    @Override
+    public String getReleaseVersion(SessionContext sessionContext) {
+        return getHealthSnapshot(sessionContext, false).getReleaseVersion();
+    }
+
+    /**
+     * Gets the latest health snapshot, without waiting for zusammen unless there is none yet or a refresh is forced.
+     * The snapshot may be stale when the background refresh is held up, see {@link ZusammenHealthSnapshot#isStale}.
+     */
+    @Override
+    public ZusammenHealthSnapshot getHealthSnapshot(SessionContext sessionContext, boolean forceRefresh) {
+        refreshContext = sessionContext;
+        CheckedSnapshot current = latest.get();
+        ZusammenHealthSnapshot currentSnapshot =
+                current == null || forceRefresh ? refresh(sessionContext) : current.snapshot;
+        if (refreshScheduled.compareAndSet(false, true)) {
+            refresher.scheduleWithFixedDelay(this::refreshInBackground, refreshIntervalMillis, refreshIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        return currentSnapshot;
+    }
+
+    @Override
+    protected long beforeCall(ZusammenOperation operation, SessionContext context) {
+        return 0;
+    }
+
+    @Override
+    protected void afterCall(ZusammenOperation operation, long callToken, Throwable failure) {
+        // the calls other than the health ones go straight to the delegate
+    }
+
+    void refreshInBackground() {
+        try {
+            refresh(refreshContext);
+        } catch (RuntimeException e) {
+            // keeps the refresh scheduled, the snapshot grows stale meanwhile
+            LOGGER.error("Failed to refresh the zusammen health snapshot", e);
+        }
+    }
+
+    // a forced and a background refresh may overlap, the snapshot of the check started last is kept
+    private ZusammenHealthSnapshot refresh(SessionContext sessionContext) {
+        Instant checkStartedAt = clock.instant();
+        CheckedSnapshot refreshed = new CheckedSnapshot(checkStartedAt,
+                ZusammenHealthSnapshot.take(delegate, sessionContext, clock, staleAfter));
+        return latest.accumulateAndGet(refreshed, HealthCachingZusammenConnector::startedLast).snapshot;
+    }
+
+    private static CheckedSnapshot startedLast(CheckedSnapshot current, CheckedSnapshot refreshed) {
+        return current == null || !refreshed.checkStartedAt.isBefore(current.checkStartedAt) ? refreshed : current;
+    }
+
+    private static class CheckedSnapshot {
+
+        private final Instant checkStartedAt;
+        private final ZusammenHealthSnapshot snapshot;
+
+        private CheckedSnapshot(Instant checkStartedAt, ZusammenHealthSnapshot snapshot) {
+            this.checkStartedAt = checkStartedAt;
+            this.snapshot = snapshot;
+        }
+    }
+}
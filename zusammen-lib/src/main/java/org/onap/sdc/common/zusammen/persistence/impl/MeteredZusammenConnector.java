@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+import com.amdocs.zusammen.datatypes.SessionContext;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import org.onap.sdc.common.zusammen.metrics.ZusammenMetricsRegistry;
+import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
+
+/**
+ * Records the latency, the successes, the failures and the calls in flight of every operation of the delegate
+ * connector, as the metrics:
+ * <ul>
+ * <li>zusammen.connector.&lt;operation&gt;.latency</li>
+ * <li>zusammen.connector.&lt;operation&gt;.success</li>
+ * <li>zusammen.connector.&lt;operation&gt;.failure</li>
+ * <li>zusammen.connector.&lt;operation&gt;.in-flight</li>
+ * </ul>
+ * The meters are resolved once per operation, so that a call only updates them.
+ */
+public class MeteredZusammenConnector extends DelegatingZusammenConnector {
+
+    private static final String METRIC_PREFIX = "zusammen.connector.";
+
+    private final ZusammenMetricsRegistry.Timer[] latencies;
+    private final ZusammenMetricsRegistry.Counter[] successes;
+    private final ZusammenMetricsRegistry.Counter[] failures;
+    private final AtomicLong[] inFlight;
+
+    public MeteredZusammenConnector(ZusammenConnector delegate, ZusammenMetricsRegistry metricsRegistry) {
+        super(delegate);
+        ZusammenOperation[] operations = ZusammenOperation.values();
+        latencies = new ZusammenMetricsRegistry.Timer[operations.length];
+        successes = new ZusammenMetricsRegistry.Counter[operations.length];
+        failures = new ZusammenMetricsRegistry.Counter[operations.length];
+        inFlight = new AtomicLong[operations.length];
+        for (ZusammenOperation operation : operations) {
+            String prefix = METRIC_PREFIX + operation.name().toLowerCase(Locale.ROOT);
+            int index = operation.ordinal();
+            latencies[index] = metricsRegistry.timer(prefix + ".latency");
+            successes[index] = metricsRegistry.counter(prefix + ".success");
+            failures[index] = metricsRegistry.counter(prefix + ".failure");
+            AtomicLong operationInFlight = new AtomicLong();
+            inFlight[index] = operationInFlight;
+            metricsRegistry.gauge(prefix + ".in-flight", operationInFlight::get);
+        }
+    }
+
+    @Override
+    protected long beforeCall(ZusammenOperation operation, SessionContext context) {
+        inFlight[operation.ordinal()].incrementAndGet();
+        return System.nanoTime();
+    }
+
+    @Override
+    protected void afterCall(ZusammenOperation operation, long startNanos, Throwable failure) {
+        int index = operation.ordinal();
+        latencies[index].record(System.nanoTime() - startNanos);
+        if (failure == null) {
+            successes[index].increment();
+        } else {
+            failures[index].increment();
+        }
+        inFlight[index].decrementAndGet();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+import com.amdocs.zusammen.commons.health.data.HealthInfo;
+import com.amdocs.zusammen.commons.health.data.HealthStatus;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import java.util.Collection;
+import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenResponseException;
+
+/**
+ * Guards the calls of the delegate connector with a bulkhead per operation type and a circuit breaker. Health
+ * operations are not guarded by the circuit breaker, they are the way to tell whether zusammen is back.
+ *
+ * <p>The circuit breaker counts as failed only the calls zusammen did not answer, e.g. timed out or lost connection.
+ * A call zusammen answered with a failure, such as a missing item or a publish not allowed, counts as answered. A
+ * batched call fans out to many zusammen calls, so its duration is not held to the slow call threshold of one call.
+ */
+public class ResilientZusammenConnector extends DelegatingZusammenConnector {
+
+    private final ZusammenBulkhead bulkhead;
+    private final ZusammenCircuitBreaker circuitBreaker;
+
+    public ResilientZusammenConnector(ZusammenConnector delegate, ZusammenBulkhead bulkhead,
+            ZusammenCircuitBreaker circuitBreaker) {
+        super(delegate);
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    protected long beforeCall(ZusammenOperation operation, SessionContext context) {
+        ZusammenOperationType operationType = operation.getType();
+        // the state is checked here so that the health probe is created only when the breaker is not closed
+        if (operationType != ZusammenOperationType.HEALTH
+                    && circuitBreaker.getState() != ZusammenCircuitBreaker.State.CLOSED) {
+            circuitBreaker.acquirePermission(() -> isHealthy(context));
+        }
+        // a call rejected by the bulkhead is not an outcome of zusammen, the circuit breaker does not count it
+        bulkhead.acquire(operationType);
+        return System.nanoTime();
+    }
+
+    @Override
+    protected void afterCall(ZusammenOperation operation, long startNanos, Throwable failure) {
+        ZusammenOperationType operationType = operation.getType();
+        bulkhead.release(operationType);
+        if (operationType == ZusammenOperationType.HEALTH) {
+            return;
+        }
+        long durationNanos = operation.isBatched() ? 0 : System.nanoTime() - startNanos;
+        if (failure == null || failure instanceof ZusammenResponseException) {
+            circuitBreaker.onSuccess(durationNanos);
+        } else {
+            circuitBreaker.onFailure(durationNanos);
+        }
+    }
+
+    private boolean isHealthy(SessionContext context) {
+        Collection<HealthInfo> healthInfos;
+        bulkhead.acquire(ZusammenOperationType.HEALTH);
+        try {
+            healthInfos = delegate.checkHealth(context);
+        } finally {
+            bulkhead.release(ZusammenOperationType.HEALTH);
+        }
+        return healthInfos != null && !healthInfos.isEmpty() && healthInfos.stream().allMatch(
+                healthInfo -> healthInfo.getHealthStatus() == HealthStatus.UP);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.onap.sdc.common.zusammen.metrics.ZusammenMetricsRegistry;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caps the number of concurrent zusammen calls of each operation type, so that a degraded backend holds a bounded
+ * number of threads. A call waiting longer than the configured time for a permit is rejected.
+ */
+@Component
+public class ZusammenBulkhead {
+
+    private final Map<ZusammenOperationType, Semaphore> permits = new EnumMap<>(ZusammenOperationType.class);
+    private final Map<ZusammenOperationType, AtomicLong> rejectedCalls = new EnumMap<>(ZusammenOperationType.class);
+    private final long maxWaitMillis;
+
+    public ZusammenBulkhead(@Value("${zusammen.bulkhead.item.max-concurrent-calls:50}") int itemMaxConcurrentCalls,
+            @Value("${zusammen.bulkhead.version.max-concurrent-calls:50}") int versionMaxConcurrentCalls,
+            @Value("${zusammen.bulkhead.element.max-concurrent-calls:100}") int elementMaxConcurrentCalls,
+            @Value("${zusammen.bulkhead.health.max-concurrent-calls:5}") int healthMaxConcurrentCalls,
+            @Value("${zusammen.bulkhead.max-wait-millis:500}") long maxWaitMillis) {
+        permits.put(ZusammenOperationType.ITEM, new Semaphore(Math.max(itemMaxConcurrentCalls, 1)));
+        permits.put(ZusammenOperationType.VERSION, new Semaphore(Math.max(versionMaxConcurrentCalls, 1)));
+        permits.put(ZusammenOperationType.ELEMENT, new Semaphore(Math.max(elementMaxConcurrentCalls, 1)));
+        permits.put(ZusammenOperationType.HEALTH, new Semaphore(Math.max(healthMaxConcurrentCalls, 1)));
+        for (ZusammenOperationType operationType : ZusammenOperationType.values()) {
+            rejectedCalls.put(operationType, new AtomicLong());
+        }
+        this.maxWaitMillis = Math.max(maxWaitMillis, 0);
+    }
+
+    /**
+     * Takes a permit for a call of the given operation type, to be given back with {@link #release}.
+     *
+     * @throws ZusammenException when no permit is available within the configured wait time
+     */
+    public void acquire(ZusammenOperationType operationType) {
+        boolean acquired;
+        try {
+            acquired = permits.get(operationType).tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ZusammenException(
+                    String.format("Interrupted while waiting for a zusammen %s call permit", operationType), e);
+        }
+        if (!acquired) {
+            rejectedCalls.get(operationType).incrementAndGet();
+            throw new ZusammenException(
+                    String.format("Too many concurrent zusammen %s calls, call rejected", operationType));
+        }
+    }
+
+    public void release(ZusammenOperationType operationType) {
+        permits.get(operationType).release();
+    }
+
+    public int getAvailablePermits(ZusammenOperationType operationType) {
+        return permits.get(operationType).availablePermits();
+    }
+
+    public long getRejectedCalls(ZusammenOperationType operationType) {
+        return rejectedCalls.get(operationType).get();
+    }
+
+    /**
+     * Exposes the available permits and the rejected calls of every operation type as gauges.
+     */
+    public void bindTo(ZusammenMetricsRegistry metricsRegistry) {
+        for (ZusammenOperationType operationType : ZusammenOperationType.values()) {
+            String prefix = "zusammen.bulkhead." + operationType.name().toLowerCase(Locale.ROOT);
+            metricsRegistry.gauge(prefix + ".available-permits", () -> getAvailablePermits(operationType));
+            metricsRegistry.gauge(prefix + ".rejected", () -> getRejectedCalls(operationType));
+        }
+    }
+}
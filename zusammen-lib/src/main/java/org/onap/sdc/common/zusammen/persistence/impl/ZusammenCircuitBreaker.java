@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import org.onap.sdc.common.zusammen.metrics.ZusammenMetricsRegistry;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails zusammen calls fast once the backend is failing or slow. The outcomes of the last calls are kept in a count
+ * based window; when the failed or slow calls rate of the window crosses its threshold the breaker opens and rejects
+ * calls. After the open duration, the next caller probes the backend health: a healthy backend closes the breaker,
+ * otherwise it stays open for another open duration.
+ *
+ * <p>Calls are recorded into the window without locking, only the state changes are serialized. A state change
+ * replaces the window, so that the calls recorded meanwhile into the previous one are dropped.
+ */
+@Component
+public class ZusammenCircuitBreaker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZusammenCircuitBreaker.class);
+    private static final String METRIC_PREFIX = "zusammen.circuit-breaker.";
+    private static final int FAILED = 1;
+    private static final int SLOW = 2;
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Notified on every state change, while the breaker state is locked - so it should return quickly.
+     */
+    public interface StateListener {
+
+        void onStateChange(State from, State to);
+    }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private final int windowSize;
+    private final AtomicReference<OutcomeWindow> window;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private final Map<State, AtomicLong> transitions = new EnumMap<>(State.class);
+    private final AtomicLong rejectedCalls = new AtomicLong();
+    private final List<StateListener> listeners = new CopyOnWriteArrayList<>();
+
+    public ZusammenCircuitBreaker(@Value("${zusammen.circuit-breaker.window-size:50}") int windowSize,
+            @Value("${zusammen.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${zusammen.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${zusammen.circuit-breaker.slow-call-threshold-millis:5000}") long slowCallThresholdMillis,
+            @Value("${zusammen.circuit-breaker.slow-call-rate-threshold:80}") int slowCallRateThreshold,
+            @Value("${zusammen.circuit-breaker.open-duration-millis:30000}") long openDurationMillis) {
+        this(windowSize, minimumCalls, failureRateThreshold, slowCallThresholdMillis, slowCallRateThreshold,
+                openDurationMillis, System::nanoTime);
+    }
+
+    ZusammenCircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, long slowCallThresholdMillis,
+            int slowCallRateThreshold, long openDurationMillis, LongSupplier nanoClock) {
+        this.windowSize = Math.max(windowSize, 1);
+        this.window = new AtomicReference<>(new OutcomeWindow(this.windowSize));
+        this.minimumCalls = Math.min(Math.max(minimumCalls, 1), this.windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallThresholdMillis);
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+        this.nanoClock = nanoClock;
+        for (State toState : State.values()) {
+            transitions.put(toState, new AtomicLong());
+        }
+    }
+
+    /**
+     * Checks that a call may go through. Once the open duration has passed, the first caller runs the given health
+     * probe to decide whether to close the breaker.
+     *
+     * @throws ZusammenException when the breaker is open
+     */
+    public void acquirePermission(BooleanSupplier healthProbe) {
+        if (state == State.CLOSED) {
+            return;
+        }
+        if (!startProbe()) {
+            throw rejectCall();
+        }
+        boolean healthy;
+        try {
+            healthy = healthProbe.getAsBoolean();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Zusammen health probe failed", e);
+            healthy = false;
+        }
+        endProbe(healthy);
+        if (!healthy) {
+            throw rejectCall();
+        }
+    }
+
+    /**
+     * Records a call zusammen answered, successfully or with a failure of the call itself (e.g. a missing item).
+     */
+    public void onSuccess(long durationNanos) {
+        record(false, durationNanos >= slowCallNanos);
+    }
+
+    /**
+     * Records a call zusammen did not answer, such as a timed out call or a lost connection.
+     */
+    public void onFailure(long durationNanos) {
+        record(true, durationNanos >= slowCallNanos);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Gets the number of times the breaker moved to the given state.
+     */
+    public long getTransitions(State toState) {
+        return transitions.get(toState).get();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.get();
+    }
+
+    public void addListener(StateListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Exposes the breaker state (as the {@link State} ordinal), its transitions and its rejected calls as gauges.
+     */
+    public void bindTo(ZusammenMetricsRegistry metricsRegistry) {
+        metricsRegistry.gauge(METRIC_PREFIX + "state", () -> state.ordinal());
+        metricsRegistry.gauge(METRIC_PREFIX + "rejected", this::getRejectedCalls);
+        for (State toState : State.values()) {
+            metricsRegistry.gauge(METRIC_PREFIX + "transitions." + toState.name().toLowerCase(Locale.ROOT),
+                    () -> getTransitions(toState));
+        }
+    }
+
+    private synchronized boolean startProbe() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+            transitionTo(State.HALF_OPEN);
+            return true;
+        }
+        // closed by a concurrent probe in the meantime
+        return state == State.CLOSED;
+    }
+
+    private synchronized void endProbe(boolean healthy) {
+        if (state != State.HALF_OPEN) {
+            return;
+        }
+        if (healthy) {
+            clearWindow();
+            transitionTo(State.CLOSED);
+        } else {
+            open();
+        }
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (state != State.CLOSED) {
+            // a call which started before the breaker opened
+            return;
+        }
+        OutcomeWindow recordedWindow = window.get();
+        long call = recordedWindow.calls.getAndIncrement();
+        int outcome = (failed ? FAILED : 0) | (slow ? SLOW : 0);
+        int replacedOutcome = recordedWindow.outcomes.getAndSet((int) (call % windowSize), outcome);
+        int failedCallCount =
+                recordedWindow.failedCalls.addAndGet(count(outcome, FAILED) - count(replacedOutcome, FAILED));
+        int slowCallCount = recordedWindow.slowCalls.addAndGet(count(outcome, SLOW) - count(replacedOutcome, SLOW));
+        int callCount = (int) Math.min(call + 1, windowSize);
+
+        if (callCount >= minimumCalls && (failedCallCount * 100 >= failureRateThreshold * callCount
+                                                  || slowCallCount * 100 >= slowCallRateThreshold * callCount)) {
+            open(recordedWindow, failedCallCount, slowCallCount, callCount);
+        }
+    }
+
+    private synchronized void open(OutcomeWindow recordedWindow, int failedCallCount, int slowCallCount,
+            int callCount) {
+        if (state != State.CLOSED || window.get() != recordedWindow) {
+            // opened by a concurrent call already
+            return;
+        }
+        LOGGER.warn("Opening zusammen circuit breaker, {} failed and {} slow calls out of the last {}",
+                failedCallCount, slowCallCount, callCount);
+        open();
+    }
+
+    private void open() {
+        openedAt = nanoClock.getAsLong();
+        clearWindow();
+        transitionTo(State.OPEN);
+    }
+
+    private void clearWindow() {
+        window.set(new OutcomeWindow(windowSize));
+    }
+
+    private static int count(int outcome, int outcomeFlag) {
+        return (outcome & outcomeFlag) != 0 ? 1 : 0;
+    }
+
+    private void transitionTo(State toState) {
+        State fromState = state;
+        state = toState;
+        transitions.get(toState).incrementAndGet();
+        LOGGER.info("Zusammen circuit breaker moved from {} to {}", fromState, toState);
+        for (StateListener listener : listeners) {
+            listener.onStateChange(fromState, toState);
+        }
+    }
+
+    private ZusammenException rejectCall() {
+        rejectedCalls.incrementAndGet();
+        return new ZusammenException("Zusammen is unavailable (circuit breaker is open), call rejected");
+    }
+
+    /**
+     * The outcomes of the last calls, a ring indexed by the call number whose counts follow the outcomes replaced.
+     */
+    private static class OutcomeWindow {
+
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicInteger failedCalls = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+
+        private OutcomeWindow(int size) {
+            outcomes = new AtomicIntegerArray(size);
+        }
+    }
+}
@@ -16,9 +16,13 @@
 
 package org.onap.sdc.common.zusammen.persistence.impl;
 
+import com.amdocs.zusammen.adaptor.inbound.api.health.HealthAdaptor;
 import com.amdocs.zusammen.adaptor.inbound.api.health.HealthAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ElementAdaptor;
 import com.amdocs.zusammen.adaptor.inbound.api.item.ElementAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemAdaptor;
 import com.amdocs.zusammen.adaptor.inbound.api.item.ItemAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemVersionAdaptor;
 import com.amdocs.zusammen.adaptor.inbound.api.item.ItemVersionAdaptorFactory;
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementConflict;
@@ -39,9 +43,20 @@ import com.amdocs.zusammen.datatypes.item.Resolution;
 import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
 import com.amdocs.zusammen.datatypes.response.Response;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.PreDestroy;
 import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
 import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenResponseException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -51,242 +66,333 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
             "Failed to get element. Item Id: %s, version Id: %s, element Id: %s message: %s";
     private static final String GET_ELEMENT_IN_REV_ERR_MSG =
             "Failed to get element. Item Id: %s, version Id: %s, revision Id: %s, element Id: %s message: %s";
-    private final ItemAdaptorFactory itemAdaptorFactory;
-    private final ItemVersionAdaptorFactory versionAdaptorFactory;
-    private final ElementAdaptorFactory elementAdaptorFactory;
-    private final HealthAdaptorFactory healthAdaptorFactory;
+    private final AdaptorCache<ItemAdaptor> itemAdaptors;
+    private final AdaptorCache<ItemVersionAdaptor> versionAdaptors;
+    private final AdaptorCache<ElementAdaptor> elementAdaptors;
+    private final AdaptorCache<HealthAdaptor> healthAdaptors;
+    private final int elementsFetchChunkSize;
+    // null when elements are fetched one by one in the calling thread
+    private final ExecutorService elementsFetchExecutor;
 
     public ZusammenConnectorImpl(ItemAdaptorFactory itemAdaptorFactory, ItemVersionAdaptorFactory versionAdaptorFactory,
-            ElementAdaptorFactory elementAdaptorFactory, HealthAdaptorFactory healthAdaptorFactory) {
-        this.itemAdaptorFactory = itemAdaptorFactory;
-        this.versionAdaptorFactory = versionAdaptorFactory;
-        this.elementAdaptorFactory = elementAdaptorFactory;
-        this.healthAdaptorFactory = healthAdaptorFactory;
+            ElementAdaptorFactory elementAdaptorFactory, HealthAdaptorFactory healthAdaptorFactory,
+            @Value("${zusammen.elements.fetch.parallelism:4}") int elementsFetchParallelism,
+            @Value("${zusammen.elements.fetch.chunk-size:20}") int elementsFetchChunkSize,
+            @Value("${zusammen.adaptors.cache.enabled:true}") boolean adaptorsCacheEnabled) {
+        this.itemAdaptors = new AdaptorCache<>(itemAdaptorFactory::createInterface, adaptorsCacheEnabled);
+        this.versionAdaptors = new AdaptorCache<>(versionAdaptorFactory::createInterface, adaptorsCacheEnabled);
+        this.elementAdaptors = new AdaptorCache<>(elementAdaptorFactory::createInterface, adaptorsCacheEnabled);
+        this.healthAdaptors = new AdaptorCache<>(healthAdaptorFactory::createInterface, adaptorsCacheEnabled);
+        this.elementsFetchChunkSize = Math.max(elementsFetchChunkSize, 1);
+        this.elementsFetchExecutor = elementsFetchParallelism > 1 ? Executors.newFixedThreadPool(
+                elementsFetchParallelism,
+                new ThreadFactoryBuilder().setNameFormat("zusammen-elements-fetch-%d").setDaemon(true).build()) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (elementsFetchExecutor != null) {
+            elementsFetchExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Drops the adaptors resolved so far, so that the next calls resolve them again from the adaptor factories.
+     */
+    public void invalidateAdaptors() {
+        itemAdaptors.invalidateAll();
+        versionAdaptors.invalidateAll();
+        elementAdaptors.invalidateAll();
+        healthAdaptors.invalidateAll();
+    }
+
+    /**
+     * Drops the adaptors resolved so far for the given tenant.
+     */
+    public void invalidateAdaptors(String tenant) {
+        itemAdaptors.invalidate(tenant);
+        versionAdaptors.invalidate(tenant);
+        elementAdaptors.invalidate(tenant);
+        healthAdaptors.invalidate(tenant);
     }
 
     @Override
     public Collection<HealthInfo> checkHealth(SessionContext sessionContext) {
-        return healthAdaptorFactory.createInterface(sessionContext).getHealthStatus(sessionContext);
+        return healthAdaptors.get(sessionContext).getHealthStatus(sessionContext);
     }
 
     @Override
     public String getReleaseVersion(SessionContext sessionContext) {
-        return healthAdaptorFactory.createInterface(sessionContext).getVersion();
+        return healthAdaptors.get(sessionContext).getVersion();
     }
 
     @Override
     public Collection<Item> listItems(SessionContext context) {
-        Response<Collection<Item>> response = itemAdaptorFactory.createInterface(context).list(context);
+        Response<Collection<Item>> response = itemAdaptors.get(context).list(context);
         return getResponseValue(response, "list items");
     }
 
     @Override
     public Item getItem(SessionContext context, Id itemId) {
-        Response<Item> response = itemAdaptorFactory.createInterface(context).get(context, itemId);
-        return getResponseValue(response, String.format("get item %s", itemId));
+        Response<Item> response = itemAdaptors.get(context).get(context, itemId);
+        return getResponseValue(response, "get item %s", itemId);
     }
 
     @Override
     public Id createItem(SessionContext context, Info info) {
-        Response<Id> response = itemAdaptorFactory.createInterface(context).create(context, info);
+        Response<Id> response = itemAdaptors.get(context).create(context, info);
         return getResponseValue(response, "create item");
     }
 
     @Override
     public Id createItem(SessionContext context, Id itemId, Info info) {
-        Response<Id> response = itemAdaptorFactory.createInterface(context).create(context, itemId, info);
-        return getResponseValue(response, String.format("create item with id %s", itemId));
+        Response<Id> response = itemAdaptors.get(context).create(context, itemId, info);
+        return getResponseValue(response, "create item with id %s", itemId);
     }
 
     @Override
     public void deleteItem(SessionContext context, Id itemId) {
-        Response<Void> response = itemAdaptorFactory.createInterface(context).delete(context, itemId);
-        getResponseValue(response, String.format("get item %s", itemId));
+        Response<Void> response = itemAdaptors.get(context).delete(context, itemId);
+        getResponseValue(response, "get item %s", itemId);
     }
 
     @Override
     public void updateItem(SessionContext context, Id itemId, Info info) {
-        Response<Void> response = itemAdaptorFactory.createInterface(context).update(context, itemId, info);
-        getResponseValue(response, String.format("update item %s", itemId));
+        Response<Void> response = itemAdaptors.get(context).update(context, itemId, info);
+        getResponseValue(response, "update item %s", itemId);
     }
 
     @Override
     public Collection<ItemVersion> listPublicVersions(SessionContext context, Id itemId) {
         Response<Collection<ItemVersion>> response =
-                versionAdaptorFactory.createInterface(context).list(context, Space.PUBLIC, itemId);
-        return getResponseValue(response, String.format("list public versions of item %s", itemId));
+                versionAdaptors.get(context).list(context, Space.PUBLIC, itemId);
+        return getResponseValue(response, "list public versions of item %s", itemId);
     }
 
     @Override
     public ItemVersion getPublicVersion(SessionContext context, Id itemId, Id versionId) {
         Response<ItemVersion> response =
-                versionAdaptorFactory.createInterface(context).get(context, Space.PUBLIC, itemId, versionId);
-        return getResponseValue(response, String.format("get public version %s of item %s", versionId, itemId));
+                versionAdaptors.get(context).get(context, Space.PUBLIC, itemId, versionId);
+        return getResponseValue(response, "get public version %s of item %s", versionId, itemId);
     }
 
     @Override
     public Id createVersion(SessionContext context, Id itemId, Id baseVersionId, ItemVersionData itemVersionData) {
         Response<Id> response =
-                versionAdaptorFactory.createInterface(context).create(context, itemId, baseVersionId, itemVersionData);
-        return getResponseValue(response,
-                String.format("create version for item %s based on version %s", itemId, baseVersionId));
+                versionAdaptors.get(context).create(context, itemId, baseVersionId, itemVersionData);
+        return getResponseValue(response, "create version for item %s based on version %s", itemId, baseVersionId);
     }
 
     @Override
     public Id createVersion(SessionContext context, Id itemId, Id versionId, Id baseVersionId, ItemVersionData itemVersionData) {
         Response<Id> response =
-                versionAdaptorFactory.createInterface(context).create(context, itemId, versionId, baseVersionId, itemVersionData);
-        return getResponseValue(response,
-                String.format("create version with id %s for item %s based on version %s", versionId, itemId, baseVersionId));
+                versionAdaptors.get(context).create(context, itemId, versionId, baseVersionId, itemVersionData);
+        return getResponseValue(response, "create version with id %s for item %s based on version %s",
+                versionId, itemId, baseVersionId);
     }
 
     @Override
     public void updateVersion(SessionContext context, Id itemId, Id versionId, ItemVersionData itemVersionData) {
         Response<Void> response =
-                versionAdaptorFactory.createInterface(context).update(context, itemId, versionId, itemVersionData);
-        getResponseValue(response, String.format("update version %s of item %s", versionId, itemId));
+                versionAdaptors.get(context).update(context, itemId, versionId, itemVersionData);
+        getResponseValue(response, "update version %s of item %s", versionId, itemId);
     }
 
     @Override
     public ItemVersion getVersion(SessionContext context, Id itemId, Id versionId) {
         Response<ItemVersion> response =
-                versionAdaptorFactory.createInterface(context).get(context, Space.PRIVATE, itemId, versionId);
-        return getResponseValue(response, String.format("get version %s of item %s", versionId, itemId));
+                versionAdaptors.get(context).get(context, Space.PRIVATE, itemId, versionId);
+        return getResponseValue(response, "get version %s of item %s", versionId, itemId);
     }
 
     @Override
     public ItemVersionStatus getVersionStatus(SessionContext context, Id itemId, Id versionId) {
         Response<ItemVersionStatus> response =
-                versionAdaptorFactory.createInterface(context).getStatus(context, itemId, versionId);
-        return getResponseValue(response, String.format("get status of version %s of item %s", versionId, itemId));
+                versionAdaptors.get(context).getStatus(context, itemId, versionId);
+        return getResponseValue(response, "get status of version %s of item %s", versionId, itemId);
     }
 
     @Override
     public void tagVersion(SessionContext context, Id itemId, Id versionId, Tag tag) {
         Response<Void> response =
-                versionAdaptorFactory.createInterface(context).tag(context, itemId, versionId, null, tag);
-        getResponseValue(response,
-                String.format("tag version %s of item %s with tag %s", versionId, itemId, tag.getName()));
+                versionAdaptors.get(context).tag(context, itemId, versionId, null, tag);
+        getResponseValue(response, "tag version %s of item %s with tag %s", versionId, itemId, tag.getName());
     }
 
     @Override
     public void resetVersionRevision(SessionContext context, Id itemId, Id versionId, Id revisionId) {
         Response<Void> response =
-                versionAdaptorFactory.createInterface(context).resetRevision(context, itemId, versionId, revisionId);
-        getResponseValue(response,
-                String.format("reset version %s of item %s to revision %s", versionId, itemId, revisionId));
+                versionAdaptors.get(context).resetRevision(context, itemId, versionId, revisionId);
+        getResponseValue(response, "reset version %s of item %s to revision %s", versionId, itemId, revisionId);
     }
 
     @Override
     public void revertVersionRevision(SessionContext context, Id itemId, Id versionId, Id revisionId) {
         Response<Void> response =
-                versionAdaptorFactory.createInterface(context).revertRevision(context, itemId, versionId, revisionId);
-        getResponseValue(response,
-                String.format("revert version %s of item %s to revision %s", versionId, itemId, revisionId));
+                versionAdaptors.get(context).revertRevision(context, itemId, versionId, revisionId);
+        getResponseValue(response, "revert version %s of item %s to revision %s", versionId, itemId, revisionId);
     }
 
     @Override
     public ItemVersionRevisions listVersionRevisions(SessionContext context, Id itemId, Id versionId) {
         Response<ItemVersionRevisions> response =
-                versionAdaptorFactory.createInterface(context).listRevisions(context, itemId, versionId);
-        return getResponseValue(response, String.format("list revisions of version %s of item %s", versionId, itemId));
+                versionAdaptors.get(context).listRevisions(context, itemId, versionId);
+        return getResponseValue(response, "list revisions of version %s of item %s", versionId, itemId);
     }
 
 
     @Override
     public void publishVersion(SessionContext context, Id itemId, Id versionId, String message) {
         Response<Void> response =
-                versionAdaptorFactory.createInterface(context).publish(context, itemId, versionId, message);
-        getResponseValue(response, String.format("publish version %s of item %s", versionId, itemId));
+                versionAdaptors.get(context).publish(context, itemId, versionId, message);
+        getResponseValue(response, "publish version %s of item %s", versionId, itemId);
     }
 
     @Override
     public void syncVersion(SessionContext context, Id itemId, Id versionId) {
         Response<MergeResult> response =
-                versionAdaptorFactory.createInterface(context).sync(context, itemId, versionId);
-        getResponseValue(response, String.format("sync version %s of item %s", versionId, itemId));
+                versionAdaptors.get(context).sync(context, itemId, versionId);
+        getResponseValue(response, "sync version %s of item %s", versionId, itemId);
     }
 
     @Override
     public void forceSyncVersion(SessionContext context, Id itemId, Id versionId) {
         Response<MergeResult> response =
-                versionAdaptorFactory.createInterface(context).forceSync(context, itemId, versionId);
-        getResponseValue(response, String.format("force sync version %s of item %s", versionId, itemId));
+                versionAdaptors.get(context).forceSync(context, itemId, versionId);
+        getResponseValue(response, "force sync version %s of item %s", versionId, itemId);
     }
 
     @Override
     public void cleanVersion(SessionContext context, Id itemId, Id versionId) {
-        Response<Void> response = versionAdaptorFactory.createInterface(context).delete(context, itemId, versionId);
-        getResponseValue(response, String.format("clean version %s of item %s", versionId, itemId));
+        Response<Void> response = versionAdaptors.get(context).delete(context, itemId, versionId);
+        getResponseValue(response, "clean version %s of item %s", versionId, itemId);
     }
 
     @Override
     public ItemVersionConflict getVersionConflict(SessionContext context, Id itemId, Id versionId) {
         Response<ItemVersionConflict> response =
-                versionAdaptorFactory.createInterface(context).getConflict(context, itemId, versionId);
-        return getResponseValue(response, String.format("get conflict of version %s of item %s", versionId, itemId));
+                versionAdaptors.get(context).getConflict(context, itemId, versionId);
+        return getResponseValue(response, "get conflict of version %s of item %s", versionId, itemId);
     }
 
     @Override
     public Collection<ElementInfo> listElements(SessionContext context, ElementContext elementContext,
             Id parentElementId) {
         Response<Collection<ElementInfo>> response =
-                elementAdaptorFactory.createInterface(context).list(context, elementContext, parentElementId);
-        return getResponseValue(response,
-                String.format("list elements of version %s of item %s", elementContext.getVersionId(),
-                        elementContext.getItemId()));
+                elementAdaptors.get(context).list(context, elementContext, parentElementId);
+        return getResponseValue(response, "list elements of version %s of item %s",
+                elementContext.getVersionId(), elementContext.getItemId());
     }
 
 
     @Override
     public ElementInfo getElementInfo(SessionContext context, ElementContext elementContext, Id elementId) {
         Response<ElementInfo> response =
-                elementAdaptorFactory.createInterface(context).getInfo(context, elementContext, elementId);
-        return getResponseValue(response, String.format("get info of element %s of version %s of item %s", elementId,
-                elementContext.getVersionId(), elementContext.getItemId()));
+                elementAdaptors.get(context).getInfo(context, elementContext, elementId);
+        return getResponseValue(response, "get info of element %s of version %s of item %s",
+                elementId, elementContext.getVersionId(), elementContext.getItemId());
     }
 
     @Override
     public Element getElement(SessionContext context, ElementContext elementContext, Id elementId) {
         Response<Element> response =
-                elementAdaptorFactory.createInterface(context).get(context, elementContext, elementId);
-        return getResponseValue(response,
-                String.format("get element %s of version %s of item %s", elementId, elementContext.getVersionId(),
-                        elementContext.getItemId()));
+                elementAdaptors.get(context).get(context, elementContext, elementId);
+        return getResponseValue(response, "get element %s of version %s of item %s",
+                elementId, elementContext.getVersionId(), elementContext.getItemId());
+    }
+
+    @Override
+    public Collection<Element> getElements(SessionContext context, ElementContext elementContext,
+            Collection<Id> elementIds) {
+        if (elementsFetchExecutor == null || elementIds.size() <= elementsFetchChunkSize) {
+            return ZusammenConnector.super.getElements(context, elementContext, elementIds);
+        }
+
+        List<Future<Collection<Element>>> chunks = new ArrayList<>();
+        for (List<Id> chunkIds : Lists.partition(new ArrayList<>(elementIds), elementsFetchChunkSize)) {
+            chunks.add(elementsFetchExecutor.submit(
+                    () -> ZusammenConnector.super.getElements(context, elementContext, chunkIds)));
+        }
+
+        List<Element> elements = new ArrayList<>(elementIds.size());
+        try {
+            for (Future<Collection<Element>> chunk : chunks) {
+                elements.addAll(chunk.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ZusammenException(String.format("Interrupted while getting elements of version %s of item %s",
+                    elementContext.getVersionId(), elementContext.getItemId()), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ZusammenException(String.format("Failed to get elements of version %s of item %s",
+                    elementContext.getVersionId(), elementContext.getItemId()), e.getCause());
+        } finally {
+            chunks.forEach(chunk -> chunk.cancel(true));
+        }
+        return elements;
     }
 
     @Override
     public ElementConflict getElementConflict(SessionContext context, ElementContext elementContext, Id elementId) {
         Response<ElementConflict> response =
-                elementAdaptorFactory.createInterface(context).getConflict(context, elementContext, elementId);
-        return getResponseValue(response,
-                String.format("get conflict of element %s of version %s of item %s", elementId,
-                        elementContext.getVersionId(), elementContext.getItemId()));
+                elementAdaptors.get(context).getConflict(context, elementContext, elementId);
+        return getResponseValue(response, "get conflict of element %s of version %s of item %s",
+                elementId, elementContext.getVersionId(), elementContext.getItemId());
     }
 
     @Override
     public Element saveElement(SessionContext context, ElementContext elementContext, Element element, String message) {
         Response<Element> response =
-                elementAdaptorFactory.createInterface(context).save(context, elementContext, element, message);
-        return getResponseValue(response,
-                String.format("save element %s of version %s of item %s", element.getElementId(),
-                        elementContext.getVersionId(), elementContext.getItemId()));
+                elementAdaptors.get(context).save(context, elementContext, element, message);
+        return getResponseValue(response, "save element %s of version %s of item %s",
+                element.getElementId(), elementContext.getVersionId(), elementContext.getItemId());
     }
 
     @Override
     public void resolveElementConflict(SessionContext context, ElementContext elementContext, Element element,
             Resolution resolution) {
-        Response<Void> response = elementAdaptorFactory.createInterface(context)
+        Response<Void> response = elementAdaptors.get(context)
                                           .resolveConflict(context, elementContext, element, resolution);
-        getResponseValue(response,
-                String.format("resolve conflict of element %s of version %s of item %s", element.getElementId(),
-                        elementContext.getVersionId(), elementContext.getItemId()));
+        getResponseValue(response, "resolve conflict of element %s of version %s of item %s",
+                element.getElementId(), elementContext.getVersionId(), elementContext.getItemId());
     }
 
+    // the action description is formatted only when the response failed, so a successful call allocates nothing
+    // for it; fixed arities avoid the varargs array as well
     private <T> T getResponseValue(Response<T> response, String action) {
         if (!response.isSuccessful()) {
-            throw new ZusammenException(String.format("Failed to %s: %s", action, response.getReturnCode().toString()));
+            throw responseFailure(response, action);
+        }
+        return response.getValue();
+    }
+
+    private <T> T getResponseValue(Response<T> response, String actionTemplate, Object arg) {
+        if (!response.isSuccessful()) {
+            throw responseFailure(response, String.format(actionTemplate, arg));
+        }
+        return response.getValue();
+    }
+
+    private <T> T getResponseValue(Response<T> response, String actionTemplate, Object arg1, Object arg2) {
+        if (!response.isSuccessful()) {
+            throw responseFailure(response, String.format(actionTemplate, arg1, arg2));
         }
         return response.getValue();
     }
+
+    private <T> T getResponseValue(Response<T> response, String actionTemplate, Object arg1, Object arg2,
+            Object arg3) {
+        if (!response.isSuccessful()) {
+            throw responseFailure(response, String.format(actionTemplate, arg1, arg2, arg3));
+        }
+        return response.getValue();
+    }
+
+    private static ZusammenException responseFailure(Response<?> response, String action) {
+        return new ZusammenResponseException(
+                String.format("Failed to %s: %s", action, response.getReturnCode().toString()));
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+/**
+ * The zusammen connector operations.
+ */
+public enum ZusammenOperation {
+    CHECK_HEALTH(ZusammenOperationType.HEALTH),
+    GET_RELEASE_VERSION(ZusammenOperationType.HEALTH),
+    LIST_ITEMS(ZusammenOperationType.ITEM),
+    GET_ITEM(ZusammenOperationType.ITEM),
+    CREATE_ITEM(ZusammenOperationType.ITEM),
+    DELETE_ITEM(ZusammenOperationType.ITEM),
+    UPDATE_ITEM(ZusammenOperationType.ITEM),
+    LIST_PUBLIC_VERSIONS(ZusammenOperationType.VERSION),
+    GET_PUBLIC_VERSION(ZusammenOperationType.VERSION),
+    CREATE_VERSION(ZusammenOperationType.VERSION),
+    UPDATE_VERSION(ZusammenOperationType.VERSION),
+    GET_VERSION(ZusammenOperationType.VERSION),
+    GET_VERSION_STATUS(ZusammenOperationType.VERSION),
+    TAG_VERSION(ZusammenOperationType.VERSION),
+    RESET_VERSION_REVISION(ZusammenOperationType.VERSION),
+    REVERT_VERSION_REVISION(ZusammenOperationType.VERSION),
+    LIST_VERSION_REVISIONS(ZusammenOperationType.VERSION),
+    PUBLISH_VERSION(ZusammenOperationType.VERSION),
+    SYNC_VERSION(ZusammenOperationType.VERSION),
+    FORCE_SYNC_VERSION(ZusammenOperationType.VERSION),
+    CLEAN_VERSION(ZusammenOperationType.VERSION),
+    GET_VERSION_CONFLICT(ZusammenOperationType.VERSION),
+    LIST_ELEMENTS(ZusammenOperationType.ELEMENT),
+    GET_ELEMENT_INFO(ZusammenOperationType.ELEMENT),
+    GET_ELEMENT(ZusammenOperationType.ELEMENT),
+    GET_ELEMENTS(ZusammenOperationType.ELEMENT, true),
+    GET_ELEMENT_CONFLICT(ZusammenOperationType.ELEMENT),
+    SAVE_ELEMENT(ZusammenOperationType.ELEMENT),
+    RESOLVE_ELEMENT_CONFLICT(ZusammenOperationType.ELEMENT);
+
+    private final ZusammenOperationType type;
+    private final boolean batched;
+
+    ZusammenOperation(ZusammenOperationType type) {
+        this(type, false);
+    }
+
+    ZusammenOperation(ZusammenOperationType type, boolean batched) {
+        this.type = type;
+        this.batched = batched;
+    }
+
+    public ZusammenOperationType getType() {
+        return type;
+    }
+
+    /**
+     * Tells whether the operation fans out to a number of zusammen calls, so that its duration grows with its input.
+     */
+    public boolean isBatched() {
+        return batched;
+    }
+}
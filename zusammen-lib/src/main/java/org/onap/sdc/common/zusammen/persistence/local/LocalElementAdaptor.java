@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.local;
+
+import static org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.getRevision;
+import static org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.getUser;
+import static org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.getVersion;
+
+import com.amdocs.zusammen.adaptor.inbound.api.item.ElementAdaptor;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementConflict;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.Action;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import com.amdocs.zusammen.datatypes.item.Resolution;
+import com.amdocs.zusammen.datatypes.response.ErrorCode;
+import com.amdocs.zusammen.datatypes.response.Response;
+import com.amdocs.zusammen.datatypes.searchindex.SearchCriteria;
+import com.amdocs.zusammen.datatypes.searchindex.SearchResult;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.LocalZusammenFailure;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.PrivateVersion;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.PublishedRevision;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.StoredItem;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.StoredVersion;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.VersionContent;
+
+/**
+ * Elements of the local zusammen store. Reads with a revision in their element context read that public revision,
+ * other reads the private copy of the user, or the last public revision when the user has no private copy. Saves
+ * apply the element tree to the private copy by the action of each element, an element without one being updated.
+ */
+class LocalElementAdaptor implements ElementAdaptor {
+
+    private final LocalZusammenStore store;
+
+    LocalElementAdaptor(LocalZusammenStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Response<Collection<ElementInfo>> list(SessionContext context, ElementContext elementContext,
+            Id parentElementId) {
+        String user = getUser(context);
+        return store.call(context, elementContext.getItemId(), false, item -> {
+            Collection<ElementInfo> elementInfos = new ArrayList<>();
+            for (StoredElement element : getContent(item, elementContext, user).getChildren(parentElementId)) {
+                elementInfos.add(element.toElementInfo());
+            }
+            return elementInfos;
+        });
+    }
+
+    @Override
+    public Response<ElementInfo> getInfo(SessionContext context, ElementContext elementContext, Id elementId) {
+        String user = getUser(context);
+        return store.call(context, elementContext.getItemId(), false, item -> {
+            StoredElement element = getContent(item, elementContext, user).elements.get(elementId);
+            return element == null ? null : element.toElementInfo();
+        });
+    }
+
+    @Override
+    public Response<Element> get(SessionContext context, ElementContext elementContext, Id elementId) {
+        String user = getUser(context);
+        return store.call(context, elementContext.getItemId(), false, item -> {
+            VersionContent content = getContent(item, elementContext, user);
+            StoredElement element = content.elements.get(elementId);
+            return element == null ? null : element.toElement(content.getChildren(elementId));
+        });
+    }
+
+    @Override
+    public Response<ElementConflict> getConflict(SessionContext context, ElementContext elementContext,
+            Id elementId) {
+        String user = getUser(context);
+        return store.call(context, elementContext.getItemId(), false, item -> {
+            PrivateVersion privateVersion = getPrivateVersion(item, elementContext, user);
+            return privateVersion.conflicts.containsKey(elementId) ? toConflict(privateVersion, elementId) : null;
+        });
+    }
+
+    @Override
+    public Response<Element> save(SessionContext context, ElementContext elementContext, Element element,
+            String message) {
+        String user = getUser(context);
+        return store.call(context, elementContext.getItemId(), true, item -> {
+            PrivateVersion privateVersion = getPrivateVersion(item, elementContext, user);
+            save(privateVersion.content, element, null);
+            privateVersion.content.modificationTime = new Date();
+            privateVersion.dirty = true;
+            return element;
+        });
+    }
+
+    @Override
+    public Response<Void> resolveConflict(SessionContext context, ElementContext elementContext, Element element,
+            Resolution resolution) {
+        String user = getUser(context);
+        return store.call(context, elementContext.getItemId(), true, item -> {
+            PrivateVersion privateVersion = getPrivateVersion(item, elementContext, user);
+            Id elementId = element.getElementId();
+            if (!privateVersion.conflicts.containsKey(elementId)) {
+                throw new LocalZusammenFailure(ErrorCode.ZU_ELEMENT_RESOLVE_CONFLICT,
+                        "Element %s of version %s of item %s is not in conflict", elementId,
+                        elementContext.getVersionId(), elementContext.getItemId());
+            }
+            StoredElement theirs = privateVersion.conflicts.remove(elementId);
+            VersionContent content = privateVersion.content;
+            if (resolution == Resolution.THEIRS) {
+                if (theirs == null) {
+                    content.removeWithDescendants(elementId);
+                } else {
+                    content.elements.put(elementId, theirs);
+                }
+            } else if (resolution == Resolution.OTHER) {
+                StoredElement mine = content.elements.get(elementId);
+                content.elements.put(elementId, mine != null ? mine.update(element)
+                        : StoredElement.create(elementId, theirs == null ? null : theirs.getParentId(), element));
+            }
+            content.modificationTime = new Date();
+            return null;
+        });
+    }
+
+    /**
+     * Searching is not supported by the local store.
+     */
+    @Override
+    public Response<SearchResult> search(SessionContext context, SearchCriteria searchCriteria) {
+        return store.call(false, () -> {
+            throw new LocalZusammenFailure(ErrorCode.ZU_ELEMENT_SEARCH, "Search is not supported by the local store");
+        });
+    }
+
+    static ElementConflict toConflict(PrivateVersion privateVersion, Id elementId) {
+        StoredElement local = privateVersion.content.elements.get(elementId);
+        StoredElement remote = privateVersion.conflicts.get(elementId);
+        ElementConflict conflict = new ElementConflict();
+        conflict.setLocalElement(local == null ? null : local.toElement(privateVersion.content.getChildren(elementId)));
+        conflict.setRemoteElement(remote == null ? null : remote.toElement(privateVersion.base.getChildren(elementId)));
+        return conflict;
+    }
+
+    private static void save(VersionContent content, Element element, Id parentId) {
+        Id elementId = element.getElementId();
+        Action action = element.getAction() == null ? Action.UPDATE : element.getAction();
+        switch (action) {
+            case DELETE:
+                content.removeWithDescendants(elementId);
+                return;
+            case IGNORE:
+                break;
+            default:
+                if (elementId == null) {
+                    elementId = new Id();
+                    if (element instanceof ZusammenElement) {
+                        ((ZusammenElement) element).setElementId(elementId);
+                    }
+                }
+                StoredElement existing = action == Action.CREATE ? null : content.elements.get(elementId);
+                content.elements.put(elementId, existing == null ? StoredElement.create(elementId, parentId, element)
+                                                        : existing.update(element));
+        }
+        for (Element subElement : element.getSubElements()) {
+            save(content, subElement, elementId);
+        }
+    }
+
+    private static VersionContent getContent(StoredItem item, ElementContext elementContext, String user) {
+        Id itemId = elementContext.getItemId();
+        StoredVersion version = getVersion(item, itemId, elementContext.getVersionId());
+        if (elementContext.getRevisionId() != null) {
+            return getRevision(version, itemId, elementContext.getRevisionId()).content;
+        }
+        PrivateVersion privateVersion = version.privateVersions.get(user);
+        if (privateVersion != null) {
+            return privateVersion.content;
+        }
+        PublishedRevision lastRevision = version.getLastRevision();
+        return lastRevision == null ? LocalZusammenStore.getPrivateVersion(version, itemId, user).content
+                       : lastRevision.content;
+    }
+
+    private static PrivateVersion getPrivateVersion(StoredItem item, ElementContext elementContext, String user) {
+        Id itemId = elementContext.getItemId();
+        return LocalZusammenStore.getPrivateVersion(getVersion(item, itemId, elementContext.getVersionId()), itemId,
+                user);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.local;
+
+import com.amdocs.zusammen.adaptor.inbound.api.health.HealthAdaptor;
+import com.amdocs.zusammen.commons.health.data.HealthInfo;
+import com.amdocs.zusammen.commons.health.data.HealthStatus;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import java.util.Collection;
+import java.util.Collections;
+
+class LocalHealthAdaptor implements HealthAdaptor {
+
+    static final String MODULE_NAME = "Local zusammen store";
+    static final String VERSION = "local";
+
+    @Override
+    public Collection<HealthInfo> getHealthStatus(SessionContext context) {
+        return Collections.singletonList(new HealthInfo(MODULE_NAME, HealthStatus.UP, ""));
+    }
+
+    @Override
+    public String getHealthStatusReport(SessionContext context) {
+        return MODULE_NAME + ": " + HealthStatus.UP;
+    }
+
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+}
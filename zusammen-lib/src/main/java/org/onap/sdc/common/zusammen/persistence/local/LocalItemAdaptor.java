@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.local;
+
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemAdaptor;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.Item;
+import com.amdocs.zusammen.datatypes.response.ErrorCode;
+import com.amdocs.zusammen.datatypes.response.Response;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.LocalZusammenFailure;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.StoredItem;
+
+class LocalItemAdaptor implements ItemAdaptor {
+
+    private final LocalZusammenStore store;
+
+    LocalItemAdaptor(LocalZusammenStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Response<Collection<Item>> list(SessionContext context) {
+        return store.call(false, () -> {
+            Collection<Item> items = new ArrayList<>();
+            for (Map.Entry<Id, StoredItem> entry : store.getItems(context).entrySet()) {
+                synchronized (entry.getValue()) {
+                    items.add(toItem(entry.getKey(), entry.getValue()));
+                }
+            }
+            return items;
+        });
+    }
+
+    @Override
+    public Response<Item> get(SessionContext context, Id itemId) {
+        return store.call(false, () -> {
+            StoredItem item = store.getItem(context, itemId);
+            synchronized (item) {
+                return toItem(itemId, item);
+            }
+        });
+    }
+
+    @Override
+    public Response<Id> create(SessionContext context, Info info) {
+        return create(context, new Id(), info);
+    }
+
+    @Override
+    public Response<Id> create(SessionContext context, Id itemId, Info info) {
+        return store.call(true, () -> {
+            StoredItem item = new StoredItem();
+            item.info = LocalZusammenStore.copy(info);
+            item.creationTime = new Date();
+            item.modificationTime = item.creationTime;
+            if (store.getItems(context).putIfAbsent(itemId, item) != null) {
+                throw new LocalZusammenFailure(ErrorCode.ZU_ITEM_CREATE, "Item %s already exists", itemId);
+            }
+            return itemId;
+        });
+    }
+
+    @Override
+    public Response<Void> update(SessionContext context, Id itemId, Info info) {
+        return store.call(true, () -> {
+            StoredItem item = store.getItem(context, itemId);
+            synchronized (item) {
+                item.info = LocalZusammenStore.copy(info);
+                item.modificationTime = new Date();
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public Response<Void> delete(SessionContext context, Id itemId) {
+        return store.call(true, () -> {
+            if (store.getItems(context).remove(itemId) == null) {
+                throw new LocalZusammenFailure(ErrorCode.ZU_ITEM_DOES_NOT_EXIST, "Item %s does not exist", itemId);
+            }
+            return null;
+        });
+    }
+
+    private static Item toItem(Id itemId, StoredItem storedItem) {
+        Item item = new Item();
+        item.setId(itemId);
+        item.setInfo(LocalZusammenStore.copy(storedItem.info));
+        item.setCreationTime(storedItem.creationTime);
+        item.setModificationTime(storedItem.modificationTime);
+        return item;
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.local;
+
+import static org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.getPrivateVersion;
+import static org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.getUser;
+import static org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.getVersion;
+
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemVersionAdaptor;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementConflict;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementConflictInfo;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ItemVersionConflict;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.MergeConflict;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.MergeResult;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.Space;
+import com.amdocs.zusammen.datatypes.item.ItemVersion;
+import com.amdocs.zusammen.datatypes.item.ItemVersionData;
+import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
+import com.amdocs.zusammen.datatypes.item.SynchronizationStatus;
+import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
+import com.amdocs.zusammen.datatypes.itemversion.Revision;
+import com.amdocs.zusammen.datatypes.itemversion.Tag;
+import com.amdocs.zusammen.datatypes.response.ErrorCode;
+import com.amdocs.zusammen.datatypes.response.Response;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.LocalZusammenFailure;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.PrivateVersion;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.PublishedRevision;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.StoredVersion;
+import org.onap.sdc.common.zusammen.persistence.local.LocalZusammenStore.VersionContent;
+
+/**
+ * Versions of the local zusammen store. A sync merges the public changes into a dirty private version element by
+ * element: an element changed on one side only takes that change, an element changed on both sides keeps the private
+ * change and is left in conflict until resolved, which keeps the version merging. The version data itself is merged
+ * the same way, except that a change on both sides keeps the private one without a conflict.
+ */
+class LocalItemVersionAdaptor implements ItemVersionAdaptor {
+
+    private final LocalZusammenStore store;
+
+    LocalItemVersionAdaptor(LocalZusammenStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Response<Collection<ItemVersion>> list(SessionContext context, Space space, Id itemId) {
+        String user = getUser(context);
+        return store.call(context, itemId, false, item -> {
+            Collection<ItemVersion> versions = new ArrayList<>();
+            for (StoredVersion version : item.versions.values()) {
+                ItemVersion itemVersion = toItemVersion(version, space, user);
+                if (itemVersion != null) {
+                    versions.add(itemVersion);
+                }
+            }
+            return versions;
+        });
+    }
+
+    @Override
+    public Response<ItemVersion> get(SessionContext context, Space space, Id itemId, Id versionId) {
+        String user = getUser(context);
+        return store.call(context, itemId, false, item -> {
+            ItemVersion itemVersion = toItemVersion(getVersion(item, itemId, versionId), space, user);
+            if (itemVersion == null) {
+                throw new LocalZusammenFailure(ErrorCode.ZU_ITEM_VERSION_NOT_EXIST,
+                        "Version %s of item %s does not exist in the %s space", versionId, itemId, space);
+            }
+            return itemVersion;
+        });
+    }
+
+    @Override
+    public Response<ItemVersion> get(SessionContext context, Space space, Id itemId, Id versionId, Id revisionId) {
+        return store.call(context, itemId, false, item -> {
+            StoredVersion version = getVersion(item, itemId, versionId);
+            PublishedRevision revision = LocalZusammenStore.getRevision(version, itemId, revisionId);
+            return toItemVersion(version, revision.content, revisionId);
+        });
+    }
+
+    @Override
+    public Response<Id> create(SessionContext context, Id itemId, Id baseVersionId, ItemVersionData data) {
+        return create(context, itemId, new Id(), baseVersionId, data);
+    }
+
+    @Override
+    public Response<Id> create(SessionContext context, Id itemId, Id versionId, Id baseVersionId,
+            ItemVersionData data) {
+        String user = getUser(context);
+        return store.call(context, itemId, true, item -> {
+            if (item.versions.containsKey(versionId)) {
+                throw new LocalZusammenFailure(ErrorCode.ZU_ITEM_VERSION_CREATE,
+                        "Version %s of item %s already exists", versionId, itemId);
+            }
+            VersionContent content;
+            if (baseVersionId == null) {
+                content = new VersionContent(null, null);
+            } else {
+                PublishedRevision baseRevision = getVersion(item, itemId, baseVersionId).getLastRevision();
+                content = baseRevision == null ? new VersionContent(null, null) : baseRevision.content.copy();
+            }
+            Date now = new Date();
+            content.data = LocalZusammenStore.copy(data);
+            content.modificationTime = now;
+            StoredVersion version = new StoredVersion(versionId, baseVersionId, now);
+            version.privateVersions.put(user, new PrivateVersion(content, true));
+            item.versions.put(versionId, version);
+            return versionId;
+        });
+    }
+
+    @Override
+    public Response<Void> update(SessionContext context, Id itemId, Id versionId, ItemVersionData data) {
+        String user = getUser(context);
+        return store.call(context, itemId, true, item -> {
+            PrivateVersion privateVersion = getPrivateVersion(getVersion(item, itemId, versionId), itemId, user);
+            privateVersion.content.data = LocalZusammenStore.copy(data);
+            privateVersion.content.modificationTime = new Date();
+            privateVersion.dirty = true;
+            return null;
+        });
+    }
+
+    /**
+     * Cleans the private copy of the version, dropping the version when nothing else holds it.
+     */
+    @Override
+    public Response<Void> delete(SessionContext context, Id itemId, Id versionId) {
+        String user = getUser(context);
+        return store.call(context, itemId, true, item -> {
+            StoredVersion version = getVersion(item, itemId, versionId);
+            version.privateVersions.remove(user);
+            if (version.privateVersions.isEmpty() && version.revisions.isEmpty()) {
+                item.versions.remove(versionId);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public Response<ItemVersionStatus> getStatus(SessionContext context, Id itemId, Id versionId) {
+        String user = getUser(context);
+        return store.call(context, itemId, false, item -> {
+            StoredVersion version = getVersion(item, itemId, versionId);
+            PrivateVersion privateVersion = version.privateVersions.get(user);
+            if (privateVersion == null) {
+                return new ItemVersionStatus(SynchronizationStatus.OUT_OF_SYNC, false);
+            }
+            SynchronizationStatus status = !privateVersion.conflicts.isEmpty() ? SynchronizationStatus.MERGING
+                    : privateVersion.syncedRevisions < version.revisions.size() ? SynchronizationStatus.OUT_OF_SYNC
+                              : SynchronizationStatus.UP_TO_DATE;
+            return new ItemVersionStatus(status, privateVersion.dirty);
+        });
+    }
+
+    /**
+     * Tags are not kept by the local store.
+     */
+    @Override
+    public Response<Void> tag(SessionContext context, Id itemId, Id versionId, Id revisionId, Tag tag) {
+        return store.call(context, itemId, true, item -> {
+            getVersion(item, itemId, versionId);
+            return null;
+        });
+    }
+
+    @Override
+    public Response<Void> publish(SessionContext context, Id itemId, Id versionId, String message) {
+        String user = getUser(context);
+        return store.call(context, itemId, true, item -> {
+            StoredVersion version = getVersion(item, itemId, versionId);
+            PrivateVersion privateVersion = getPrivateVersion(version, itemId, user);
+            String rejection = !privateVersion.conflicts.isEmpty() ? "it has unresolved conflicts"
+                    : privateVersion.syncedRevisions < version.revisions.size() ? "it is out of sync"
+                              : !privateVersion.dirty ? "it has no changes" : null;
+            if (rejection != null) {
+                throw new LocalZusammenFailure(ErrorCode.ZU_ITEM_VERSION_PUBLISH_NOT_ALLOWED,
+                        "Version %s of item %s can not be published since %s", versionId, itemId, rejection);
+            }
+            Revision revision = new Revision();
+            revision.setRevisionId(new Id());
+            revision.setMessage(message);
+            revision.setUser(user);
+            revision.setTime(new Date());
+            VersionContent published = privateVersion.content.copy();
+            version.revisions.add(new PublishedRevision(revision, published));
+            privateVersion.base = published;
+            privateVersion.syncedRevisions = version.revisions.size();
+            privateVersion.dirty = false;
+            return null;
+        });
+    }
+
+    @Override
+    public Response<MergeResult> sync(SessionContext context, Id itemId, Id versionId) {
+        String user = getUser(context);
+        return store.call(context, itemId, true, item -> {
+            StoredVersion version = getVersion(item, itemId, versionId);
+            PrivateVersion privateVersion = version.privateVersions.get(user);
+            if (version.revisions.isEmpty()) {
+                getPrivateVersion(version, itemId, user);
+                return new MergeResult();
+            }
+            if (privateVersion == null) {
+                privateVersion = new PrivateVersion(null, false);
+                privateVersion.syncWith(version);
+                version.privateVersions.put(user, privateVersion);
+            } else if (!privateVersion.dirty) {
+                privateVersion.syncWith(version);
+            } else if (privateVersion.syncedRevisions < version.revisions.size()) {
+                merge(privateVersion, version.getLastRevision().content, version.revisions.size());
+            }
+            return toMergeResult(privateVersion);
+        });
+    }
+
+    @Override
+    public Response<MergeResult> forceSync(SessionContext context, Id itemId, Id versionId) {
+        String user = getUser(context);
+        return store.call(context, itemId, true, item -> {
+            StoredVersion version = getVersion(item, itemId, versionId);
+            if (version.revisions.isEmpty()) {
+                throw new LocalZusammenFailure(ErrorCode.ZU_ITEM_VERSION_FORCE_SYNC,
+                        "Version %s of item %s has not been published", versionId, itemId);
+            }
+            version.privateVersions.computeIfAbsent(user, u -> new PrivateVersion(null, false)).syncWith(version);
+            return new MergeResult();
+        });
+    }
+
+    /**
+     * Merging versions is not supported by the local store.
+     */
+    @Override
+    public Response<MergeResult> merge(SessionContext context, Id itemId, Id versionId, Id sourceVersionId) {
+        return store.call(true, () -> {
+            throw new LocalZusammenFailure(ErrorCode.ZU_ITEM_VERSION_MERGE,
+                    "Merging version %s into version %s of item %s is not supported by the local store",
+                    sourceVersionId, versionId, itemId);
+        });
+    }
+
+    @Override
+    public Response<ItemVersionRevisions> listRevisions(SessionContext context, Id itemId, Id versionId) {
+        return store.call(context, itemId, false, item -> {
+            List<PublishedRevision> published = getVersion(item, itemId, versionId).revisions;
+            List<Revision> revisions = new ArrayList<>(published.size());
+            for (int i = published.size() - 1; i >= 0; i--) {
+                revisions.add(LocalZusammenStore.copy(published.get(i).revision));
+            }
+            ItemVersionRevisions itemVersionRevisions = new ItemVersionRevisions();
+            itemVersionRevisions.setItemVersionRevisions(revisions);
+            return itemVersionRevisions;
+        });
+    }
+
+    @Override
+    public Response<Revision> getRevision(SessionContext context, Id itemId, Id versionId, Id revisionId) {
+        return store.call(context, itemId, false, item -> LocalZusammenStore.copy(
+                LocalZusammenStore.getRevision(getVersion(item, itemId, versionId), itemId, revisionId).revision));
+    }
+
+    /**
+     * Like {@link #revertRevision}, since the local store does not keep private revisions to reset.
+     */
+    @Override
+    public Response<Void> resetRevision(SessionContext context, Id itemId, Id versionId, Id revisionId) {
+        return revertRevision(context, itemId, versionId, revisionId);
+    }
+
+    @Override
+    public Response<Void> revertRevision(SessionContext context, Id itemId, Id versionId, Id revisionId) {
+        String user = getUser(context);
+        return store.call(context, itemId, true, item -> {
+            StoredVersion version = getVersion(item, itemId, versionId);
+            PublishedRevision revision = LocalZusammenStore.getRevision(version, itemId, revisionId);
+            PrivateVersion privateVersion = getPrivateVersion(version, itemId, user);
+            privateVersion.content = revision.content.copy();
+            privateVersion.content.modificationTime = new Date();
+            privateVersion.dirty = true;
+            return null;
+        });
+    }
+
+    @Override
+    public Response<ItemVersionConflict> getConflict(SessionContext context, Id itemId, Id versionId) {
+        String user = getUser(context);
+        return store.call(context, itemId, false, item -> {
+            PrivateVersion privateVersion = getVersion(item, itemId, versionId).privateVersions.get(user);
+            ItemVersionConflict conflict = new ItemVersionConflict();
+            if (privateVersion != null) {
+                for (Map.Entry<Id, StoredElement> entry : privateVersion.conflicts.entrySet()) {
+                    StoredElement local = privateVersion.content.elements.get(entry.getKey());
+                    ElementConflictInfo conflictInfo = new ElementConflictInfo();
+                    conflictInfo.setLocalElementInfo(local == null ? null : local.toElementInfo());
+                    conflictInfo.setRemoteElementInfo(entry.getValue() == null ? null
+                                                              : entry.getValue().toElementInfo());
+                    conflict.addElementConflictInfo(conflictInfo);
+                }
+            }
+            return conflict;
+        });
+    }
+
+    private static void merge(PrivateVersion privateVersion, VersionContent theirs, int publishedRevisions) {
+        VersionContent base = privateVersion.base;
+        VersionContent mine = privateVersion.content;
+        VersionContent merged = mine.copy();
+        if (mine.data == base.data) {
+            merged.data = theirs.data;
+        }
+        Set<Id> elementIds = new LinkedHashSet<>(base.elements.keySet());
+        elementIds.addAll(mine.elements.keySet());
+        elementIds.addAll(theirs.elements.keySet());
+        for (Id elementId : elementIds) {
+            StoredElement baseElement = base.elements.get(elementId);
+            StoredElement myElement = mine.elements.get(elementId);
+            StoredElement theirElement = theirs.elements.get(elementId);
+            if (myElement == baseElement) {
+                if (theirElement == null) {
+                    merged.elements.remove(elementId);
+                } else {
+                    merged.elements.put(elementId, theirElement);
+                }
+            } else if (theirElement != baseElement && theirElement != myElement) {
+                privateVersion.conflicts.put(elementId, theirElement);
+            }
+        }
+        merged.modificationTime = new Date();
+        privateVersion.content = merged;
+        privateVersion.base = theirs;
+        privateVersion.syncedRevisions = publishedRevisions;
+    }
+
+    private static MergeResult toMergeResult(PrivateVersion privateVersion) {
+        MergeResult result = new MergeResult();
+        if (!privateVersion.conflicts.isEmpty()) {
+            Collection<ElementConflict> elementConflicts = new ArrayList<>();
+            for (Map.Entry<Id, StoredElement> entry : privateVersion.conflicts.entrySet()) {
+                elementConflicts.add(LocalElementAdaptor.toConflict(privateVersion, entry.getKey()));
+            }
+            MergeConflict conflict = new MergeConflict();
+            conflict.setElementConflicts(elementConflicts);
+            result.setConflict(conflict);
+        }
+        return result;
+    }
+
+    private static ItemVersion toItemVersion(StoredVersion version, Space space, String user) {
+        PrivateVersion privateVersion = space == Space.PUBLIC ? null : version.privateVersions.get(user);
+        if (privateVersion != null) {
+            PublishedRevision lastRevision = version.getLastRevision();
+            return toItemVersion(version, privateVersion.content,
+                    lastRevision == null ? null : lastRevision.revision.getRevisionId());
+        }
+        PublishedRevision lastRevision = space == Space.PRIVATE ? null : version.getLastRevision();
+        return lastRevision == null ? null
+                       : toItemVersion(version, lastRevision.content, lastRevision.revision.getRevisionId());
+    }
+
+    private static ItemVersion toItemVersion(StoredVersion version, VersionContent content, Id revisionId) {
+        ItemVersion itemVersion = new ItemVersion();
+        itemVersion.setId(version.id);
+        itemVersion.setBaseId(version.baseId);
+        itemVersion.setRevisionId(revisionId);
+        itemVersion.setData(LocalZusammenStore.copy(content.data));
+        itemVersion.setCreationTime(version.creationTime);
+        itemVersion.setModificationTime(content.modificationTime);
+        return itemVersion;
+    }
+}
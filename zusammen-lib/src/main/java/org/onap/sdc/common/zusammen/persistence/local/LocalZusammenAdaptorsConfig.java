@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.local;
+
+import com.amdocs.zusammen.adaptor.inbound.api.health.HealthAdaptor;
+import com.amdocs.zusammen.adaptor.inbound.api.health.HealthAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ElementAdaptor;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ElementAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemAdaptor;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemVersionAdaptor;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ItemVersionAdaptorFactory;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Replaces the zusammen adaptor factories with ones over a {@link LocalZusammenStore}, so that the connector runs
+ * against an in-process zusammen, for tests and benchmarks, when {@code zusammen.adaptors.local.enabled} is set.
+ */
+@Configuration
+@ConditionalOnProperty(name = "zusammen.adaptors.local.enabled", havingValue = "true")
+public class LocalZusammenAdaptorsConfig {
+
+    @Bean
+    public LocalZusammenStore localZusammenStore(
+            @Value("${zusammen.adaptors.local.read-latency-micros:0}") long readLatencyMicros,
+            @Value("${zusammen.adaptors.local.write-latency-micros:0}") long writeLatencyMicros) {
+        return new LocalZusammenStore(readLatencyMicros, writeLatencyMicros);
+    }
+
+    @Bean
+    public ItemAdaptorFactory itemAdaptorFactory(LocalZusammenStore store) {
+        return itemAdaptorFactoryOf(store);
+    }
+
+    @Bean
+    public ItemVersionAdaptorFactory itemVersionAdaptorFactory(LocalZusammenStore store) {
+        return itemVersionAdaptorFactoryOf(store);
+    }
+
+    @Bean
+    public ElementAdaptorFactory elementAdaptorFactory(LocalZusammenStore store) {
+        return elementAdaptorFactoryOf(store);
+    }
+
+    @Bean
+    public HealthAdaptorFactory healthAdaptorFactory() {
+        return healthAdaptorFactoryOf();
+    }
+
+    public static ItemAdaptorFactory itemAdaptorFactoryOf(LocalZusammenStore store) {
+        ItemAdaptor adaptor = new LocalItemAdaptor(store);
+        return new ItemAdaptorFactory() {
+            @Override
+            public ItemAdaptor createInterface(SessionContext context) {
+                return adaptor;
+            }
+        };
+    }
+
+    public static ItemVersionAdaptorFactory itemVersionAdaptorFactoryOf(LocalZusammenStore store) {
+        ItemVersionAdaptor adaptor = new LocalItemVersionAdaptor(store);
+        return new ItemVersionAdaptorFactory() {
+            @Override
+            public ItemVersionAdaptor createInterface(SessionContext context) {
+                return adaptor;
+            }
+        };
+    }
+
+    public static ElementAdaptorFactory elementAdaptorFactoryOf(LocalZusammenStore store) {
+        ElementAdaptor adaptor = new LocalElementAdaptor(store);
+        return new ElementAdaptorFactory() {
+            @Override
+            public ElementAdaptor createInterface(SessionContext context) {
+                return adaptor;
+            }
+        };
+    }
+
+    public static HealthAdaptorFactory healthAdaptorFactoryOf() {
+        HealthAdaptor adaptor = new LocalHealthAdaptor();
+        return new HealthAdaptorFactory() {
+            @Override
+            public HealthAdaptor createInterface(SessionContext context) {
+                return adaptor;
+            }
+        };
+    }
+}
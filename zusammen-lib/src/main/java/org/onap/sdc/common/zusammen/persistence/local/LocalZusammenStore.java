@@ -0,0 +1,311 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.local;
+
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.ItemVersionData;
+import com.amdocs.zusammen.datatypes.itemversion.Revision;
+import com.amdocs.zusammen.datatypes.response.ErrorCode;
+import com.amdocs.zusammen.datatypes.response.Module;
+import com.amdocs.zusammen.datatypes.response.Response;
+import com.amdocs.zusammen.datatypes.response.ReturnCode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The state of an in-process zusammen, shared by the local adaptors: the items of each tenant, and for each of their
+ * versions the public revisions and the private copy of each user. An item and its versions are guarded by the item
+ * monitor, so calls on different items run concurrently. Every call is delayed by the configured latency, outside of
+ * the item monitor, to stand for the round trip to a remote zusammen.
+ */
+public class LocalZusammenStore {
+
+    private final long readLatencyNanos;
+    private final long writeLatencyNanos;
+    private final ConcurrentMap<String, ConcurrentMap<Id, StoredItem>> itemsByTenant = new ConcurrentHashMap<>();
+
+    public LocalZusammenStore(long readLatencyMicros, long writeLatencyMicros) {
+        this.readLatencyNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(readLatencyMicros, 0));
+        this.writeLatencyNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(writeLatencyMicros, 0));
+    }
+
+    /**
+     * Runs a call after the latency of its kind, turning a {@link LocalZusammenFailure} into a failed response as
+     * zusammen reports failures.
+     */
+    <T> Response<T> call(boolean write, Supplier<T> operation) {
+        long latencyNanos = write ? writeLatencyNanos : readLatencyNanos;
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+        try {
+            return new Response<>(operation.get());
+        } catch (LocalZusammenFailure failure) {
+            return new Response<>(new ReturnCode(failure.getErrorCode(), Module.ZCSM, failure.getMessage(), null));
+        }
+    }
+
+    ConcurrentMap<Id, StoredItem> getItems(SessionContext context) {
+        return itemsByTenant.computeIfAbsent(context.getTenant() == null ? "" : context.getTenant(),
+                tenant -> new ConcurrentHashMap<>());
+    }
+
+    StoredItem getItem(SessionContext context, Id itemId) {
+        StoredItem item = getItems(context).get(itemId);
+        if (item == null) {
+            throw new LocalZusammenFailure(ErrorCode.ZU_ITEM_DOES_NOT_EXIST, "Item %s does not exist", itemId);
+        }
+        return item;
+    }
+
+    /**
+     * Runs a call on an item under its monitor.
+     */
+    <T> Response<T> call(SessionContext context, Id itemId, boolean write, Function<StoredItem, T> operation) {
+        return call(write, () -> {
+            StoredItem item = getItem(context, itemId);
+            synchronized (item) {
+                return operation.apply(item);
+            }
+        });
+    }
+
+    static StoredVersion getVersion(StoredItem item, Id itemId, Id versionId) {
+        StoredVersion version = item.versions.get(versionId);
+        if (version == null) {
+            throw new LocalZusammenFailure(ErrorCode.ZU_ITEM_VERSION_NOT_EXIST, "Version %s of item %s does not exist",
+                    versionId, itemId);
+        }
+        return version;
+    }
+
+    static PrivateVersion getPrivateVersion(StoredVersion version, Id itemId, String user) {
+        PrivateVersion privateVersion = version.privateVersions.get(user);
+        if (privateVersion == null) {
+            throw new LocalZusammenFailure(ErrorCode.ZU_ITEM_VERSION_NOT_EXIST,
+                    "Version %s of item %s does not exist in the private space of user %s", version.id, itemId, user);
+        }
+        return privateVersion;
+    }
+
+    static PublishedRevision getRevision(StoredVersion version, Id itemId, Id revisionId) {
+        PublishedRevision revision = version.getRevision(revisionId);
+        if (revision == null) {
+            throw new LocalZusammenFailure(ErrorCode.ZU_ITEM_VERSION_REVISION,
+                    "Revision %s of version %s of item %s does not exist", revisionId, version.id, itemId);
+        }
+        return revision;
+    }
+
+    static String getUser(SessionContext context) {
+        return context.getUser() == null ? null : context.getUser().getUserName();
+    }
+
+    /**
+     * Copies an info, with its properties as zusammen persists them in json: the keys of maps and the enums as
+     * strings, the collections as lists.
+     */
+    static Info copy(Info info) {
+        if (info == null) {
+            return null;
+        }
+        Info copy = new Info();
+        copy.setName(info.getName());
+        copy.setDescription(info.getDescription());
+        Map<String, Object> properties = new HashMap<>();
+        info.getProperties().forEach((key, value) -> properties.put(key, copyProperty(value)));
+        copy.setProperties(properties);
+        return copy;
+    }
+
+    private static Object copyProperty(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((key, entryValue) -> map.put(String.valueOf(key), copyProperty(entryValue)));
+            return map;
+        }
+        if (value instanceof Collection) {
+            List<Object> list = new ArrayList<>();
+            ((Collection<?>) value).forEach(element -> list.add(copyProperty(element)));
+            return list;
+        }
+        return value instanceof Enum ? ((Enum<?>) value).name() : value;
+    }
+
+    static ItemVersionData copy(ItemVersionData data) {
+        if (data == null) {
+            return null;
+        }
+        ItemVersionData copy = new ItemVersionData();
+        copy.setInfo(copy(data.getInfo()));
+        copy.setRelations(data.getRelations() == null ? null : new ArrayList<>(data.getRelations()));
+        return copy;
+    }
+
+    static Revision copy(Revision revision) {
+        Revision copy = new Revision();
+        copy.setRevisionId(revision.getRevisionId());
+        copy.setMessage(revision.getMessage());
+        copy.setUser(revision.getUser());
+        copy.setTime(revision.getTime());
+        return copy;
+    }
+
+    static class StoredItem {
+
+        Info info;
+        Date creationTime;
+        Date modificationTime;
+        final Map<Id, StoredVersion> versions = new LinkedHashMap<>();
+    }
+
+    static class StoredVersion {
+
+        final Id id;
+        final Id baseId;
+        final Date creationTime;
+        // oldest first
+        final List<PublishedRevision> revisions = new ArrayList<>();
+        final Map<String, PrivateVersion> privateVersions = new HashMap<>();
+
+        StoredVersion(Id id, Id baseId, Date creationTime) {
+            this.id = id;
+            this.baseId = baseId;
+            this.creationTime = creationTime;
+        }
+
+        PublishedRevision getLastRevision() {
+            return revisions.isEmpty() ? null : revisions.get(revisions.size() - 1);
+        }
+
+        PublishedRevision getRevision(Id revisionId) {
+            return revisions.stream().filter(revision -> revision.revision.getRevisionId().equals(revisionId))
+                           .findFirst().orElse(null);
+        }
+    }
+
+    static class PublishedRevision {
+
+        final Revision revision;
+        // never changed once published
+        final VersionContent content;
+
+        PublishedRevision(Revision revision, VersionContent content) {
+            this.revision = revision;
+            this.content = content;
+        }
+    }
+
+    /**
+     * The content of a version in one space. The version data and the elements are never changed in place but
+     * replaced, so that copies share them and a change is told by identity.
+     */
+    static class VersionContent {
+
+        static final VersionContent EMPTY = new VersionContent(null, null);
+
+        ItemVersionData data;
+        Date modificationTime;
+        final Map<Id, StoredElement> elements;
+
+        VersionContent(ItemVersionData data, Date modificationTime) {
+            this(data, modificationTime, Collections.emptyMap());
+        }
+
+        private VersionContent(ItemVersionData data, Date modificationTime, Map<Id, StoredElement> elements) {
+            this.data = data;
+            this.modificationTime = modificationTime;
+            this.elements = new LinkedHashMap<>(elements);
+        }
+
+        VersionContent copy() {
+            return new VersionContent(data, modificationTime, elements);
+        }
+
+        List<StoredElement> getChildren(Id parentId) {
+            List<StoredElement> children = new ArrayList<>();
+            for (StoredElement element : elements.values()) {
+                if (parentId == null ? element.getParentId() == null : parentId.equals(element.getParentId())) {
+                    children.add(element);
+                }
+            }
+            return children;
+        }
+
+        void removeWithDescendants(Id elementId) {
+            if (elements.remove(elementId) != null) {
+                getChildren(elementId).forEach(child -> removeWithDescendants(child.getId()));
+            }
+        }
+    }
+
+    static class PrivateVersion {
+
+        VersionContent content;
+        // the public content the private one was last synced with
+        VersionContent base = VersionContent.EMPTY;
+        int syncedRevisions;
+        boolean dirty;
+        // the elements changed both privately and publicly since the last sync, with their public state (null when
+        // deleted publicly), until resolved
+        final Map<Id, StoredElement> conflicts = new LinkedHashMap<>();
+
+        PrivateVersion(VersionContent content, boolean dirty) {
+            this.content = content;
+            this.dirty = dirty;
+        }
+
+        void syncWith(StoredVersion version) {
+            PublishedRevision lastRevision = version.getLastRevision();
+            content = lastRevision.content.copy();
+            base = lastRevision.content;
+            syncedRevisions = version.revisions.size();
+            dirty = false;
+            conflicts.clear();
+        }
+    }
+
+    static class LocalZusammenFailure extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int errorCode;
+
+        LocalZusammenFailure(int errorCode, String messageTemplate, Object... args) {
+            super(String.format(messageTemplate, args));
+            this.errorCode = errorCode;
+        }
+
+        int getErrorCode() {
+            return errorCode;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.local;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.Relation;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * An element as kept by the local zusammen store, immutable so that it can be shared by the contents of a version in
+ * several spaces. The tree is kept through the parent id of each element.
+ */
+final class StoredElement {
+
+    private final Id id;
+    private final Id parentId;
+    private final Info info;
+    private final Collection<Relation> relations;
+    private final byte[] data;
+    private final byte[] searchableData;
+    private final byte[] visualization;
+
+    private StoredElement(Id id, Id parentId, Info info, Collection<Relation> relations, byte[] data,
+            byte[] searchableData, byte[] visualization) {
+        this.id = id;
+        this.parentId = parentId;
+        this.info = info;
+        this.relations = relations;
+        this.data = data;
+        this.searchableData = searchableData;
+        this.visualization = visualization;
+    }
+
+    static StoredElement create(Id id, Id parentId, Element element) {
+        return new StoredElement(id, parentId, LocalZusammenStore.copy(element.getInfo()),
+                copy(element.getRelations()), read(element.getData()), read(element.getSearchableData()),
+                read(element.getVisualization()));
+    }
+
+    /**
+     * The element updated with the given one, keeping what the given one leaves unset.
+     */
+    StoredElement update(Element element) {
+        return new StoredElement(id, parentId,
+                element.getInfo() == null ? info : LocalZusammenStore.copy(element.getInfo()),
+                element.getRelations() == null ? relations : copy(element.getRelations()),
+                element.getData() == null ? data : read(element.getData()),
+                element.getSearchableData() == null ? searchableData : read(element.getSearchableData()),
+                element.getVisualization() == null ? visualization : read(element.getVisualization()));
+    }
+
+    Id getId() {
+        return id;
+    }
+
+    Id getParentId() {
+        return parentId;
+    }
+
+    /**
+     * The element as zusammen returns it, with its sub elements holding only their ids.
+     */
+    ZusammenElement toElement(Collection<StoredElement> children) {
+        ZusammenElement element = new ZusammenElement();
+        element.setElementId(id);
+        element.setInfo(LocalZusammenStore.copy(info));
+        element.setRelations(copy(relations));
+        element.setData(stream(data));
+        element.setSearchableData(stream(searchableData));
+        element.setVisualization(stream(visualization));
+        for (StoredElement child : children) {
+            ZusammenElement subElement = new ZusammenElement();
+            subElement.setElementId(child.id);
+            element.addSubElement(subElement);
+        }
+        return element;
+    }
+
+    ElementInfo toElementInfo() {
+        ElementInfo elementInfo = new ElementInfo();
+        elementInfo.setId(id);
+        elementInfo.setInfo(LocalZusammenStore.copy(info));
+        elementInfo.setRelations(copy(relations));
+        elementInfo.setSubElements(new ArrayList<>());
+        return elementInfo;
+    }
+
+    private static Collection<Relation> copy(Collection<Relation> relations) {
+        return relations == null ? null : new ArrayList<>(relations);
+    }
+
+    private static byte[] read(InputStream stream) {
+        if (stream == null) {
+            return null;
+        }
+        try (InputStream input = stream) {
+            return ByteStreams.toByteArray(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the content of an element", e);
+        }
+    }
+
+    private static InputStream stream(byte[] content) {
+        return content == null ? null : new ByteArrayInputStream(content);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.services;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementConflict;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ItemVersionConflict;
+import com.amdocs.zusammen.commons.health.data.HealthInfo;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import com.amdocs.zusammen.datatypes.item.Item;
+import com.amdocs.zusammen.datatypes.item.ItemVersion;
+import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
+import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non blocking variant of the {@link ZusammenAdaptor} reads, so that independent reads can be issued together.
+ * The returned futures fail with the same exceptions the blocking methods throw.
+ */
+public interface AsyncZusammenAdaptor {
+
+    CompletableFuture<Collection<Item>> listItems(SessionContext context);
+
+    CompletableFuture<Item> getItem(SessionContext context, Id itemId);
+
+    CompletableFuture<Collection<ItemVersion>> listPublicVersions(SessionContext context, Id itemId);
+
+    CompletableFuture<ItemVersion> getPublicVersion(SessionContext context, Id itemId, Id versionId);
+
+    CompletableFuture<ItemVersion> getVersion(SessionContext context, Id itemId, Id versionId);
+
+    CompletableFuture<ItemVersionStatus> getVersionStatus(SessionContext context, Id itemId, Id versionId);
+
+    CompletableFuture<ItemVersionConflict> getVersionConflict(SessionContext context, Id itemId, Id versionId);
+
+    CompletableFuture<ItemVersionRevisions> listRevisions(SessionContext context, Id itemId, Id versionId);
+
+    CompletableFuture<Optional<ElementInfo>> getElementInfo(SessionContext context, ElementContext elementContext,
+            Id elementId);
+
+    CompletableFuture<Optional<Element>> getElement(SessionContext context, ElementContext elementContext,
+            Id elementId);
+
+    CompletableFuture<Optional<Element>> getElementByName(SessionContext context, ElementContext elementContext,
+            Id parentElementId, String elementName);
+
+    CompletableFuture<Collection<ElementInfo>> listElements(SessionContext context, ElementContext elementContext,
+            Id parentElementId);
+
+    CompletableFuture<Collection<Element>> listElementData(SessionContext context, ElementContext elementContext,
+            Id parentElementId);
+
+    CompletableFuture<Collection<ElementInfo>> listElementsByName(SessionContext context, ElementContext elementContext,
+            Id parentElementId, String elementName);
+
+    CompletableFuture<Optional<ElementInfo>> getElementInfoByName(SessionContext context, ElementContext elementContext,
+            Id parentElementId, String elementName);
+
+    CompletableFuture<Optional<ElementConflict>> getElementConflict(SessionContext context,
+            ElementContext elementContext, Id elementId);
+
+    CompletableFuture<Collection<HealthInfo>> checkHealth(SessionContext context);
+}
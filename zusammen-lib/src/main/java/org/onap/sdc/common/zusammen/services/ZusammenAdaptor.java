@@ -33,8 +33,11 @@ import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
 import com.amdocs.zusammen.datatypes.item.Resolution;
 import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Optional;
+import org.onap.sdc.common.zusammen.persistence.ZusammenHealthSnapshot;
 
 public interface ZusammenAdaptor {
 
@@ -111,4 +114,13 @@ public interface ZusammenAdaptor {
     Collection<HealthInfo> checkHealth(SessionContext context);
 
     String getReleaseVersion(SessionContext context);
+
+    /**
+     * Gets a snapshot of the zusammen health, which may have been taken earlier unless forceRefresh is set. This one
+     * checks the health on every call.
+     */
+    default ZusammenHealthSnapshot getHealthSnapshot(SessionContext context, boolean forceRefresh) {
+        return ZusammenHealthSnapshot.take(this::checkHealth, this::getReleaseVersion, context, Clock.systemUTC(),
+                Duration.ZERO);
+    }
 }
@@ -21,4 +21,8 @@ public class ZusammenException extends RuntimeException {
     public ZusammenException(String message) {
         super(message);
     }
+
+    public ZusammenException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
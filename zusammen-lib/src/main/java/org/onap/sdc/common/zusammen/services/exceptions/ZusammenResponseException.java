@@ -0,0 +1,30 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.services.exceptions;
+
+/**
+ * A failure zusammen answered a call with, such as a missing item or a version conflict, as opposed to a failure to
+ * reach zusammen.
+ */
+public class ZusammenResponseException extends ZusammenException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ZusammenResponseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.services.impl;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementConflict;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ItemVersionConflict;
+import com.amdocs.zusammen.commons.health.data.HealthInfo;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import com.amdocs.zusammen.datatypes.item.Item;
+import com.amdocs.zusammen.datatypes.item.ItemVersion;
+import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
+import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.onap.sdc.common.zusammen.services.AsyncZusammenAdaptor;
+import org.onap.sdc.common.zusammen.services.ZusammenAdaptor;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AsyncZusammenAdaptorImpl implements AsyncZusammenAdaptor {
+
+    private final ZusammenAdaptor adaptor;
+    private final ZusammenAsyncExecutor executor;
+
+    public AsyncZusammenAdaptorImpl(ZusammenAdaptor adaptor, ZusammenAsyncExecutor executor) {
+        this.adaptor = adaptor;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Collection<Item>> listItems(SessionContext context) {
+        return executor.supply(() -> adaptor.listItems(context));
+    }
+
+    @Override
+    public CompletableFuture<Item> getItem(SessionContext context, Id itemId) {
+        return executor.supply(() -> adaptor.getItem(context, itemId));
+    }
+
+    @Override
+    public CompletableFuture<Collection<ItemVersion>> listPublicVersions(SessionContext context, Id itemId) {
+        return executor.supply(() -> adaptor.listPublicVersions(context, itemId));
+    }
+
+    @Override
+    public CompletableFuture<ItemVersion> getPublicVersion(SessionContext context, Id itemId, Id versionId) {
+        return executor.supply(() -> adaptor.getPublicVersion(context, itemId, versionId));
+    }
+
+    @Override
+    public CompletableFuture<ItemVersion> getVersion(SessionContext context, Id itemId, Id versionId) {
+        return executor.supply(() -> adaptor.getVersion(context, itemId, versionId));
+    }
+
+    @Override
+    public CompletableFuture<ItemVersionStatus> getVersionStatus(SessionContext context, Id itemId, Id versionId) {
+        return executor.supply(() -> adaptor.getVersionStatus(context, itemId, versionId));
+    }
+
+    @Override
+    public CompletableFuture<ItemVersionConflict> getVersionConflict(SessionContext context, Id itemId, Id versionId) {
+        return executor.supply(() -> adaptor.getVersionConflict(context, itemId, versionId));
+    }
+
+    @Override
+    public CompletableFuture<ItemVersionRevisions> listRevisions(SessionContext context, Id itemId, Id versionId) {
+        return executor.supply(() -> adaptor.listRevisions(context, itemId, versionId));
+    }
+
+    @Override
+    public CompletableFuture<Optional<ElementInfo>> getElementInfo(SessionContext context,
+            ElementContext elementContext, Id elementId) {
+        return executor.supply(() -> adaptor.getElementInfo(context, elementContext, elementId));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Element>> getElement(SessionContext context, ElementContext elementContext,
+            Id elementId) {
+        return executor.supply(() -> adaptor.getElement(context, elementContext, elementId));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Element>> getElementByName(SessionContext context, ElementContext elementContext,
+            Id parentElementId, String elementName) {
+        return executor.supply(() -> adaptor.getElementByName(context, elementContext, parentElementId, elementName));
+    }
+
+    @Override
+    public CompletableFuture<Collection<ElementInfo>> listElements(SessionContext context,
+            ElementContext elementContext, Id parentElementId) {
+        return executor.supply(() -> adaptor.listElements(context, elementContext, parentElementId));
+    }
+
+    @Override
+    public CompletableFuture<Collection<Element>> listElementData(SessionContext context, ElementContext elementContext,
+            Id parentElementId) {
+        return executor.supply(() -> adaptor.listElementData(context, elementContext, parentElementId));
+    }
+
+    @Override
+    public CompletableFuture<Collection<ElementInfo>> listElementsByName(SessionContext context,
+            ElementContext elementContext, Id parentElementId, String elementName) {
+        return executor.supply(() -> adaptor.listElementsByName(context, elementContext, parentElementId, elementName));
+    }
+
+    @Override
+    public CompletableFuture<Optional<ElementInfo>> getElementInfoByName(SessionContext context,
+            ElementContext elementContext, Id parentElementId, String elementName) {
+        return executor.supply(
+                () -> adaptor.getElementInfoByName(context, elementContext, parentElementId, elementName));
+    }
+
+    @Override
+    public CompletableFuture<Optional<ElementConflict>> getElementConflict(SessionContext context,
+            ElementContext elementContext, Id elementId) {
+        return executor.supply(() -> adaptor.getElementConflict(context, elementContext, elementId));
+    }
+
+    @Override
+    public CompletableFuture<Collection<HealthInfo>> checkHealth(SessionContext context) {
+        return executor.supply(() -> adaptor.checkHealth(context));
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.services.impl;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caches the sub elements infos of a parent element, indexed by their names, so that resolving several names under
+ * the same parent costs a single listing. Listings are grouped per item version, and kept per user and revision in
+ * it. The version entries are bounded in number, each holding a bounded number of listings, and are evicted by time
+ * to live, or explicitly when the version content is changed on this node.
+ *
+ * <p>Since the changes made through other nodes are only seen once the listings expire, the cache serves reads only.
+ * Saves resolve their elements from listings of their own, see {@link #indexByName}.
+ *
+ * <p>A listing is kept in the version entry that was in place when its load started. Invalidating the version drops
+ * that entry, so that a listing loaded before a change of the version never outlives the change.
+ */
+class ElementInfoCache {
+
+    private final Cache<VersionKey, VersionListings> cache;
+    private final ConcurrentMap<VersionKey, VersionListings> versions;
+    private final long maxListingsPerVersion;
+
+    ElementInfoCache(long maxVersions, long maxListingsPerVersion, long ttlSeconds) {
+        cache = CacheBuilder.newBuilder().maximumSize(Math.max(maxVersions, 0))
+                        .expireAfterWrite(Math.max(ttlSeconds, 0), TimeUnit.SECONDS).build();
+        versions = cache.asMap();
+        this.maxListingsPerVersion = Math.max(maxListingsPerVersion, 0);
+    }
+
+    Optional<ElementInfo> getByName(SessionContext context, ElementContext elementContext, Id parentElementId,
+            String elementName, Supplier<Collection<ElementInfo>> childrenLoader) {
+        return Optional.ofNullable(
+                getChildren(context, elementContext, parentElementId, childrenLoader).elementsByName.get(elementName));
+    }
+
+    /**
+     * Indexes the listed elements by their names, the first element holding a name winning as in a linear scan.
+     */
+    static Map<String, ElementInfo> indexByName(Collection<ElementInfo> elementInfos) {
+        if (elementInfos == null || elementInfos.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, ElementInfo> byName = new HashMap<>(elementInfos.size() * 2);
+        for (ElementInfo elementInfo : elementInfos) {
+            if (elementInfo.getInfo() != null && elementInfo.getInfo().getName() != null) {
+                byName.putIfAbsent(elementInfo.getInfo().getName(), elementInfo);
+            }
+        }
+        return Collections.unmodifiableMap(byName);
+    }
+
+    void invalidate(ElementContext elementContext) {
+        invalidate(elementContext.getItemId(), elementContext.getVersionId());
+    }
+
+    void invalidate(Id itemId, Id versionId) {
+        versions.remove(new VersionKey(itemId, versionId));
+    }
+
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private ElementChildren getChildren(SessionContext context, ElementContext elementContext, Id parentElementId,
+            Supplier<Collection<ElementInfo>> childrenLoader) {
+        VersionKey versionKey = new VersionKey(elementContext.getItemId(), elementContext.getVersionId());
+        VersionListings listings = versions.get(versionKey);
+        if (listings == null) {
+            listings = versions.computeIfAbsent(versionKey, key -> new VersionListings(maxListingsPerVersion));
+        }
+        ListingKey listingKey = new ListingKey(context, elementContext, parentElementId);
+        ElementChildren children = listings.childrenByParent.get(listingKey);
+        if (children == null) {
+            // loaded outside of any lock, an invalidation meanwhile detaches the listings it is put in
+            children = new ElementChildren(childrenLoader.get());
+            ElementChildren loaded = listings.childrenByParent.putIfAbsent(listingKey, children);
+            return loaded != null ? loaded : children;
+        }
+        return children;
+    }
+
+    private static class VersionListings {
+
+        private final ConcurrentMap<ListingKey, ElementChildren> childrenByParent;
+
+        private VersionListings(long maxListings) {
+            childrenByParent = CacheBuilder.newBuilder().maximumSize(maxListings)
+                                       .<ListingKey, ElementChildren>build().asMap();
+        }
+    }
+
+    private static class ElementChildren {
+
+        private final Map<String, ElementInfo> elementsByName;
+
+        private ElementChildren(Collection<ElementInfo> elementInfos) {
+            elementsByName = indexByName(elementInfos);
+        }
+    }
+
+    private static class VersionKey {
+
+        private final Id itemId;
+        private final Id versionId;
+
+        private VersionKey(Id itemId, Id versionId) {
+            this.itemId = itemId;
+            this.versionId = versionId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            VersionKey key = (VersionKey) o;
+            return Objects.equals(itemId, key.itemId) && Objects.equals(versionId, key.versionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(itemId, versionId);
+        }
+    }
+
+    private static class ListingKey {
+
+        private final String tenant;
+        private final String user;
+        private final Id revisionId;
+        private final Id parentElementId;
+        private final int hash;
+
+        private ListingKey(SessionContext context, ElementContext elementContext, Id parentElementId) {
+            this.tenant = context.getTenant();
+            this.user = context.getUser() == null ? null : context.getUser().getUserName();
+            this.revisionId = elementContext.getRevisionId();
+            this.parentElementId = parentElementId;
+            this.hash = Objects.hash(tenant, user, revisionId, parentElementId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ListingKey key = (ListingKey) o;
+            return hash == key.hash && Objects.equals(tenant, key.tenant) && Objects.equals(user, key.user)
+                           && Objects.equals(revisionId, key.revisionId)
+                           && Objects.equals(parentElementId, key.parentElementId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
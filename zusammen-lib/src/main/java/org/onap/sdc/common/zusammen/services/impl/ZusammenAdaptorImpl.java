@@ -34,22 +34,52 @@ import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
 import com.amdocs.zusammen.datatypes.item.Resolution;
 import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
 import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
+import org.onap.sdc.common.zusammen.persistence.ZusammenHealthSnapshot;
 import org.onap.sdc.common.zusammen.services.ZusammenAdaptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
     private final ZusammenConnector connector;
-
-    public ZusammenAdaptorImpl(ZusammenConnector connector) {
+    private final ElementInfoCache elementInfoCache;
+    // null when the element hierarchy is enriched in the calling thread only
+    private final ExecutorService enrichmentExecutor;
+
+    public ZusammenAdaptorImpl(ZusammenConnector connector,
+            @Value("${zusammen.elements.cache.max-size:1000}") long elementsCacheMaxSize,
+            @Value("${zusammen.elements.cache.max-listings-per-version:100}") long elementsCacheMaxListingsPerVersion,
+            @Value("${zusammen.elements.cache.ttl-seconds:10}") long elementsCacheTtlSeconds,
+            @Value("${zusammen.elements.enrichment.parallelism:4}") int enrichmentParallelism) {
         this.connector = connector;
+        this.elementInfoCache =
+                new ElementInfoCache(elementsCacheMaxSize, elementsCacheMaxListingsPerVersion, elementsCacheTtlSeconds);
+        this.enrichmentExecutor = enrichmentParallelism > 1 ? Executors.newFixedThreadPool(enrichmentParallelism,
+                new ThreadFactoryBuilder().setNameFormat("zusammen-elements-enrichment-%d").setDaemon(true).build()) :
+                                          null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (enrichmentExecutor != null) {
+            enrichmentExecutor.shutdownNow();
+        }
     }
 
     @Override
@@ -65,10 +95,7 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
     @Override
     public Optional<Element> getElementByName(SessionContext context, ElementContext elementContext, Id parentElementId,
             String elementName) {
-        Collection<ElementInfo> elementInfos = connector.listElements(context, elementContext, parentElementId);
-        Predicate<ElementInfo> elementInfoPredicate =
-                elementInfo -> elementInfo.getInfo() != null && elementName.equals(elementInfo.getInfo().getName());
-        return getFirstElementInfo(elementInfos, elementInfoPredicate)
+        return getElementInfoByName(context, elementContext, parentElementId, elementName)
                        .flatMap(elementInfo -> getElement(context, elementContext, elementInfo.getId()));
     }
 
@@ -83,13 +110,8 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
             Id parentElementId) {
         Collection<ElementInfo> elementInfoList = connector.listElements(context, elementContext, parentElementId);
 
-        return elementInfoList == null ? new ArrayList<>() : elementInfoList.stream().map(elementInfo -> connector
-                                                                                                                 .getElement(
-                                                                                                                         context,
-                                                                                                                         elementContext,
-                                                                                                                         elementInfo
-                                                                                                                                 .getId()))
-                                                                     .collect(Collectors.toList());
+        return elementInfoList == null ? new ArrayList<>() : connector.getElements(context, elementContext,
+                elementInfoList.stream().map(ElementInfo::getId).collect(Collectors.toList()));
     }
 
 
@@ -107,9 +129,8 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
     @Override
     public Optional<ElementInfo> getElementInfoByName(SessionContext context, ElementContext elementContext,
             Id parentElementId, String elementName) {
-        Collection<ElementInfo> elementInfos = connector.listElements(context, elementContext, parentElementId);
-        return getFirstElementInfo(elementInfos,
-                elementInfo -> elementInfo.getInfo() != null && elementName.equals(elementInfo.getInfo().getName()));
+        return elementInfoCache.getByName(context, elementContext, parentElementId, elementName,
+                () -> connector.listElements(context, elementContext, parentElementId));
     }
 
     @Override
@@ -121,51 +142,101 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
     @Override
     public Element saveElement(SessionContext context, ElementContext elementContext, ZusammenElement element,
             String message) {
-        enrichElementHierarchyRec(context, elementContext, null, element);
-        return connector.saveElement(context, elementContext, element, message);
+        enrichElementHierarchy(context, elementContext, element);
+        try {
+            return connector.saveElement(context, elementContext, element, message);
+        } finally {
+            elementInfoCache.invalidate(elementContext);
+        }
     }
 
     @Override
     public void resolveElementConflict(SessionContext context, ElementContext elementContext, ZusammenElement element,
             Resolution resolution) {
-        connector.resolveElementConflict(context, elementContext, element, resolution);
+        try {
+            connector.resolveElementConflict(context, elementContext, element, resolution);
+        } finally {
+            elementInfoCache.invalidate(elementContext);
+        }
     }
 
-    private void enrichElementHierarchyRec(SessionContext context, ElementContext elementContext, Id parentElementId,
+    /**
+     * Locates the elements of the hierarchy level by level: the siblings of each parent are resolved from a single
+     * listing of that parent, and the sibling groups of a level are resolved concurrently.
+     */
+    private void enrichElementHierarchy(SessionContext context, ElementContext elementContext,
             ZusammenElement element) {
-        if (element.getAction() == Action.CREATE) {
-            return;
+        Map<Id, List<ZusammenElement>> levelElementsByParent = new LinkedHashMap<>();
+        levelElementsByParent.put(null, Collections.singletonList(element));
+        while (!levelElementsByParent.isEmpty()) {
+            levelElementsByParent = enrichElementHierarchyLevel(context, elementContext, levelElementsByParent);
         }
-        locateElementAndUpdateAction(context, elementContext, parentElementId, element);
-        element.getSubElements().forEach(
-                subElement -> enrichElementHierarchyRec(context, elementContext, element.getElementId(),
-                        (ZusammenElement) subElement));
     }
 
-    // should be applied only for structural elements
-    private void locateElementAndUpdateAction(SessionContext context, ElementContext elementContext, Id parentElementId,
-            ZusammenElement element) {
-        if (element.getElementId() != null) {
-            return;
-        }
-        if (element.getInfo() == null || element.getInfo().getName() == null) {
-            throw new IllegalArgumentException("When saving element to zusammen - its Id or name must be supplied");
+    private Map<Id, List<ZusammenElement>> enrichElementHierarchyLevel(SessionContext context,
+            ElementContext elementContext, Map<Id, List<ZusammenElement>> levelElementsByParent) {
+        Map<Id, List<ZusammenElement>> enrichedElementsByParent = new LinkedHashMap<>();
+        levelElementsByParent.forEach((parentElementId, elements) -> enrichedElementsByParent.put(parentElementId,
+                elements.stream().filter(element -> element.getAction() != Action.CREATE)
+                        .collect(Collectors.toList())));
+
+        if (enrichmentExecutor == null || enrichedElementsByParent.size() == 1) {
+            enrichedElementsByParent.forEach((parentElementId, siblings) ->
+                    locateSiblingsAndUpdateAction(context, elementContext, parentElementId, siblings));
+        } else {
+            locateSiblingsConcurrently(context, elementContext, enrichedElementsByParent);
         }
-        Optional<ElementInfo> elementInfo =
-                getElementInfoByName(context, elementContext, parentElementId, element.getInfo().getName());
-        if (elementInfo.isPresent()) {
-            element.setElementId(elementInfo.get().getId());
-            if (element.getAction() == null) {
-                element.setAction(Action.IGNORE);
+
+        Map<Id, List<ZusammenElement>> nextLevelElementsByParent = new LinkedHashMap<>();
+        enrichedElementsByParent.values().stream().flatMap(Collection::stream).forEach(
+                element -> element.getSubElements().forEach(
+                        subElement -> nextLevelElementsByParent.computeIfAbsent(element.getElementId(),
+                                parentElementId -> new ArrayList<>()).add((ZusammenElement) subElement)));
+        return nextLevelElementsByParent;
+    }
+
+    private void locateSiblingsConcurrently(SessionContext context, ElementContext elementContext,
+            Map<Id, List<ZusammenElement>> siblingsByParent) {
+        CompletableFuture<?>[] siblingsLocations = siblingsByParent.entrySet().stream().map(
+                siblings -> CompletableFuture.runAsync(
+                        () -> locateSiblingsAndUpdateAction(context, elementContext, siblings.getKey(),
+                                siblings.getValue()), enrichmentExecutor)).toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(siblingsLocations).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
-        } else {
-            element.setAction(Action.CREATE);
+            throw e;
         }
     }
 
-    private Optional<ElementInfo> getFirstElementInfo(Collection<ElementInfo> elementInfos,
-            Predicate<ElementInfo> elementInfoPredicate) {
-        return elementInfos.stream().filter(elementInfoPredicate).findFirst();
+    // should be applied only for structural elements
+    private void locateSiblingsAndUpdateAction(SessionContext context, ElementContext elementContext,
+            Id parentElementId, List<ZusammenElement> siblings) {
+        Map<String, ElementInfo> existingSiblingsByName = null;
+        for (ZusammenElement element : siblings) {
+            if (element.getElementId() != null) {
+                continue;
+            }
+            if (element.getInfo() == null || element.getInfo().getName() == null) {
+                throw new IllegalArgumentException("When saving element to zusammen - its Id or name must be supplied");
+            }
+            if (existingSiblingsByName == null) {
+                // listed for this save rather than cached, an element missed here would be created twice
+                existingSiblingsByName =
+                        ElementInfoCache.indexByName(connector.listElements(context, elementContext, parentElementId));
+            }
+            ElementInfo elementInfo = existingSiblingsByName.get(element.getInfo().getName());
+            if (elementInfo != null) {
+                element.setElementId(elementInfo.getId());
+                if (element.getAction() == null) {
+                    element.setAction(Action.IGNORE);
+                }
+            } else {
+                element.setAction(Action.CREATE);
+            }
+        }
     }
 
     @Override
@@ -190,7 +261,11 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
     @Override
     public void deleteItem(SessionContext context, Id itemId) {
-        connector.deleteItem(context, itemId);
+        try {
+            connector.deleteItem(context, itemId);
+        } finally {
+            elementInfoCache.invalidateAll();
+        }
     }
 
     @Override
@@ -250,22 +325,38 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
     @Override
     public void syncVersion(SessionContext context, Id itemId, Id versionId) {
-        connector.syncVersion(context, itemId, versionId);
+        try {
+            connector.syncVersion(context, itemId, versionId);
+        } finally {
+            elementInfoCache.invalidate(itemId, versionId);
+        }
     }
 
     @Override
     public void forceSyncVersion(SessionContext context, Id itemId, Id versionId) {
-        connector.forceSyncVersion(context, itemId, versionId);
+        try {
+            connector.forceSyncVersion(context, itemId, versionId);
+        } finally {
+            elementInfoCache.invalidate(itemId, versionId);
+        }
     }
 
     @Override
     public void cleanVersion(SessionContext context, Id itemId, Id versionId) {
-        connector.cleanVersion(context, itemId, versionId);
+        try {
+            connector.cleanVersion(context, itemId, versionId);
+        } finally {
+            elementInfoCache.invalidate(itemId, versionId);
+        }
     }
 
     @Override
     public void revert(SessionContext context, Id itemId, Id versionId, Id revisionId) {
-        connector.revertVersionRevision(context, itemId, versionId, revisionId);
+        try {
+            connector.revertVersionRevision(context, itemId, versionId, revisionId);
+        } finally {
+            elementInfoCache.invalidate(itemId, versionId);
+        }
     }
 
     @Override
@@ -282,4 +373,9 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
     public String getReleaseVersion(SessionContext context) {
         return connector.getReleaseVersion(context);
     }
+
+    @Override
+    public ZusammenHealthSnapshot getHealthSnapshot(SessionContext context, boolean forceRefresh) {
+        return connector.getHealthSnapshot(context, forceRefresh);
+    }
 }
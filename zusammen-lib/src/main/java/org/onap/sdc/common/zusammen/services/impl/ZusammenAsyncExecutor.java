@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.services.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded executor running the zusammen calls of the asynchronous connector and adaptor. When all the threads are
+ * busy and the queue is full the call runs in the calling thread, which slows the caller down instead of failing it.
+ * The logging MDC of the caller is applied while the call runs, the zusammen session context is expected to be
+ * captured by the call itself since zusammen receives it explicitly.
+ */
+@Component
+public class ZusammenAsyncExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public ZusammenAsyncExecutor(@Value("${zusammen.async.threads:8}") int threads,
+            @Value("${zusammen.async.queue-size:100}") int queueSize) {
+        int poolSize = Math.max(threads, 1);
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueSize, 1)),
+                new ThreadFactoryBuilder().setNameFormat("zusammen-async-%d").setDaemon(true).build(),
+                // unlike CallerRunsPolicy, also runs the call once shut down so that its future always completes
+                (call, rejectingExecutor) -> call.run());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs the given zusammen call asynchronously. A failing call completes the returned future exceptionally with
+     * the exception thrown by the call (typically a {@link ZusammenException}), see {@link #join(CompletableFuture)}.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> call) {
+        Map<String, String> callerMdc = MDC.getCopyOfContextMap();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            setMdc(callerMdc);
+            try {
+                future.complete(call.get());
+            } catch (RuntimeException | Error e) {
+                future.completeExceptionally(e);
+            } finally {
+                setMdc(previousMdc);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Waits for the given future and returns its value, rethrowing the exception of a failed zusammen call as is
+     * rather than wrapped in a {@link CompletionException}.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ZusammenException("Interrupted while waiting for zusammen", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                                  ? throwable.getCause() : throwable;
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new ZusammenException("Zusammen call failed", cause);
+    }
+
+    private static void setMdc(Map<String, String> mdc) {
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
+        }
+    }
+}
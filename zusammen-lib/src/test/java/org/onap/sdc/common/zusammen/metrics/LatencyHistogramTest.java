@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketsBoundTheRelativeError() {
+        for (long value = 1; value > 0 && value < (1L << 41); value = value * 3 + 1) {
+            int index = LatencyHistogram.indexOf(value);
+            long highest = LatencyHistogram.highestValueOf(index);
+            assertTrue(highest >= value, "bucket of " + value + " ends before it");
+            assertTrue(highest - value <= value / 32, "bucket of " + value + " is too wide");
+            assertEquals(index + 1, LatencyHistogram.indexOf(highest + 1));
+        }
+    }
+
+    @Test
+    public void emptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99, TimeUnit.NANOSECONDS));
+        assertEquals(0, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void percentilesOfRecordedLatencies() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(100, histogram.getMax(TimeUnit.MILLISECONDS));
+        assertWithinPrecision(50, histogram.getValueAtPercentile(50, TimeUnit.MILLISECONDS));
+        assertWithinPrecision(99, histogram.getValueAtPercentile(99, TimeUnit.MILLISECONDS));
+        assertEquals(100, histogram.getValueAtPercentile(100, TimeUnit.MILLISECONDS));
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(50500), histogram.getMeanNanos(), 1);
+    }
+
+    @Test
+    public void durationsOverTheTrackableRangeAreCountedInTheLastBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.HOURS.toNanos(2));
+        histogram.record(-1);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(120, histogram.getValueAtPercentile(100, TimeUnit.MINUTES));
+        assertEquals(0, histogram.getValueAtPercentile(50, TimeUnit.NANOSECONDS));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 32 + 1,
+                "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import com.amdocs.zusammen.datatypes.item.Item;
+import com.google.common.collect.ImmutableList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.onap.sdc.common.zusammen.persistence.impl.AsyncZusammenConnectorImpl;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+import org.onap.sdc.common.zusammen.services.impl.ZusammenAsyncExecutor;
+
+public class AsyncZusammenConnectorTest {
+
+    private final ZusammenConnector connectorMock = Mockito.mock(ZusammenConnector.class);
+    private final SessionContext sessionContext = new SessionContext();
+    private ZusammenAsyncExecutor executor;
+    private AsyncZusammenConnector asyncConnector;
+
+    @BeforeEach
+    public void init() {
+        executor = new ZusammenAsyncExecutor(2, 10);
+        asyncConnector = new AsyncZusammenConnectorImpl(connectorMock, executor);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testListElements() {
+        ElementContext elementContext = new ElementContext("itemId", "versionId");
+        Id parentId = new Id("parentId");
+        Collection<ElementInfo> elementInfos = ImmutableList.of(new ElementInfo(), new ElementInfo());
+        when(connectorMock.listElements(sessionContext, elementContext, parentId)).thenReturn(elementInfos);
+
+        CompletableFuture<Collection<ElementInfo>> future =
+            asyncConnector.listElements(sessionContext, elementContext, parentId);
+
+        assertEquals(elementInfos, ZusammenAsyncExecutor.join(future));
+    }
+
+    @Test
+    public void testGetItemFailure() {
+        Id itemId = new Id("itemId");
+        when(connectorMock.getItem(sessionContext, itemId)).thenThrow(new ZusammenException("Failed to get item"));
+
+        CompletableFuture<Item> future = asyncConnector.getItem(sessionContext, itemId);
+
+        assertThrows(ZusammenException.class, () -> ZusammenAsyncExecutor.join(future));
+    }
+}
@@ -22,21 +22,26 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.amdocs.zusammen.adaptor.inbound.api.health.HealthAdaptor;
 import com.amdocs.zusammen.adaptor.inbound.api.health.HealthAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ElementAdaptor;
 import com.amdocs.zusammen.adaptor.inbound.api.item.ElementAdaptorFactory;
 import com.amdocs.zusammen.adaptor.inbound.api.item.ItemAdaptor;
 import com.amdocs.zusammen.adaptor.inbound.api.item.ItemAdaptorFactory;
 import com.amdocs.zusammen.adaptor.inbound.api.item.ItemVersionAdaptor;
 import com.amdocs.zusammen.adaptor.inbound.api.item.ItemVersionAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
 import com.amdocs.zusammen.commons.health.data.HealthInfo;
 import com.amdocs.zusammen.commons.health.data.HealthStatus;
 import com.amdocs.zusammen.datatypes.Id;
 import com.amdocs.zusammen.datatypes.SessionContext;
 import com.amdocs.zusammen.datatypes.Space;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
 import com.amdocs.zusammen.datatypes.item.Info;
 import com.amdocs.zusammen.datatypes.item.Item;
 import com.amdocs.zusammen.datatypes.item.ItemVersion;
@@ -50,8 +55,10 @@ import com.amdocs.zusammen.datatypes.response.Module;
 import com.amdocs.zusammen.datatypes.response.Response;
 import com.amdocs.zusammen.datatypes.response.ReturnCode;
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -74,7 +81,7 @@ public class ZusammenConnectorTest {
     public void init() {
         zusammenConnector =
             new ZusammenConnectorImpl(itemAdaptorFactoryMock, versionAdaptorFactoryMock, elementAdaptorFactoryMock,
-                healthAdaptorFactoryMock);
+                healthAdaptorFactoryMock, 1, 20, true);
 
     }
 
@@ -365,6 +372,134 @@ public class ZusammenConnectorTest {
         verify(itemVersionAdaptor).publish(sessionContext, id, id, blaBla);
     }
 
+    @Test
+    public void testGetElementsOneByOne() {
+        ElementAdaptor elementAdaptor = mock(ElementAdaptor.class);
+        when(elementAdaptorFactoryMock.createInterface(sessionContext)).thenReturn(elementAdaptor);
+        ElementContext elementContext = new ElementContext("itemId", "versionId");
+        List<Id> elementIds = mockElements(elementAdaptor, elementContext, 3);
+
+        Collection<Element> elements = zusammenConnector.getElements(sessionContext, elementContext, elementIds);
+
+        assertEquals(elementIds, elements.stream().map(Element::getElementId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testGetElementsDefaultGetsElementsOneByOne() {
+        ZusammenConnector connector = mock(ZusammenConnector.class, Mockito.CALLS_REAL_METHODS);
+        ElementContext elementContext = new ElementContext("itemId", "versionId");
+        List<Id> elementIds = ImmutableList.of(new Id("element1"), new Id("element2"));
+        for (Id elementId : elementIds) {
+            ZusammenElement element = new ZusammenElement();
+            element.setElementId(elementId);
+            Mockito.doReturn(element).when(connector).getElement(sessionContext, elementContext, elementId);
+        }
+
+        Collection<Element> elements = connector.getElements(sessionContext, elementContext, elementIds);
+
+        assertEquals(elementIds, elements.stream().map(Element::getElementId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testGetElementsInParallelChunksKeepsOrder() {
+        ZusammenConnectorImpl parallelConnector =
+            new ZusammenConnectorImpl(itemAdaptorFactoryMock, versionAdaptorFactoryMock, elementAdaptorFactoryMock,
+                healthAdaptorFactoryMock, 4, 3, true);
+        ElementAdaptor elementAdaptor = mock(ElementAdaptor.class);
+        when(elementAdaptorFactoryMock.createInterface(sessionContext)).thenReturn(elementAdaptor);
+        ElementContext elementContext = new ElementContext("itemId", "versionId");
+        List<Id> elementIds = mockElements(elementAdaptor, elementContext, 10);
+
+        try {
+            Collection<Element> elements = parallelConnector.getElements(sessionContext, elementContext, elementIds);
+
+            assertEquals(elementIds, elements.stream().map(Element::getElementId).collect(Collectors.toList()));
+        } finally {
+            parallelConnector.shutdown();
+        }
+    }
+
+    @Test
+    public void testGetElementsInParallelChunksFailure() {
+        ZusammenConnectorImpl parallelConnector =
+            new ZusammenConnectorImpl(itemAdaptorFactoryMock, versionAdaptorFactoryMock, elementAdaptorFactoryMock,
+                healthAdaptorFactoryMock, 4, 3, true);
+        ElementAdaptor elementAdaptor = mock(ElementAdaptor.class);
+        when(elementAdaptorFactoryMock.createInterface(sessionContext)).thenReturn(elementAdaptor);
+        ElementContext elementContext = new ElementContext("itemId", "versionId");
+        List<Id> elementIds = mockElements(elementAdaptor, elementContext, 10);
+        Response<Element> failedResponse = new Response<>(null);
+        setResponseErrorReturnCode(failedResponse);
+        when(elementAdaptor.get(sessionContext, elementContext, elementIds.get(7))).thenReturn(failedResponse);
+
+        try {
+            assertThrows(
+                org.onap.sdc.common.zusammen.services.exceptions.ZusammenException.class,
+                () -> parallelConnector.getElements(sessionContext, elementContext, elementIds)
+            );
+        } finally {
+            parallelConnector.shutdown();
+        }
+    }
+
+    @Test
+    public void testAdaptorResolvedOncePerTenant() {
+        ItemAdaptor itemAdaptor = mock(ItemAdaptor.class);
+        when(itemAdaptorFactoryMock.createInterface(Mockito.any())).thenReturn(itemAdaptor);
+        when(itemAdaptor.list(Mockito.any())).thenReturn(new Response<>(new ArrayList<>()));
+        SessionContext tenantContext = new SessionContext();
+        tenantContext.setTenant("tenant");
+        SessionContext otherTenantContext = new SessionContext();
+        otherTenantContext.setTenant("otherTenant");
+
+        zusammenConnector.listItems(tenantContext);
+        zusammenConnector.listItems(tenantContext);
+        zusammenConnector.listItems(otherTenantContext);
+
+        verify(itemAdaptorFactoryMock, times(1)).createInterface(tenantContext);
+        verify(itemAdaptorFactoryMock, times(1)).createInterface(otherTenantContext);
+        verify(itemAdaptor, times(3)).list(Mockito.any());
+    }
+
+    @Test
+    public void testAdaptorResolvedAgainAfterInvalidation() {
+        ItemAdaptor itemAdaptor = mock(ItemAdaptor.class);
+        when(itemAdaptorFactoryMock.createInterface(sessionContext)).thenReturn(itemAdaptor);
+        when(itemAdaptor.list(sessionContext)).thenReturn(new Response<>(new ArrayList<>()));
+
+        zusammenConnector.listItems(sessionContext);
+        ((ZusammenConnectorImpl) zusammenConnector).invalidateAdaptors();
+        zusammenConnector.listItems(sessionContext);
+
+        verify(itemAdaptorFactoryMock, times(2)).createInterface(sessionContext);
+    }
+
+    @Test
+    public void testAdaptorResolvedPerCallWhenCacheDisabled() {
+        ZusammenConnector uncachedConnector =
+            new ZusammenConnectorImpl(itemAdaptorFactoryMock, versionAdaptorFactoryMock, elementAdaptorFactoryMock,
+                healthAdaptorFactoryMock, 1, 20, false);
+        ItemAdaptor itemAdaptor = mock(ItemAdaptor.class);
+        when(itemAdaptorFactoryMock.createInterface(sessionContext)).thenReturn(itemAdaptor);
+        when(itemAdaptor.list(sessionContext)).thenReturn(new Response<>(new ArrayList<>()));
+
+        uncachedConnector.listItems(sessionContext);
+        uncachedConnector.listItems(sessionContext);
+
+        verify(itemAdaptorFactoryMock, times(2)).createInterface(sessionContext);
+    }
+
+    private List<Id> mockElements(ElementAdaptor elementAdaptor, ElementContext elementContext, int count) {
+        List<Id> elementIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Id elementId = new Id("element" + i);
+            ZusammenElement element = new ZusammenElement();
+            element.setElementId(elementId);
+            when(elementAdaptor.get(sessionContext, elementContext, elementId)).thenReturn(new Response<>(element));
+            elementIds.add(elementId);
+        }
+        return elementIds;
+    }
 
     private void setResponseErrorReturnCode(Response response) {
         response.setReturnCode(new ReturnCode(ErrorCode.CL_ELEMENT_GET, Module.ZSTM, "bla bla", null));
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amdocs.zusammen.commons.health.data.HealthInfo;
+import com.amdocs.zusammen.commons.health.data.HealthStatus;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
+import org.onap.sdc.common.zusammen.persistence.ZusammenHealthSnapshot;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+
+public class HealthCachingZusammenConnectorTest {
+
+    private static final Collection<HealthInfo> HEALTHY =
+            Collections.singletonList(new HealthInfo("zusammen", HealthStatus.UP, ""));
+
+    private final ZusammenConnector delegate = Mockito.mock(ZusammenConnector.class);
+    private final ScheduledExecutorService refresher = Mockito.mock(ScheduledExecutorService.class);
+    private final MutableClock clock = new MutableClock();
+    private final SessionContext sessionContext = new SessionContext();
+    private HealthCachingZusammenConnector connector;
+
+    @BeforeEach
+    public void init() {
+        connector = new HealthCachingZusammenConnector(delegate, 1000, 3000, clock, refresher);
+        when(delegate.checkHealth(sessionContext)).thenReturn(HEALTHY);
+        when(delegate.getReleaseVersion(sessionContext)).thenReturn("1.0.2");
+    }
+
+    @Test
+    public void testReadsAreServedFromSnapshot() {
+        assertEquals(HEALTHY, connector.checkHealth(sessionContext));
+        assertEquals("1.0.2", connector.getReleaseVersion(sessionContext));
+        assertEquals(HEALTHY, connector.checkHealth(sessionContext));
+
+        verify(delegate, times(1)).checkHealth(sessionContext);
+        verify(refresher, times(1)).scheduleWithFixedDelay(any(), eq(1000L), eq(1000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testForceRefresh() {
+        connector.getHealthSnapshot(sessionContext, false);
+
+        ZusammenHealthSnapshot snapshot = connector.getHealthSnapshot(sessionContext, true);
+
+        verify(delegate, times(2)).checkHealth(sessionContext);
+        assertTrue(snapshot.isHealthy());
+    }
+
+    @Test
+    public void testBackgroundRefreshReportsFailureInSnapshot() {
+        connector.getHealthSnapshot(sessionContext, false);
+        when(delegate.checkHealth(sessionContext)).thenThrow(new ZusammenException("Cassandra is down"));
+
+        connector.refreshInBackground();
+
+        ZusammenHealthSnapshot snapshot = connector.getHealthSnapshot(sessionContext, false);
+        assertFalse(snapshot.isHealthy());
+        assertEquals("Cassandra is down", snapshot.getFailure());
+        assertEquals(HealthStatus.DOWN, snapshot.getHealthInfos().iterator().next().getHealthStatus());
+        assertEquals("1.0.2", snapshot.getReleaseVersion());
+    }
+
+    @Test
+    public void testSlowerOlderRefreshDoesNotOverwriteNewerOne() {
+        connector.getHealthSnapshot(sessionContext, false);
+        when(delegate.checkHealth(sessionContext)).thenAnswer(invocation -> {
+            // a forced refresh starts and completes while the background check is still running
+            clock.advance(Duration.ofMillis(100));
+            assertTrue(connector.getHealthSnapshot(sessionContext, true).isHealthy());
+            throw new ZusammenException("Cassandra is down");
+        }).thenReturn(HEALTHY);
+
+        connector.refreshInBackground();
+
+        ZusammenHealthSnapshot snapshot = connector.getHealthSnapshot(sessionContext, false);
+        assertTrue(snapshot.isHealthy());
+        assertEquals(Instant.parse("2019-01-01T00:00:00.100Z"), snapshot.getTakenAt());
+    }
+
+    @Test
+    public void testSnapshotGrowsStaleWhenNotRefreshed() {
+        ZusammenHealthSnapshot snapshot = connector.getHealthSnapshot(sessionContext, false);
+        assertFalse(snapshot.isStale(clock));
+        assertNull(snapshot.getFailure());
+
+        clock.advance(Duration.ofMillis(3001));
+
+        assertTrue(connector.getHealthSnapshot(sessionContext, false).isStale(clock));
+        assertEquals(Duration.ofMillis(3001), snapshot.getAge(clock));
+        verify(refresher, times(1)).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2019-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
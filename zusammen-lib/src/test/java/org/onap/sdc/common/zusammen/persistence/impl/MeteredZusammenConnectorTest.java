@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.Item;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.onap.sdc.common.zusammen.metrics.InMemoryZusammenMetricsRegistry;
+import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+
+public class MeteredZusammenConnectorTest {
+
+    private final ZusammenConnector delegate = Mockito.mock(ZusammenConnector.class);
+    private final InMemoryZusammenMetricsRegistry metricsRegistry = new InMemoryZusammenMetricsRegistry();
+    private final MeteredZusammenConnector connector = new MeteredZusammenConnector(delegate, metricsRegistry);
+    private final SessionContext sessionContext = new SessionContext();
+    private final Id itemId = new Id("itemId");
+
+    @Test
+    public void testRecordsSuccessAndLatency() {
+        when(delegate.getItem(sessionContext, itemId)).thenReturn(new Item());
+
+        connector.getItem(sessionContext, itemId);
+        connector.getItem(sessionContext, itemId);
+
+        assertEquals(2, metricsRegistry.getTimers().get("zusammen.connector.get_item.latency").getCount());
+        assertEquals(2L, metricsRegistry.getCounters().get("zusammen.connector.get_item.success").longValue());
+        assertEquals(0L, metricsRegistry.getCounters().get("zusammen.connector.get_item.failure").longValue());
+        assertEquals(0, metricsRegistry.getTimers().get("zusammen.connector.list_items.latency").getCount());
+    }
+
+    @Test
+    public void testRecordsFailure() {
+        when(delegate.getItem(sessionContext, itemId)).thenThrow(new ZusammenException("Failed to get item"));
+
+        assertThrows(ZusammenException.class, () -> connector.getItem(sessionContext, itemId));
+
+        assertEquals(1, metricsRegistry.getTimers().get("zusammen.connector.get_item.latency").getCount());
+        assertEquals(0L, metricsRegistry.getCounters().get("zusammen.connector.get_item.success").longValue());
+        assertEquals(1L, metricsRegistry.getCounters().get("zusammen.connector.get_item.failure").longValue());
+    }
+
+    @Test
+    public void testInFlightGauge() {
+        AtomicLong inFlightDuringCall = new AtomicLong(-1);
+        when(delegate.getItem(sessionContext, itemId)).thenAnswer(invocation -> {
+            inFlightDuringCall.set(metricsRegistry.getGauges().get("zusammen.connector.get_item.in-flight"));
+            return new Item();
+        });
+
+        connector.getItem(sessionContext, itemId);
+
+        assertEquals(1, inFlightDuringCall.get());
+        assertEquals(0L, metricsRegistry.getGauges().get("zusammen.connector.get_item.in-flight").longValue());
+    }
+
+    @Test
+    public void testResilienceGauges() {
+        ZusammenCircuitBreaker circuitBreaker = new ZusammenCircuitBreaker(2, 1, 50, 1000, 100, 1000);
+        ZusammenBulkhead bulkhead = new ZusammenBulkhead(3, 3, 3, 3, 0);
+        circuitBreaker.bindTo(metricsRegistry);
+        bulkhead.bindTo(metricsRegistry);
+
+        circuitBreaker.onFailure(0);
+
+        assertEquals(1L, metricsRegistry.getGauges().get("zusammen.circuit-breaker.state").longValue());
+        assertEquals(1L, metricsRegistry.getGauges().get("zusammen.circuit-breaker.transitions.open").longValue());
+        assertEquals(3L, metricsRegistry.getGauges().get("zusammen.bulkhead.item.available-permits").longValue());
+    }
+}
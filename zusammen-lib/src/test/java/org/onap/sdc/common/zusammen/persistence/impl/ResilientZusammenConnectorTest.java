@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amdocs.zusammen.commons.health.data.HealthInfo;
+import com.amdocs.zusammen.commons.health.data.HealthStatus;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.Item;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
+import org.onap.sdc.common.zusammen.persistence.impl.ZusammenCircuitBreaker.State;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenResponseException;
+
+public class ResilientZusammenConnectorTest {
+
+    private final ZusammenConnector delegate = Mockito.mock(ZusammenConnector.class);
+    private final SessionContext sessionContext = new SessionContext();
+    private final Id itemId = new Id("itemId");
+    private final AtomicLong clock = new AtomicLong();
+    private ZusammenBulkhead bulkhead;
+    private ZusammenCircuitBreaker circuitBreaker;
+    private ResilientZusammenConnector connector;
+
+    @BeforeEach
+    public void init() {
+        bulkhead = new ZusammenBulkhead(1, 1, 1, 1, 0);
+        circuitBreaker = new ZusammenCircuitBreaker(4, 2, 50, 1000, 100, 1000, clock::get);
+        connector = new ResilientZusammenConnector(delegate, bulkhead, circuitBreaker);
+    }
+
+    @Test
+    public void testCallsGoThroughWhenHealthy() {
+        Item item = new Item();
+        when(delegate.getItem(sessionContext, itemId)).thenReturn(item);
+
+        assertEquals(item, connector.getItem(sessionContext, itemId));
+        assertEquals(1, bulkhead.getAvailablePermits(ZusammenOperationType.ITEM));
+    }
+
+    @Test
+    public void testFailsFastOnceOpenAndProbesHealthToClose() {
+        when(delegate.getItem(sessionContext, itemId)).thenThrow(new ZusammenException("Failed to get item"));
+        assertThrows(ZusammenException.class, () -> connector.getItem(sessionContext, itemId));
+        assertThrows(ZusammenException.class, () -> connector.getItem(sessionContext, itemId));
+        assertEquals(State.OPEN, circuitBreaker.getState());
+
+        assertThrows(ZusammenException.class, () -> connector.getItem(sessionContext, itemId));
+        verify(delegate, times(2)).getItem(sessionContext, itemId);
+        verify(delegate, never()).checkHealth(sessionContext);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        Mockito.reset(delegate);
+        when(delegate.checkHealth(sessionContext)).thenReturn(
+                Collections.singletonList(new HealthInfo("zusammen", HealthStatus.UP, "")));
+        when(delegate.getItem(sessionContext, itemId)).thenReturn(new Item());
+
+        connector.getItem(sessionContext, itemId);
+
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+        verify(delegate).checkHealth(sessionContext);
+    }
+
+    @Test
+    public void testFailuresAnsweredByZusammenKeepCircuitBreakerClosed() {
+        when(delegate.getItem(sessionContext, itemId)).thenThrow(new ZusammenResponseException("Item does not exist"));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ZusammenResponseException.class, () -> connector.getItem(sessionContext, itemId));
+        }
+
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testBatchedCallsAreNotHeldToSlowCallThreshold() {
+        when(delegate.getElements(sessionContext, null, Collections.emptyList())).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            return Collections.emptyList();
+        });
+        circuitBreaker = new ZusammenCircuitBreaker(4, 2, 50, 1, 50, 1000, clock::get);
+        connector = new ResilientZusammenConnector(delegate, bulkhead, circuitBreaker);
+
+        connector.getElements(sessionContext, null, Collections.emptyList());
+        connector.getElements(sessionContext, null, Collections.emptyList());
+
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testHealthCheckBypassesOpenCircuitBreaker() {
+        when(delegate.getItem(sessionContext, itemId)).thenThrow(new ZusammenException("Failed to get item"));
+        assertThrows(ZusammenException.class, () -> connector.getItem(sessionContext, itemId));
+        assertThrows(ZusammenException.class, () -> connector.getItem(sessionContext, itemId));
+        when(delegate.checkHealth(sessionContext)).thenReturn(
+                Collections.singletonList(new HealthInfo("zusammen", HealthStatus.DOWN, "")));
+
+        assertEquals(1, connector.checkHealth(sessionContext).size());
+        assertEquals(State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testBulkheadRejectsCallsOverLimit() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getItem(sessionContext, itemId)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return new Item();
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Item> blocked = executor.submit(() -> connector.getItem(sessionContext, itemId));
+            started.await(10, TimeUnit.SECONDS);
+
+            assertThrows(ZusammenException.class, () -> connector.getItem(sessionContext, itemId));
+            connector.listElements(sessionContext, null, null);
+
+            release.countDown();
+            blocked.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+        assertEquals(1, bulkhead.getRejectedCalls(ZusammenOperationType.ITEM));
+        assertEquals(0, bulkhead.getRejectedCalls(ZusammenOperationType.ELEMENT));
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+    }
+}
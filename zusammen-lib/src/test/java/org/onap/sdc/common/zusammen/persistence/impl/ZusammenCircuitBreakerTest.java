@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.common.zusammen.persistence.impl.ZusammenCircuitBreaker.State;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+
+public class ZusammenCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> stateChanges = new ArrayList<>();
+    private ZusammenCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    public void init() {
+        circuitBreaker = new ZusammenCircuitBreaker(10, 4, 50, 100, 80, 1000, clock::get);
+        circuitBreaker.addListener((from, to) -> stateChanges.add(from + "->" + to));
+    }
+
+    @Test
+    public void staysClosedUnderFailureRateThreshold() {
+        recordOutcomes(false, true, true, true, false, true);
+
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+        circuitBreaker.acquirePermission(() -> fail("no probe expected when closed"));
+    }
+
+    @Test
+    public void staysClosedBeforeMinimumCalls() {
+        recordOutcomes(false, false, false);
+
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void opensOnFailureRateAndFailsFast() {
+        recordOutcomes(true, false, true, false);
+
+        assertEquals(State.OPEN, circuitBreaker.getState());
+        assertThrows(ZusammenException.class, () -> circuitBreaker.acquirePermission(() -> true));
+        assertEquals(1, circuitBreaker.getRejectedCalls());
+    }
+
+    @Test
+    public void opensOnSlowCallRate() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onSuccess(SLOW);
+        }
+
+        assertEquals(State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    public void closesWhenHealthProbeSucceedsAfterOpenDuration() {
+        recordOutcomes(false, false, false, false);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        circuitBreaker.acquirePermission(() -> true);
+
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+        assertEquals(1, circuitBreaker.getTransitions(State.HALF_OPEN));
+        assertEquals(1, circuitBreaker.getTransitions(State.CLOSED));
+        assertEquals(3, stateChanges.size());
+        assertEquals("HALF_OPEN->CLOSED", stateChanges.get(2));
+    }
+
+    @Test
+    public void reopensWhenHealthProbeFails() {
+        recordOutcomes(false, false, false, false);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        assertThrows(ZusammenException.class, () -> circuitBreaker.acquirePermission(() -> {
+            throw new ZusammenException("health check failed");
+        }));
+
+        assertEquals(State.OPEN, circuitBreaker.getState());
+        assertEquals(2, circuitBreaker.getTransitions(State.OPEN));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThrows(ZusammenException.class,
+                () -> circuitBreaker.acquirePermission(() -> fail("no probe expected before open duration")));
+    }
+
+    private void recordOutcomes(boolean... successes) {
+        for (boolean success : successes) {
+            if (success) {
+                circuitBreaker.onSuccess(FAST);
+            } else {
+                circuitBreaker.onFailure(FAST);
+            }
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.persistence.local;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementConflict;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
+import com.amdocs.zusammen.commons.health.data.HealthInfo;
+import com.amdocs.zusammen.commons.health.data.HealthStatus;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.UserInfo;
+import com.amdocs.zusammen.datatypes.item.Action;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import com.amdocs.zusammen.datatypes.item.Info;
+import com.amdocs.zusammen.datatypes.item.ItemVersionData;
+import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
+import com.amdocs.zusammen.datatypes.item.Resolution;
+import com.amdocs.zusammen.datatypes.item.SynchronizationStatus;
+import com.amdocs.zusammen.datatypes.itemversion.Revision;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
+import org.onap.sdc.common.zusammen.persistence.impl.ZusammenConnectorImpl;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+
+public class LocalZusammenAdaptorsTest {
+
+    private final SessionContext firstUser = createContext("first");
+    private final SessionContext secondUser = createContext("second");
+    private final ZusammenConnector connector = createConnector(new LocalZusammenStore(0, 0));
+
+    @Test
+    public void testItemLifecycle() {
+        Id itemId = connector.createItem(firstUser, createInfo("item"));
+        assertEquals("item", connector.getItem(firstUser, itemId).getInfo().getName());
+        assertThrows(ZusammenException.class, () -> connector.createItem(firstUser, itemId, createInfo("item")));
+
+        connector.updateItem(firstUser, itemId, createInfo("renamed"));
+        assertEquals("renamed", connector.getItem(secondUser, itemId).getInfo().getName());
+        assertEquals(1, connector.listItems(firstUser).size());
+
+        connector.deleteItem(firstUser, itemId);
+        assertTrue(connector.listItems(firstUser).isEmpty());
+        assertThrows(ZusammenException.class, () -> connector.getItem(firstUser, itemId));
+    }
+
+    @Test
+    public void testItemPropertiesAreKeptAsJson() {
+        Info info = createInfo("item");
+        info.addProperty("counters", Collections.singletonMap(Action.CREATE, 1));
+        info.addProperty("actions", EnumSet.of(Action.UPDATE));
+        Id itemId = connector.createItem(firstUser, info);
+
+        Info storedInfo = connector.getItem(firstUser, itemId).getInfo();
+
+        assertEquals(Collections.singletonMap("CREATE", 1), storedInfo.getProperty("counters"));
+        assertEquals(Collections.singletonList("UPDATE"), storedInfo.getProperty("actions"));
+    }
+
+    @Test
+    public void testItemsAreKeptPerTenant() {
+        connector.createItem(firstUser, createInfo("item"));
+        SessionContext otherTenant = createContext("first");
+        otherTenant.setTenant("other");
+
+        assertTrue(connector.listItems(otherTenant).isEmpty());
+    }
+
+    @Test
+    public void testElementTree() throws IOException {
+        Id itemId = connector.createItem(firstUser, createInfo("item"));
+        Id versionId = connector.createVersion(firstUser, itemId, null, createVersionData("1.0"));
+        ElementContext elementContext = new ElementContext(itemId, versionId);
+
+        ZusammenElement root = createElement(Action.CREATE, "root", "root data");
+        ZusammenElement child = createElement(Action.CREATE, "child", "child data");
+        root.addSubElement(child);
+        connector.saveElement(firstUser, elementContext, root, "create");
+
+        assertNotNull(root.getElementId());
+        assertEquals("root", names(connector.listElements(firstUser, elementContext, null)));
+        assertEquals("child", names(connector.listElements(firstUser, elementContext, root.getElementId())));
+        Element storedRoot = connector.getElement(firstUser, elementContext, root.getElementId());
+        assertEquals("root data", read(storedRoot));
+        assertEquals(child.getElementId(), storedRoot.getSubElements().iterator().next().getElementId());
+
+        connector.saveElement(firstUser, elementContext, createElement(Action.DELETE, root.getElementId()), "delete");
+        assertTrue(connector.listElements(firstUser, elementContext, null).isEmpty());
+        assertNull(connector.getElement(firstUser, elementContext, child.getElementId()));
+    }
+
+    @Test
+    public void testPublishAndSync() throws IOException {
+        Id itemId = connector.createItem(firstUser, createInfo("item"));
+        Id versionId = connector.createVersion(firstUser, itemId, null, createVersionData("1.0"));
+        ElementContext elementContext = new ElementContext(itemId, versionId);
+        ZusammenElement element = createElement(Action.CREATE, "element", "published");
+        connector.saveElement(firstUser, elementContext, element, "create");
+        assertStatus(SynchronizationStatus.UP_TO_DATE, true, firstUser, itemId, versionId);
+
+        connector.publishVersion(firstUser, itemId, versionId, "publish");
+        assertStatus(SynchronizationStatus.UP_TO_DATE, false, firstUser, itemId, versionId);
+        assertStatus(SynchronizationStatus.OUT_OF_SYNC, false, secondUser, itemId, versionId);
+        assertEquals("1.0", connector.getPublicVersion(secondUser, itemId, versionId).getData().getInfo().getName());
+
+        connector.syncVersion(secondUser, itemId, versionId);
+        assertStatus(SynchronizationStatus.UP_TO_DATE, false, secondUser, itemId, versionId);
+        assertEquals("published", read(connector.getElement(secondUser, elementContext, element.getElementId())));
+    }
+
+    @Test
+    public void testPublishOutOfSyncIsRejected() {
+        Id itemId = connector.createItem(firstUser, createInfo("item"));
+        Id versionId = connector.createVersion(firstUser, itemId, null, createVersionData("1.0"));
+        connector.publishVersion(firstUser, itemId, versionId, "first");
+        connector.syncVersion(secondUser, itemId, versionId);
+
+        connector.updateVersion(firstUser, itemId, versionId, createVersionData("1.1"));
+        connector.publishVersion(firstUser, itemId, versionId, "second");
+        connector.updateVersion(secondUser, itemId, versionId, createVersionData("1.2"));
+
+        assertThrows(ZusammenException.class, () -> connector.publishVersion(secondUser, itemId, versionId, "third"));
+        assertThrows(ZusammenException.class, () -> connector.publishVersion(firstUser, itemId, versionId, "none"));
+    }
+
+    @Test
+    public void testSyncMergesChangesOfDifferentElements() throws IOException {
+        Id itemId = connector.createItem(firstUser, createInfo("item"));
+        Id versionId = connector.createVersion(firstUser, itemId, null, createVersionData("1.0"));
+        ElementContext elementContext = new ElementContext(itemId, versionId);
+        ZusammenElement first = createElement(Action.CREATE, "first", "first");
+        ZusammenElement second = createElement(Action.CREATE, "second", "second");
+        connector.saveElement(firstUser, elementContext, first, "create");
+        connector.saveElement(firstUser, elementContext, second, "create");
+        connector.publishVersion(firstUser, itemId, versionId, "create");
+        connector.syncVersion(secondUser, itemId, versionId);
+
+        connector.saveElement(firstUser, elementContext, createElement(first.getElementId(), "first changed"), "");
+        connector.publishVersion(firstUser, itemId, versionId, "change first");
+        connector.saveElement(secondUser, elementContext, createElement(second.getElementId(), "second changed"), "");
+        connector.syncVersion(secondUser, itemId, versionId);
+
+        assertStatus(SynchronizationStatus.UP_TO_DATE, true, secondUser, itemId, versionId);
+        assertEquals("first changed", read(connector.getElement(secondUser, elementContext, first.getElementId())));
+        assertEquals("second changed", read(connector.getElement(secondUser, elementContext, second.getElementId())));
+        connector.publishVersion(secondUser, itemId, versionId, "change second");
+    }
+
+    @Test
+    public void testSyncConflictResolvedByTheirs() throws IOException {
+        Id itemId = connector.createItem(firstUser, createInfo("item"));
+        Id versionId = connector.createVersion(firstUser, itemId, null, createVersionData("1.0"));
+        ElementContext elementContext = new ElementContext(itemId, versionId);
+        ZusammenElement element = createElement(Action.CREATE, "element", "original");
+        connector.saveElement(firstUser, elementContext, element, "create");
+        connector.publishVersion(firstUser, itemId, versionId, "create");
+        connector.syncVersion(secondUser, itemId, versionId);
+
+        connector.saveElement(firstUser, elementContext, createElement(element.getElementId(), "theirs"), "");
+        connector.publishVersion(firstUser, itemId, versionId, "theirs");
+        connector.saveElement(secondUser, elementContext, createElement(element.getElementId(), "mine"), "");
+        connector.syncVersion(secondUser, itemId, versionId);
+
+        assertStatus(SynchronizationStatus.MERGING, true, secondUser, itemId, versionId);
+        assertEquals(1, connector.getVersionConflict(secondUser, itemId, versionId).getElementConflictInfos().size());
+        ElementConflict conflict = connector.getElementConflict(secondUser, elementContext, element.getElementId());
+        assertEquals("mine", read(conflict.getLocalElement()));
+        assertEquals("theirs", read(conflict.getRemoteElement()));
+        assertThrows(ZusammenException.class, () -> connector.publishVersion(secondUser, itemId, versionId, ""));
+
+        connector.resolveElementConflict(secondUser, elementContext, element, Resolution.THEIRS);
+        assertStatus(SynchronizationStatus.UP_TO_DATE, true, secondUser, itemId, versionId);
+        assertEquals("theirs", read(connector.getElement(secondUser, elementContext, element.getElementId())));
+        assertNull(connector.getElementConflict(secondUser, elementContext, element.getElementId()));
+    }
+
+    @Test
+    public void testForceSyncDiscardsPrivateChanges() throws IOException {
+        Id itemId = connector.createItem(firstUser, createInfo("item"));
+        Id versionId = connector.createVersion(firstUser, itemId, null, createVersionData("1.0"));
+        ElementContext elementContext = new ElementContext(itemId, versionId);
+        ZusammenElement element = createElement(Action.CREATE, "element", "published");
+        connector.saveElement(firstUser, elementContext, element, "create");
+        connector.publishVersion(firstUser, itemId, versionId, "create");
+
+        connector.saveElement(firstUser, elementContext, createElement(element.getElementId(), "private"), "");
+        connector.forceSyncVersion(firstUser, itemId, versionId);
+
+        assertStatus(SynchronizationStatus.UP_TO_DATE, false, firstUser, itemId, versionId);
+        assertEquals("published", read(connector.getElement(firstUser, elementContext, element.getElementId())));
+    }
+
+    @Test
+    public void testRevisions() throws IOException {
+        Id itemId = connector.createItem(firstUser, createInfo("item"));
+        Id versionId = connector.createVersion(firstUser, itemId, null, createVersionData("1.0"));
+        ElementContext elementContext = new ElementContext(itemId, versionId);
+        ZusammenElement element = createElement(Action.CREATE, "element", "first");
+        connector.saveElement(firstUser, elementContext, element, "create");
+        connector.publishVersion(firstUser, itemId, versionId, "first");
+        connector.saveElement(firstUser, elementContext, createElement(element.getElementId(), "second"), "");
+        connector.publishVersion(firstUser, itemId, versionId, "second");
+
+        List<Revision> revisions =
+                connector.listVersionRevisions(firstUser, itemId, versionId).getItemVersionRevisions();
+        assertEquals("second", revisions.get(0).getMessage());
+        assertEquals("first", revisions.get(1).getMessage());
+        assertEquals("first", revisions.get(1).getUser());
+        ElementContext firstRevision = new ElementContext(itemId, versionId, revisions.get(1).getRevisionId());
+        assertEquals("first", read(connector.getElement(secondUser, firstRevision, element.getElementId())));
+
+        connector.revertVersionRevision(firstUser, itemId, versionId, revisions.get(1).getRevisionId());
+        assertStatus(SynchronizationStatus.UP_TO_DATE, true, firstUser, itemId, versionId);
+        assertEquals("first", read(connector.getElement(firstUser, elementContext, element.getElementId())));
+    }
+
+    @Test
+    public void testCleanVersion() {
+        Id itemId = connector.createItem(firstUser, createInfo("item"));
+        Id versionId = connector.createVersion(firstUser, itemId, null, createVersionData("1.0"));
+
+        connector.cleanVersion(firstUser, itemId, versionId);
+
+        assertThrows(ZusammenException.class, () -> connector.getVersion(firstUser, itemId, versionId));
+    }
+
+    @Test
+    public void testInjectedLatency() {
+        ZusammenConnector slowConnector = createConnector(new LocalZusammenStore(20_000, 0));
+
+        long start = System.nanoTime();
+        slowConnector.listItems(firstUser);
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    public void testHealth() {
+        Collection<HealthInfo> healthInfos = connector.checkHealth(firstUser);
+
+        assertEquals(HealthStatus.UP, healthInfos.iterator().next().getHealthStatus());
+        assertEquals(LocalHealthAdaptor.VERSION, connector.getReleaseVersion(firstUser));
+    }
+
+    private void assertStatus(SynchronizationStatus synchronizationStatus, boolean dirty, SessionContext context,
+            Id itemId, Id versionId) {
+        ItemVersionStatus status = connector.getVersionStatus(context, itemId, versionId);
+        assertEquals(synchronizationStatus, status.getSynchronizationStatus());
+        if (dirty) {
+            assertTrue(status.isDirty());
+        } else {
+            assertFalse(status.isDirty());
+        }
+    }
+
+    private static ZusammenConnector createConnector(LocalZusammenStore store) {
+        return new ZusammenConnectorImpl(LocalZusammenAdaptorsConfig.itemAdaptorFactoryOf(store),
+                LocalZusammenAdaptorsConfig.itemVersionAdaptorFactoryOf(store),
+                LocalZusammenAdaptorsConfig.elementAdaptorFactoryOf(store),
+                LocalZusammenAdaptorsConfig.healthAdaptorFactoryOf(), 1, 20, true);
+    }
+
+    private static SessionContext createContext(String user) {
+        SessionContext context = new SessionContext();
+        context.setTenant("tenant");
+        context.setUser(new UserInfo(user));
+        return context;
+    }
+
+    private static Info createInfo(String name) {
+        Info info = new Info();
+        info.setName(name);
+        return info;
+    }
+
+    private static ItemVersionData createVersionData(String name) {
+        ItemVersionData data = new ItemVersionData();
+        data.setInfo(createInfo(name));
+        return data;
+    }
+
+    private static ZusammenElement createElement(Action action, String name, String data) {
+        ZusammenElement element = new ZusammenElement();
+        element.setAction(action);
+        element.setInfo(createInfo(name));
+        element.setData(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)));
+        return element;
+    }
+
+    private static ZusammenElement createElement(Id elementId, String data) {
+        ZusammenElement element = new ZusammenElement();
+        element.setElementId(elementId);
+        element.setAction(Action.UPDATE);
+        element.setData(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)));
+        return element;
+    }
+
+    private static ZusammenElement createElement(Action action, Id elementId) {
+        ZusammenElement element = new ZusammenElement();
+        element.setElementId(elementId);
+        element.setAction(action);
+        return element;
+    }
+
+    private static String names(Collection<ElementInfo> elementInfos) {
+        return elementInfos.stream().map(elementInfo -> elementInfo.getInfo().getName())
+                       .collect(Collectors.joining(","));
+    }
+
+    private static String read(Element element) throws IOException {
+        return new String(ByteStreams.toByteArray(element.getData()), StandardCharsets.UTF_8);
+    }
+}
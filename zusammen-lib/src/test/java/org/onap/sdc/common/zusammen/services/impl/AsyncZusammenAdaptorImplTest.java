@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.services.impl;
+
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.ItemVersion;
+import com.amdocs.zusammen.datatypes.item.ItemVersionStatus;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.onap.sdc.common.zusammen.services.ZusammenAdaptor;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+public class AsyncZusammenAdaptorImplTest {
+
+    private static final SessionContext CONTEXT = new SessionContext();
+    private static final Id ITEM_ID = new Id("itemId");
+    private static final Id VERSION_ID = new Id("versionId");
+
+    private final ZusammenAdaptor adaptor = Mockito.mock(ZusammenAdaptor.class);
+    private ZusammenAsyncExecutor executor;
+    private AsyncZusammenAdaptorImpl asyncAdaptor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = new ZusammenAsyncExecutor(2, 10);
+        asyncAdaptor = new AsyncZusammenAdaptorImpl(adaptor, executor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void independentReadsCompleteWithAdaptorValues() {
+        ItemVersion version = new ItemVersion();
+        ItemVersionStatus status = new ItemVersionStatus(null, true);
+        when(adaptor.getVersion(CONTEXT, ITEM_ID, VERSION_ID)).thenReturn(version);
+        when(adaptor.getVersionStatus(CONTEXT, ITEM_ID, VERSION_ID)).thenReturn(status);
+
+        CompletableFuture<ItemVersion> versionFuture = asyncAdaptor.getVersion(CONTEXT, ITEM_ID, VERSION_ID);
+        CompletableFuture<ItemVersionStatus> statusFuture =
+                asyncAdaptor.getVersionStatus(CONTEXT, ITEM_ID, VERSION_ID);
+
+        assertSame(version, ZusammenAsyncExecutor.join(versionFuture));
+        assertSame(status, ZusammenAsyncExecutor.join(statusFuture));
+    }
+
+    @Test
+    public void failedReadFailsFutureWithZusammenException() {
+        when(adaptor.getItem(CONTEXT, ITEM_ID)).thenThrow(new ZusammenException("Failed to get item"));
+
+        CompletableFuture<?> itemFuture = asyncAdaptor.getItem(CONTEXT, ITEM_ID);
+
+        assertThrows(ZusammenException.class, () -> ZusammenAsyncExecutor.join(itemFuture));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import com.amdocs.zusammen.datatypes.item.Info;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+public class ElementInfoCacheTest {
+
+    private static final SessionContext CONTEXT = new SessionContext();
+    private static final ElementContext ELEMENT_CONTEXT = new ElementContext("itemId", "versionId");
+    private static final ElementContext OTHER_VERSION_CONTEXT = new ElementContext("itemId", "otherVersionId");
+    private static final Id PARENT_ID = new Id("parentId");
+
+    private final ElementInfoCache elementInfoCache = new ElementInfoCache(100, 100, 60);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void testListingIsLoadedOnce() {
+        assertTrue(elementInfoCache.getByName(CONTEXT, ELEMENT_CONTEXT, PARENT_ID, "name", loader("name"))
+                           .isPresent());
+        assertTrue(elementInfoCache.getByName(CONTEXT, ELEMENT_CONTEXT, PARENT_ID, "name", loader("other"))
+                           .isPresent());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testListingsAreBoundedPerVersion() {
+        ElementInfoCache singleListingCache = new ElementInfoCache(100, 1, 60);
+        Id otherParentId = new Id("otherParentId");
+        singleListingCache.getByName(CONTEXT, ELEMENT_CONTEXT, PARENT_ID, "name", loader("name"));
+        singleListingCache.getByName(CONTEXT, ELEMENT_CONTEXT, otherParentId, "name", loader("name"));
+
+        singleListingCache.getByName(CONTEXT, ELEMENT_CONTEXT, PARENT_ID, "name", loader("name"));
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testInvalidateDropsOnlyTheVersion() {
+        elementInfoCache.getByName(CONTEXT, ELEMENT_CONTEXT, PARENT_ID, "name", loader("name"));
+        elementInfoCache.getByName(CONTEXT, OTHER_VERSION_CONTEXT, PARENT_ID, "name", loader("name"));
+
+        elementInfoCache.invalidate(ELEMENT_CONTEXT);
+
+        assertFalse(elementInfoCache.getByName(CONTEXT, ELEMENT_CONTEXT, PARENT_ID, "name", loader("other"))
+                            .isPresent());
+        assertTrue(elementInfoCache.getByName(CONTEXT, OTHER_VERSION_CONTEXT, PARENT_ID, "name", loader("other"))
+                           .isPresent());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testListingLoadedDuringInvalidationIsNotKept() {
+        Supplier<Collection<ElementInfo>> racingLoader = () -> {
+            Collection<ElementInfo> staleListing = loader("stale").get();
+            elementInfoCache.invalidate(ELEMENT_CONTEXT);
+            return staleListing;
+        };
+
+        assertTrue(elementInfoCache.getByName(CONTEXT, ELEMENT_CONTEXT, PARENT_ID, "stale", racingLoader)
+                           .isPresent());
+        assertFalse(elementInfoCache.getByName(CONTEXT, ELEMENT_CONTEXT, PARENT_ID, "stale", loader("fresh"))
+                            .isPresent());
+        assertEquals(2, loads.get());
+    }
+
+    private Supplier<Collection<ElementInfo>> loader(String elementName) {
+        return () -> {
+            loads.incrementAndGet();
+            Info info = new Info();
+            info.setName(elementName);
+            ElementInfo elementInfo = new ElementInfo();
+            elementInfo.setInfo(info);
+            return Collections.singletonList(elementInfo);
+        };
+    }
+}
@@ -19,24 +19,29 @@ package org.onap.sdc.common.zusammen.services.impl;
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
+import com.amdocs.zusammen.commons.health.data.HealthInfo;
+import com.amdocs.zusammen.commons.health.data.HealthStatus;
 import com.amdocs.zusammen.datatypes.Id;
 import com.amdocs.zusammen.datatypes.SessionContext;
 import com.amdocs.zusammen.datatypes.item.Action;
 import com.amdocs.zusammen.datatypes.item.ElementContext;
 import com.amdocs.zusammen.datatypes.item.Info;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.onap.sdc.common.zusammen.persistence.ZusammenConnector;
+import org.onap.sdc.common.zusammen.persistence.ZusammenHealthSnapshot;
+import org.onap.sdc.common.zusammen.services.ZusammenAdaptor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -46,6 +51,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class ZusammenAdaptorImplTest {
@@ -61,7 +67,6 @@ public class ZusammenAdaptorImplTest {
                     ELEMENT_NAME), createElementInfo("elementId3", "element3"));
 
     private final ZusammenConnector connector = Mockito.mock(ZusammenConnector.class);
-    @InjectMocks
     private ZusammenAdaptorImpl zusammenAdaptor;
     @Captor
     private ArgumentCaptor<Element> savedElementArg;
@@ -69,6 +74,7 @@ public class ZusammenAdaptorImplTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.initMocks(this);
+        zusammenAdaptor = new ZusammenAdaptorImpl(connector, 100, 100, 60, 1);
     }
 
     @Test
@@ -116,15 +122,53 @@ public class ZusammenAdaptorImplTest {
 
     }
 
+    @Test
+    public void listElementsOnceWhenResolvingSeveralNamesOfTheSameParent() {
+        doReturn(ELEMENTS).when(connector).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+
+        assertTrue(zusammenAdaptor.getElementInfoByName(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID, "element1").isPresent());
+        assertTrue(zusammenAdaptor.getElementInfoByName(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID, ELEMENT_NAME).isPresent());
+        assertFalse(zusammenAdaptor.getElementInfoByName(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID, NOT_EXISTING_ELEMENT_NAME)
+            .isPresent());
+
+        verify(connector, times(1)).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+    }
+
+    @Test
+    public void listElementsAgainAfterElementIsSaved() {
+        doReturn(ELEMENTS).when(connector).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+        zusammenAdaptor.getElementInfoByName(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID, ELEMENT_NAME);
+
+        ZusammenElement element = new ZusammenElement();
+        element.setAction(Action.UPDATE);
+        element.setElementId(ELEMENT_ID);
+        testSaveElement("Update element", element);
+
+        zusammenAdaptor.getElementInfoByName(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID, ELEMENT_NAME);
+
+        verify(connector, times(2)).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+    }
+
+    @Test
+    public void listElementsAgainAfterVersionIsCleaned() {
+        ElementContext elementContext = new ElementContext("itemId", "versionId");
+        doReturn(ELEMENTS).when(connector).listElements(CONTEXT, elementContext, ELEMENT_ID);
+        zusammenAdaptor.getElementInfoByName(CONTEXT, elementContext, ELEMENT_ID, ELEMENT_NAME);
+
+        zusammenAdaptor.cleanVersion(CONTEXT, elementContext.getItemId(), elementContext.getVersionId());
+        zusammenAdaptor.getElementInfoByName(CONTEXT, elementContext, ELEMENT_ID, ELEMENT_NAME);
+
+        verify(connector, times(2)).listElements(CONTEXT, elementContext, ELEMENT_ID);
+    }
+
     @Test
     public void listElementsWhenTheirParentIdExist() {
         doReturn(ELEMENTS).when(connector).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
 
         List<ZusammenElement> returnedElements =
             Arrays.asList(new ZusammenElement(), new ZusammenElement(), new ZusammenElement());
-        doReturn(returnedElements.get(0)).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(0).getId());
-        doReturn(returnedElements.get(1)).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(1).getId());
-        doReturn(returnedElements.get(2)).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(2).getId());
+        doReturn(returnedElements).when(connector).getElements(CONTEXT, ELEMENT_CONTEXT,
+            Arrays.asList(ELEMENTS.get(0).getId(), ELEMENTS.get(1).getId(), ELEMENTS.get(2).getId()));
 
         Collection<Element> elements = zusammenAdaptor.listElementData(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
 
@@ -303,6 +347,92 @@ public class ZusammenAdaptorImplTest {
         assertEquals(Action.IGNORE, ignored.getAction());
     }
 
+    @Test
+    public void saveElementLocatedByAFreshListingWhenNamesWereCached() {
+        String message = "save element created by another node";
+        doReturn(ELEMENTS).when(connector).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+        assertFalse(zusammenAdaptor
+            .getElementInfoByName(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID, NOT_EXISTING_ELEMENT_NAME).isPresent());
+        ElementInfo createdElsewhere = createElementInfo("elementId4", NOT_EXISTING_ELEMENT_NAME);
+        doReturn(Collections.singletonList(createdElsewhere)).when(connector)
+            .listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+
+        ZusammenElement element = new ZusammenElement();
+        element.setAction(Action.IGNORE);
+        element.setElementId(ELEMENT_ID);
+        ZusammenElement sub = new ZusammenElement();
+        sub.setInfo(createdElsewhere.getInfo());
+        element.addSubElement(sub);
+        testSaveElement(message, element);
+
+        Element saved = element.getSubElements().iterator().next();
+        assertEquals(createdElsewhere.getId(), saved.getElementId());
+        assertEquals(Action.IGNORE, saved.getAction());
+    }
+
+    @Test
+    public void saveWideElementTreeListingEachParentOnce() {
+        ZusammenAdaptorImpl concurrentAdaptor = new ZusammenAdaptorImpl(connector, 100, 100, 60, 4);
+        String message = "Update element tree";
+        ZusammenElement element = new ZusammenElement();
+        element.setAction(Action.IGNORE);
+        element.setElementId(ELEMENT_ID);
+
+        doReturn(ELEMENTS).when(connector).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+        for (ElementInfo existing : ELEMENTS) {
+            ZusammenElement existingSub = new ZusammenElement();
+            existingSub.setInfo(existing.getInfo());
+            element.addSubElement(existingSub);
+
+            List<ElementInfo> existingSubChildren = Arrays.asList(createElementInfo(existing.getId() + "_child1",
+                "child1"), createElementInfo(existing.getId() + "_child2", "child2"));
+            doReturn(existingSubChildren).when(connector).listElements(CONTEXT, ELEMENT_CONTEXT, existing.getId());
+            for (String childName : Arrays.asList("child1", "child2", NOT_EXISTING_ELEMENT_NAME)) {
+                ZusammenElement child = new ZusammenElement();
+                Info childInfo = new Info();
+                childInfo.setName(childName);
+                child.setInfo(childInfo);
+                existingSub.addSubElement(child);
+            }
+        }
+
+        try {
+            concurrentAdaptor.saveElement(CONTEXT, ELEMENT_CONTEXT, element, message);
+        } finally {
+            concurrentAdaptor.shutdown();
+        }
+
+        verify(connector).saveElement(eq(CONTEXT), eq(ELEMENT_CONTEXT), savedElementArg.capture(), eq(message));
+        verify(connector, times(1)).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+        for (ElementInfo existing : ELEMENTS) {
+            verify(connector, times(1)).listElements(CONTEXT, ELEMENT_CONTEXT, existing.getId());
+        }
+
+        for (Element sub : savedElementArg.getValue().getSubElements()) {
+            assertNotNull(sub.getElementId());
+            assertEquals(Action.IGNORE, sub.getAction());
+            List<Element> children = new ArrayList<>(sub.getSubElements());
+            assertEquals(new Id(sub.getElementId() + "_child1"), children.get(0).getElementId());
+            assertEquals(new Id(sub.getElementId() + "_child2"), children.get(1).getElementId());
+            assertNull(children.get(2).getElementId());
+            assertEquals(Action.CREATE, children.get(2).getAction());
+        }
+    }
+
+    @Test
+    public void testHealthSnapshotDefaultChecksHealth() {
+        ZusammenAdaptor adaptor = Mockito.mock(ZusammenAdaptor.class, Mockito.CALLS_REAL_METHODS);
+        HealthInfo healthInfo = new HealthInfo("zusammen", HealthStatus.UP, "");
+        doReturn(Collections.singletonList(healthInfo)).when(adaptor).checkHealth(CONTEXT);
+        doReturn("1.0").when(adaptor).getReleaseVersion(CONTEXT);
+
+        ZusammenHealthSnapshot snapshot = adaptor.getHealthSnapshot(CONTEXT, false);
+
+        assertTrue(snapshot.isHealthy());
+        assertEquals("1.0", snapshot.getReleaseVersion());
+        verify(adaptor).checkHealth(CONTEXT);
+    }
+
     private void testSaveElement(String message, ZusammenElement element) {
         ZusammenElement returnedElement = new ZusammenElement();
         doReturn(returnedElement).when(connector).saveElement(CONTEXT, ELEMENT_CONTEXT, element, message);
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2019 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.common.zusammen.services.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.common.zusammen.services.exceptions.ZusammenException;
+import org.slf4j.MDC;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ZusammenAsyncExecutorTest {
+
+    private ZusammenAsyncExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = new ZusammenAsyncExecutor(1, 1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+        MDC.clear();
+    }
+
+    @Test
+    public void supplyRunsInExecutorThreadWithCallerMdc() {
+        MDC.put("RequestID", "request");
+        Thread caller = Thread.currentThread();
+
+        String requestId = ZusammenAsyncExecutor.join(executor.supply(() -> {
+            assertNotEquals(caller, Thread.currentThread());
+            return MDC.get("RequestID");
+        }));
+
+        assertEquals("request", requestId);
+        assertNull(ZusammenAsyncExecutor.join(executor.supply(() -> {
+            MDC.clear();
+            return null;
+        })));
+    }
+
+    @Test
+    public void joinRethrowsZusammenExceptionUnwrapped() {
+        ZusammenException failure = new ZusammenException("Failed to get item");
+
+        ZusammenException thrown = assertThrows(ZusammenException.class,
+                () -> ZusammenAsyncExecutor.join(executor.supply(() -> {
+                    throw failure;
+                })));
+
+        assertSame(failure, thrown);
+    }
+
+    @Test
+    public void supplyRunsInCallerThreadWhenSaturated() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> running = executor.supply(() -> await(release));
+        CompletableFuture<Object> queued = executor.supply(() -> null);
+        Thread caller = Thread.currentThread();
+
+        CompletableFuture<Thread> rejected = executor.supply(Thread::currentThread);
+
+        assertTrue(rejected.isDone());
+        assertEquals(caller, ZusammenAsyncExecutor.join(rejected));
+        release.countDown();
+        ZusammenAsyncExecutor.join(running);
+        ZusammenAsyncExecutor.join(queued);
+    }
+
+    @Test
+    public void supplyCompletesAfterShutdown() {
+        executor.shutdown();
+
+        assertEquals("value", ZusammenAsyncExecutor.join(executor.supply(() -> "value")));
+    }
+
+    private static Object await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}